@@ -0,0 +1,86 @@
+package org.srplib.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.srplib.binding.ValueModelBinder;
+import org.srplib.conversion.Converters;
+import org.srplib.model.BeanPropertyValueAdapter;
+
+/**
+ * {@link ValueModelBinder} bind/unbind of bean properties with and without conversion.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BindingBenchmark {
+
+    private static final String[] SOURCE = {"name", "age", "phone", "email"};
+
+    private static final String[] TARGET = {"name", "age", "phone", "email"};
+
+    /**
+     * Number of bound properties.
+     */
+    @Param({"1", "4"})
+    private int bindings;
+
+    private ValueModelBinder<Person> binder;
+
+    private Person source;
+
+    private Form form;
+
+    @Setup
+    public void setUp() {
+        source = new Person();
+        form = new Form();
+
+        binder = new ValueModelBinder<>();
+        binder.setConverterRegistry(Converters.newDefaultRegistry());
+        for (int i = 0; i < bindings; i++) {
+            binder.addBinding(BeanPropertyValueAdapter.forClass(Person.class, SOURCE[i]),
+                BeanPropertyValueAdapter.forBean(form, TARGET[i]));
+        }
+    }
+
+    @Benchmark
+    public Form bind() {
+        binder.bind(source);
+        return form;
+    }
+
+    @Benchmark
+    public Person unbind() {
+        return binder.unbind(source);
+    }
+
+    /**
+     * Form model: all properties are strings, so age is converted.
+     */
+    public static class Form {
+
+        private String name;
+
+        private String age;
+
+        private String phone;
+
+        private String email;
+
+    }
+
+}
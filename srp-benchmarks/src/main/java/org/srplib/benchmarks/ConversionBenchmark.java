@@ -0,0 +1,105 @@
+package org.srplib.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.srplib.conversion.ConversionService;
+import org.srplib.conversion.ConverterRegistry;
+import org.srplib.conversion.IntegerToLongConverter;
+import org.srplib.conversion.IntegerToStringConverter;
+import org.srplib.conversion.StringToIntegerConverter;
+import org.srplib.conversion.registry.CopyOnWriteConverterRegistry;
+import org.srplib.conversion.registry.FreezableConverterRegistry;
+import org.srplib.conversion.registry.SupertypeConverterRegistry;
+import org.srplib.conversion.service.ConversionServiceImpl;
+
+/**
+ * {@link ConversionService} benchmarks: single value and list conversion over different registries.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConversionBenchmark {
+
+    @Param({"supertype", "copyOnWrite", "frozen"})
+    private String registryType;
+
+    @Param({"10", "1000"})
+    private int size;
+
+    private ConversionService service;
+
+    private List<String> strings;
+
+    private Integer integer;
+
+    @Setup
+    public void setUp() {
+        ConverterRegistry registry = newRegistry(registryType);
+
+        service = new ConversionServiceImpl((converters, conversionService) -> {
+            converters.add(String.class, Integer.class, new StringToIntegerConverter());
+            converters.add(Integer.class, String.class, new IntegerToStringConverter());
+            converters.add(Integer.class, Long.class, new IntegerToLongConverter());
+        }, registry);
+
+        if (registry instanceof FreezableConverterRegistry) {
+            ((FreezableConverterRegistry) registry).freeze();
+        }
+
+        strings = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            strings.add(String.valueOf(i * 31));
+        }
+        integer = 12345;
+    }
+
+    @Benchmark
+    public Integer convert() {
+        return service.convert(String.class, Integer.class, "12345");
+    }
+
+    @Benchmark
+    public int convertToInt() {
+        return service.convertToInt(String.class, "12345");
+    }
+
+    @Benchmark
+    public Object convertWithInputTypeResolving() {
+        return service.convert(Long.class, integer);
+    }
+
+    @Benchmark
+    public List<Integer> convertList() {
+        return service.convertList(Integer.class, strings);
+    }
+
+    private static ConverterRegistry newRegistry(String type) {
+        switch (type) {
+            case "supertype":
+                return new SupertypeConverterRegistry();
+            case "copyOnWrite":
+                return new CopyOnWriteConverterRegistry();
+            case "frozen":
+                return new FreezableConverterRegistry();
+            default:
+                throw new IllegalArgumentException("Unknown registry type: " + type);
+        }
+    }
+
+}
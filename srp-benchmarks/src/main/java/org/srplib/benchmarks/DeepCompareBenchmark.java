@@ -0,0 +1,52 @@
+package org.srplib.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.srplib.reflection.deepcompare.ConfigurableDeepComparator;
+import org.srplib.reflection.deepcompare.support.StandardConfiguration;
+
+/**
+ * {@link ConfigurableDeepComparator} comparison of equal graphs (worst case: whole graphs are compared).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeepCompareBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private Node tree1;
+
+    private Node tree2;
+
+    private ConfigurableDeepComparator comparator;
+
+    @Setup
+    public void setUp() {
+        tree1 = Node.newTree(size);
+        tree2 = Node.newTree(size);
+        comparator = new ConfigurableDeepComparator(new StandardConfiguration());
+    }
+
+    @Benchmark
+    public List<String> compare() {
+        return comparator.compare(tree1, tree2);
+    }
+
+}
@@ -0,0 +1,49 @@
+package org.srplib.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.srplib.reflection.deephash.ConfigurableDeepHasher;
+import org.srplib.reflection.deephash.Fingerprint;
+
+/**
+ * {@link ConfigurableDeepHasher} fingerprint of a tree. Compare with {@link DeepCompareBenchmark}: fingerprint of one
+ * graph replaces comparison of two.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeepHashBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private Node tree;
+
+    private ConfigurableDeepHasher hasher;
+
+    @Setup
+    public void setUp() {
+        tree = Node.newTree(size);
+        hasher = new ConfigurableDeepHasher();
+    }
+
+    @Benchmark
+    public Fingerprint fingerprint() {
+        return hasher.fingerprint(tree);
+    }
+
+}
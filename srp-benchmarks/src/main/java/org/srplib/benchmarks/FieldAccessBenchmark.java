@@ -0,0 +1,82 @@
+package org.srplib.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.srplib.reflection.ReflectionUtils;
+import org.srplib.support.Path;
+
+/**
+ * Field access by name and by path ({@link ReflectionUtils}).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FieldAccessBenchmark {
+
+    /**
+     * Number of fields accessed per invocation.
+     */
+    @Param({"1", "5"})
+    private int fields;
+
+    private static final String[] NAMES = {"name", "age", "phone", "email", "address"};
+
+    private static final Path[] PATHS = {
+        Path.parse("address.city"), Path.parse("address.street"), Path.parse("address.house"),
+        Path.parse("name"), Path.parse("email")
+    };
+
+    private Person person;
+
+    @Setup
+    public void setUp() {
+        person = new Person();
+    }
+
+    @Benchmark
+    public Object getByName() {
+        Object result = null;
+        for (int i = 0; i < fields; i++) {
+            result = ReflectionUtils.getFieldValue(person, NAMES[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public void setByName() {
+        for (int i = 0; i < fields; i++) {
+            ReflectionUtils.setFieldValue(person, NAMES[i], ReflectionUtils.getFieldValue(person, NAMES[i]));
+        }
+    }
+
+    @Benchmark
+    public Object getByPath() {
+        Object result = null;
+        for (int i = 0; i < fields; i++) {
+            result = ReflectionUtils.getFieldValue(person, PATHS[i]);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public void setByPath() {
+        for (int i = 0; i < fields; i++) {
+            ReflectionUtils.setFieldValue(person, PATHS[i], ReflectionUtils.getFieldValue(person, PATHS[i]));
+        }
+    }
+
+}
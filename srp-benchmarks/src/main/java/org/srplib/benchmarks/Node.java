@@ -0,0 +1,56 @@
+package org.srplib.benchmarks;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Object graph node used by benchmarks.
+ *
+ * <p>
+ *     Contains typical field set: string, primitive, wrapper, reference to parent (cycle) and collection. Node is
+ *     serializable to compare copying with serialization round trip.
+ * </p>
+ */
+public class Node implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int CHILDREN = 4;
+
+    private String name;
+
+    private int value;
+
+    private Integer boxed;
+
+    private Node parent;
+
+    private List<Node> children = new ArrayList<>();
+
+    public Node(String name, int value, Node parent) {
+        this.name = name;
+        this.value = value;
+        this.boxed = value;
+        this.parent = parent;
+    }
+
+    /**
+     * Creates balanced tree of specified size.
+     *
+     * @param size int number of nodes
+     * @return Node tree root
+     */
+    public static Node newTree(int size) {
+        List<Node> nodes = new ArrayList<>(size);
+        nodes.add(new Node("node0", 0, null));
+        for (int i = 1; i < size; i++) {
+            Node parent = nodes.get((i - 1) / CHILDREN);
+            Node node = new Node("node" + i, i, parent);
+            parent.children.add(node);
+            nodes.add(node);
+        }
+        return nodes.get(0);
+    }
+
+}
@@ -0,0 +1,55 @@
+package org.srplib.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.srplib.reflection.objectgraph.ObjectGraph;
+import org.srplib.reflection.objectgraph.ParallelObjectGraph;
+
+/**
+ * {@link ObjectGraph} and {@link ParallelObjectGraph} traversal of trees with parent references (cycles).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ObjectGraphBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private Node root;
+
+    @Setup
+    public void setUp() {
+        root = Node.newTree(size);
+    }
+
+    @Benchmark
+    public int traverse() {
+        int[] counter = new int[1];
+        new ObjectGraph(root).accept(object -> counter[0]++);
+        return counter[0];
+    }
+
+    @Benchmark
+    public int traverseParallel() {
+        AtomicInteger counter = new AtomicInteger();
+        new ParallelObjectGraph(root).accept(object -> counter.incrementAndGet());
+        return counter.get();
+    }
+
+}
@@ -0,0 +1,28 @@
+package org.srplib.benchmarks;
+
+/**
+ * Bean with nested bean used by field access and binding benchmarks.
+ */
+public class Person {
+
+    private String name = "John";
+
+    private Integer age = 42;
+
+    private String phone = "+375291234567";
+
+    private String email = "john.smith@example.com";
+
+    private Address address = new Address();
+
+    public static class Address {
+
+        private String city = "Minsk";
+
+        private String street = "Nezavisimosti";
+
+        private Integer house = 4;
+
+    }
+
+}
@@ -0,0 +1,80 @@
+package org.srplib.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.srplib.validation.DefaultValidatable;
+import org.srplib.validation.Validatable;
+import org.srplib.validation.Validator;
+import org.srplib.validation.Validators;
+
+/**
+ * {@link Validators} benchmarks: regexp based (email, phone) and simple (length) validators.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    /**
+     * Length of local part of validated email.
+     */
+    @Param({"8", "256"})
+    private int length;
+
+    private String email;
+
+    private Validator<String> emailValidator;
+
+    private Validator<String> phoneValidator;
+
+    private Validator<String> lengthValidator;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + i % 26));
+        }
+        email = builder.append("@example.com").toString();
+
+        emailValidator = Validators.email();
+        phoneValidator = Validators.phone();
+        lengthValidator = Validators.length(1, 512);
+    }
+
+    @Benchmark
+    public boolean email() {
+        return validate(emailValidator, email);
+    }
+
+    @Benchmark
+    public boolean phone() {
+        return validate(phoneValidator, "0291234567");
+    }
+
+    @Benchmark
+    public boolean length() {
+        return validate(lengthValidator, email);
+    }
+
+    private static boolean validate(Validator<String> validator, String value) {
+        Validatable<String> validatable = new DefaultValidatable<>(value);
+        validator.validate(validatable);
+        return validatable.hasErrors();
+    }
+
+}
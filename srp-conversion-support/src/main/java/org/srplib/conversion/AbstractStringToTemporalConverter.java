@@ -0,0 +1,91 @@
+package org.srplib.conversion;
+
+import java.time.DateTimeException;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalQuery;
+
+import org.srplib.contract.Argument;
+
+/**
+ * Base class for converters from {@link String} to {@code java.time} types.
+ *
+ * <p>
+ *     Converters use immutable formatters (see {@link DateTimeFormatters}), so they are thread safe and don't create
+ *     formatter per conversion. Converters created without pattern parse ISO-8601 values, the most common forms are
+ *     parsed without formatter at all (see {@link IsoDateTimeParser}).
+ * </p>
+ *
+ * <p>Blank strings are converted to {@code null} as {@link StringToDateConverter} does.</p>
+ */
+public abstract class AbstractStringToTemporalConverter<T> implements Converter<String, T> {
+
+    private final DateTimeFormatter formatter;
+
+    private final boolean iso;
+
+    private final TemporalQuery<T> query;
+
+    private final Class<T> type;
+
+    /**
+     * Constructs ISO-8601 converter.
+     *
+     * @param isoFormatter DateTimeFormatter ISO formatter parsing values not supported by fast path
+     * @param query TemporalQuery query creating value from parsed data
+     * @param type Class target type
+     */
+    protected AbstractStringToTemporalConverter(DateTimeFormatter isoFormatter, TemporalQuery<T> query, Class<T> type) {
+        this(isoFormatter, true, query, type);
+    }
+
+    /**
+     * Constructs converter using specified pattern.
+     *
+     * @param pattern String date format. See {@link DateTimeFormatter} for syntax details.
+     * @param query TemporalQuery query creating value from parsed data
+     * @param type Class target type
+     */
+    protected AbstractStringToTemporalConverter(String pattern, TemporalQuery<T> query, Class<T> type) {
+        this(DateTimeFormatters.ofPattern(pattern), false, query, type);
+    }
+
+    private AbstractStringToTemporalConverter(DateTimeFormatter formatter, boolean iso, TemporalQuery<T> query,
+        Class<T> type) {
+        Argument.checkNotNull(query, "query must not be null!");
+        Argument.checkNotNull(type, "type must not be null!");
+
+        this.formatter = formatter;
+        this.iso = iso;
+        this.query = query;
+        this.type = type;
+    }
+
+    @Override
+    public T convert(String input) {
+        if (isBlank(input)) {
+            return null;
+        }
+
+        try {
+            T result = iso ? parseIso(input) : null;
+            return result != null ? result : formatter.parse(input, query);
+        }
+        catch (DateTimeException e) {
+            throw new ConverterException("Can't convert '" + input + "' to " + type.getSimpleName() + ".", e);
+        }
+    }
+
+    /**
+     * Parses ISO-8601 value without formatter.
+     *
+     * @param input String non blank string
+     * @return T parsed value or {@code null} if value form is not supported by fast path.
+     * @throws DateTimeException if value is invalid
+     */
+    protected abstract T parseIso(String input);
+
+    private boolean isBlank(String string) {
+        return string == null || string.trim().isEmpty();
+    }
+
+}
@@ -0,0 +1,28 @@
+package org.srplib.conversion;
+
+/**
+ * Converts {@link CharSequence} value (or its range) to {@link Boolean} value.
+ *
+ * <p>Semantics is the same as {@link Boolean#valueOf(String)}: value is {@code true} if it is equal to "true"
+ * ignoring case.</p>
+ */
+public class CharSequenceToBooleanConverter implements Converter<CharSequence, Boolean> {
+
+    @Override
+    public Boolean convert(CharSequence input) {
+        return convertToBoolean(input, 0, input == null ? 0 : input.length());
+    }
+
+    /**
+     * Converts range of character sequence to boolean.
+     *
+     * @param input a sequence containing value (nullable).
+     * @param offset range start.
+     * @param length range length.
+     * @return boolean value.
+     * @throws IndexOutOfBoundsException if range is out of sequence bounds.
+     */
+    public boolean convertToBoolean(CharSequence input, int offset, int length) {
+        return NumberParser.parseBoolean(input, offset, length);
+    }
+}
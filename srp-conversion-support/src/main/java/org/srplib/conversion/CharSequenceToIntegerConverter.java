@@ -0,0 +1,35 @@
+package org.srplib.conversion;
+
+/**
+ * Converts {@link CharSequence} value (or its range) to {@link Integer} value.
+ *
+ * <p>Parses characters in place (see {@link NumberParser}), so values may be converted directly from reused buffers
+ * like {@link StringBuilder} without creating intermediate strings.</p>
+ */
+public class CharSequenceToIntegerConverter implements ToIntConverter<CharSequence> {
+
+    @Override
+    public int convertToInt(CharSequence input) {
+        return convertToInt(input, 0, input == null ? 0 : input.length());
+    }
+
+    /**
+     * Converts range of character sequence to int.
+     *
+     * @param input a sequence containing value.
+     * @param offset range start.
+     * @param length range length.
+     * @return int value.
+     * @throws org.srplib.conversion.ConverterException if value can't be converted.
+     * @throws IndexOutOfBoundsException if range is out of sequence bounds.
+     */
+    public int convertToInt(CharSequence input, int offset, int length) {
+        try {
+            return NumberParser.parseInt(input, offset, length);
+        }
+        catch (NumberFormatException e) {
+            throw new ConverterException(String.format("Can't convert '%s' to int.",
+                input == null ? null : input.subSequence(offset, offset + length)), e);
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package org.srplib.conversion;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -47,6 +51,17 @@ public class Converters {
         converters.add(Integer.class, Long.class, new IntegerToLongConverter());
         converters.add(Integer.class, long.class, new IntegerToLongConverter());
 
+        converters.add(String.class, LocalDate.class, new StringToLocalDateConverter());
+        converters.add(LocalDate.class, String.class,
+            new TemporalToStringConverter<>(DateTimeFormatter.ISO_LOCAL_DATE));
+
+        converters.add(String.class, Instant.class, new StringToInstantConverter());
+        converters.add(Instant.class, String.class, new TemporalToStringConverter<>(DateTimeFormatter.ISO_INSTANT));
+
+        converters.add(String.class, OffsetDateTime.class, new StringToOffsetDateTimeConverter());
+        converters.add(OffsetDateTime.class, String.class,
+            new TemporalToStringConverter<>(DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+
         return converters;
     }
 
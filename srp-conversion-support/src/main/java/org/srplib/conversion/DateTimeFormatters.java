@@ -0,0 +1,54 @@
+package org.srplib.conversion;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.srplib.contract.Argument;
+
+/**
+ * Cache of {@link DateTimeFormatter} instances.
+ *
+ * <p>Formatters are immutable and thread safe, so each pattern is compiled once and shared by all converters.</p>
+ *
+ * <p>
+ *     Cache is bounded: at most {@link #MAX_SIZE} patterns are kept. Formatters of patterns requested after cache is
+ *     full are created on each call and not cached. Patterns are normally fixed by converters created on
+ *     configuration, so limit is reached only if patterns are built from data.
+ * </p>
+ */
+public final class DateTimeFormatters {
+
+    /**
+     * Maximum number of cached formatters.
+     */
+    public static final int MAX_SIZE = 256;
+
+    private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
+    private DateTimeFormatters() {
+    }
+
+    /**
+     * Returns formatter for specified pattern.
+     *
+     * @param pattern String pattern. See {@link DateTimeFormatter} for syntax details.
+     * @return DateTimeFormatter cached formatter
+     * @throws IllegalArgumentException if pattern is null or invalid
+     */
+    public static DateTimeFormatter ofPattern(String pattern) {
+        Argument.checkNotNull(pattern, "pattern must not be null!");
+
+        DateTimeFormatter formatter = FORMATTERS.get(pattern);
+        if (formatter == null) {
+            formatter = DateTimeFormatter.ofPattern(pattern);
+            // Size check is racy, so cache may exceed limit by number of concurrent callers.
+            if (FORMATTERS.size() < MAX_SIZE) {
+                DateTimeFormatter cached = FORMATTERS.putIfAbsent(pattern, formatter);
+                formatter = cached != null ? cached : formatter;
+            }
+        }
+        return formatter;
+    }
+
+}
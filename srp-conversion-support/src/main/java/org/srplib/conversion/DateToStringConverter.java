@@ -18,6 +18,12 @@ public class DateToStringConverter implements Converter<Date, String> {
 
     private String format;
 
+    /**
+     * {@link SimpleDateFormat} is not thread safe, so each thread gets its own instance instead of creating new one
+     * per conversion.
+     */
+    private final ThreadLocal<SimpleDateFormat> dateFormat = ThreadLocal.withInitial(() -> createDateFormat(format));
+
     /**
      * Constructs converter using specified date format
      *
@@ -38,7 +44,7 @@ public class DateToStringConverter implements Converter<Date, String> {
 
 
     public String convert(Date input) {
-        return input == null ? NULL_DATE_STRING : createDateFormat(format).format(input);
+        return input == null ? NULL_DATE_STRING : dateFormat.get().format(input);
     }
 
     private SimpleDateFormat createDateFormat(String format) {
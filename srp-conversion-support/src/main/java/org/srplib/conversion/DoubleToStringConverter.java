@@ -5,7 +5,7 @@ package org.srplib.conversion;
  *
  * @author Anton Pechinsky
  */
-public class DoubleToStringConverter implements Converter<Double, String> {
+public class DoubleToStringConverter implements DoubleToObjConverter<String> {
 
     /**
      * Converts integer to string.
@@ -18,4 +18,9 @@ public class DoubleToStringConverter implements Converter<Double, String> {
     public String convert(Double input) {
         return String.valueOf(input);
     }
+
+    @Override
+    public String convertDouble(double input) {
+        return String.valueOf(input);
+    }
 }
\ No newline at end of file
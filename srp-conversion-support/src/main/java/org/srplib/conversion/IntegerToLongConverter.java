@@ -3,9 +3,10 @@ package org.srplib.conversion;
 /**
  * @author Anton Pechinsky
  */
-public class IntegerToLongConverter implements Converter<Integer, Long> {
+public class IntegerToLongConverter implements ToLongConverter<Integer> {
 
-    public Long convert(Integer input) {
+    @Override
+    public long convertToLong(Integer input) {
         return input.longValue();
     }
 }
\ No newline at end of file
@@ -5,7 +5,7 @@ package org.srplib.conversion;
  *
  * @author Anton Pechinsky
  */
-public class IntegerToStringConverter implements Converter<Integer, String> {
+public class IntegerToStringConverter implements IntToObjConverter<String> {
 
     /**
      * Converts integer to string.
@@ -18,4 +18,9 @@ public class IntegerToStringConverter implements Converter<Integer, String> {
     public String convert(Integer input) {
         return String.valueOf(input);
     }
+
+    @Override
+    public String convertInt(int input) {
+        return String.valueOf(input);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,151 @@
+package org.srplib.conversion;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Parses the most common ISO-8601 forms without {@link java.time.format.DateTimeFormatter} pattern engine.
+ *
+ * <p>
+ *     Supported forms are {@code yyyy-MM-dd} and {@code yyyy-MM-ddTHH:mm:ss[.fraction](Z|+HH:mm|-HH:mm)}. Methods
+ *     return {@code null} for any other form (lowercase letters, omitted seconds, expanded years and so on), so
+ *     caller should fall back to ISO formatter. Values of supported form are validated the same way as ISO
+ *     formatters do: {@link java.time.DateTimeException} is thrown for invalid fields.
+ * </p>
+ */
+final class IsoDateTimeParser {
+
+    private static final int DATE_LENGTH = "yyyy-MM-dd".length();
+
+    private static final int DATE_TIME_LENGTH = "yyyy-MM-ddTHH:mm:ss".length();
+
+    private static final int MAX_FRACTION_DIGITS = 9;
+
+    private IsoDateTimeParser() {
+    }
+
+    static LocalDate parseLocalDate(CharSequence input) {
+        if (input.length() != DATE_LENGTH || !isDate(input)) {
+            return null;
+        }
+        return toLocalDate(input);
+    }
+
+    static OffsetDateTime parseOffsetDateTime(CharSequence input) {
+        int offsetStart = getOffsetStart(input);
+        if (offsetStart < 0 || getSecond(input) == 60) {
+            return null;
+        }
+
+        ZoneOffset offset = parseOffset(input, offsetStart);
+        if (offset == null) {
+            return null;
+        }
+        return OffsetDateTime.of(toLocalDateTime(input, offsetStart), offset);
+    }
+
+    static Instant parseInstant(CharSequence input) {
+        int offsetStart = getOffsetStart(input);
+        // leap second, end of day (24:00) and non UTC instants are handled by ISO formatter
+        if (offsetStart < 0 || getSecond(input) == 60 || toInt(input, 11, 13) == 24
+            || offsetStart != input.length() - 1 || input.charAt(offsetStart) != 'Z') {
+            return null;
+        }
+        return toLocalDateTime(input, offsetStart).toInstant(ZoneOffset.UTC);
+    }
+
+    /**
+     * Validates date-time part and returns index where offset starts.
+     *
+     * @return index of offset or -1 if input doesn't start with supported date-time form.
+     */
+    private static int getOffsetStart(CharSequence input) {
+        if (input.length() <= DATE_TIME_LENGTH || !isDate(input) || input.charAt(10) != 'T'
+            || !isDigits(input, 11, 13) || input.charAt(13) != ':' || !isDigits(input, 14, 16)
+            || input.charAt(16) != ':' || !isDigits(input, 17, 19)) {
+            return -1;
+        }
+
+        int index = DATE_TIME_LENGTH;
+        if (input.charAt(index) == '.') {
+            int fractionEnd = index + 1;
+            while (fractionEnd < input.length() && isDigit(input.charAt(fractionEnd))) {
+                fractionEnd++;
+            }
+            int digits = fractionEnd - index - 1;
+            if (digits == 0 || digits > MAX_FRACTION_DIGITS) {
+                return -1;
+            }
+            index = fractionEnd;
+        }
+        return index < input.length() ? index : -1;
+    }
+
+    private static ZoneOffset parseOffset(CharSequence input, int start) {
+        int length = input.length() - start;
+        char sign = input.charAt(start);
+        if (sign == 'Z' && length == 1) {
+            return ZoneOffset.UTC;
+        }
+        if ((sign != '+' && sign != '-') || length != 6 || !isDigits(input, start + 1, start + 3)
+            || input.charAt(start + 3) != ':' || !isDigits(input, start + 4, start + 6)) {
+            return null;
+        }
+
+        int hours = toInt(input, start + 1, start + 3);
+        int minutes = toInt(input, start + 4, start + 6);
+        return sign == '+' ? ZoneOffset.ofHoursMinutes(hours, minutes) : ZoneOffset.ofHoursMinutes(-hours, -minutes);
+    }
+
+    private static LocalDateTime toLocalDateTime(CharSequence input, int end) {
+        int nanos = 0;
+        if (end > DATE_TIME_LENGTH) {
+            int digits = end - DATE_TIME_LENGTH - 1;
+            nanos = toInt(input, DATE_TIME_LENGTH + 1, end);
+            for (int i = digits; i < MAX_FRACTION_DIGITS; i++) {
+                nanos *= 10;
+            }
+        }
+        return LocalDateTime.of(toLocalDate(input),
+            LocalTime.of(toInt(input, 11, 13), toInt(input, 14, 16), getSecond(input), nanos));
+    }
+
+    private static LocalDate toLocalDate(CharSequence input) {
+        return LocalDate.of(toInt(input, 0, 4), toInt(input, 5, 7), toInt(input, 8, 10));
+    }
+
+    private static int getSecond(CharSequence input) {
+        return toInt(input, 17, 19);
+    }
+
+    private static boolean isDate(CharSequence input) {
+        return isDigits(input, 0, 4) && input.charAt(4) == '-' && isDigits(input, 5, 7) && input.charAt(7) == '-'
+            && isDigits(input, 8, 10);
+    }
+
+    private static boolean isDigits(CharSequence input, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!isDigit(input.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int toInt(CharSequence input, int start, int end) {
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            result = result * 10 + (input.charAt(i) - '0');
+        }
+        return result;
+    }
+
+}
@@ -5,7 +5,7 @@ package org.srplib.conversion;
  *
  * @author Anton Pechinsky
  */
-public class LongToStringConverter implements Converter<Long, String> {
+public class LongToStringConverter implements LongToObjConverter<String> {
 
     /**
      * Converts integer to string.
@@ -18,4 +18,9 @@ public class LongToStringConverter implements Converter<Long, String> {
     public String convert(Long input) {
         return String.valueOf(input);
     }
+
+    @Override
+    public String convertLong(long input) {
+        return String.valueOf(input);
+    }
 }
\ No newline at end of file
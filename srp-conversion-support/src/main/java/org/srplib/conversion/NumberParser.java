@@ -0,0 +1,271 @@
+package org.srplib.conversion;
+
+/**
+ * Parses numbers and booleans directly from a range of {@link CharSequence} without creating intermediate strings.
+ *
+ * <p>
+ *     Methods are equivalent to {@link Integer#parseInt(String)}, {@link Long#parseLong(String)},
+ *     {@link Float#parseFloat(String)}, {@link Double#parseDouble(String)} and {@link Boolean#parseBoolean(String)}
+ *     applied to the range. Common forms (optional sign followed by ASCII digits, for floating point values
+ *     optionally with a decimal point and a few digits) are parsed in place. Other forms (exponents, whitespace,
+ *     {@code NaN}, non ASCII digits and so on) and malformed input fall back to JDK methods, so results and thrown
+ *     exceptions are exactly the same as JDK ones.
+ * </p>
+ */
+public final class NumberParser {
+
+    /**
+     * Max number of digits of {@code double} value parsed in place. Such numbers are less than 2^53 and exactly
+     * representable as {@code double}.
+     */
+    private static final int MAX_DOUBLE_DIGITS = 15;
+
+    /**
+     * Max number of digits of {@code float} value parsed in place. Such numbers are less than 2^24 and exactly
+     * representable as {@code float}.
+     */
+    private static final int MAX_FLOAT_DIGITS = 7;
+
+    private static final double[] DOUBLE_POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+
+    private static final float[] FLOAT_POWERS_OF_TEN = {
+        1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f
+    };
+
+    private NumberParser() {
+    }
+
+    /**
+     * Parses {@code int} value from specified range of character sequence.
+     *
+     * @param input CharSequence a sequence
+     * @param offset int range start
+     * @param length int range length
+     * @return parsed value
+     * @throws NumberFormatException if range doesn't contain parsable int
+     * @throws IndexOutOfBoundsException if range is out of sequence bounds
+     */
+    public static int parseInt(CharSequence input, int offset, int length) {
+        if (input == null) {
+            return Integer.parseInt(null);
+        }
+        checkRange(input, offset, length);
+
+        int end = offset + length;
+        int i = offset;
+        boolean negative = false;
+        int limit = -Integer.MAX_VALUE;
+
+        if (i < end && isSign(input.charAt(i))) {
+            negative = input.charAt(i) == '-';
+            limit = negative ? Integer.MIN_VALUE : limit;
+            i++;
+        }
+        if (i == end) {
+            return Integer.parseInt(toString(input, offset, end));
+        }
+
+        // Accumulating negatively as JDK does to handle MIN_VALUE without overflow.
+        int multiplyLimit = limit / 10;
+        int result = 0;
+        for (; i < end; i++) {
+            int digit = input.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || result < multiplyLimit || result * 10 < limit + digit) {
+                return Integer.parseInt(toString(input, offset, end));
+            }
+            result = result * 10 - digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Parses {@code long} value from specified range of character sequence.
+     *
+     * @param input CharSequence a sequence
+     * @param offset int range start
+     * @param length int range length
+     * @return parsed value
+     * @throws NumberFormatException if range doesn't contain parsable long
+     * @throws IndexOutOfBoundsException if range is out of sequence bounds
+     */
+    public static long parseLong(CharSequence input, int offset, int length) {
+        if (input == null) {
+            return Long.parseLong(null);
+        }
+        checkRange(input, offset, length);
+
+        int end = offset + length;
+        int i = offset;
+        boolean negative = false;
+        long limit = -Long.MAX_VALUE;
+
+        if (i < end && isSign(input.charAt(i))) {
+            negative = input.charAt(i) == '-';
+            limit = negative ? Long.MIN_VALUE : limit;
+            i++;
+        }
+        if (i == end) {
+            return Long.parseLong(toString(input, offset, end));
+        }
+
+        long multiplyLimit = limit / 10;
+        long result = 0;
+        for (; i < end; i++) {
+            int digit = input.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || result < multiplyLimit || result * 10 < limit + digit) {
+                return Long.parseLong(toString(input, offset, end));
+            }
+            result = result * 10 - digit;
+        }
+        return negative ? result : -result;
+    }
+
+    /**
+     * Parses {@code double} value from specified range of character sequence.
+     *
+     * @param input CharSequence a sequence
+     * @param offset int range start
+     * @param length int range length
+     * @return parsed value
+     * @throws NumberFormatException if range doesn't contain parsable double
+     * @throws NullPointerException if input is {@code null} (as {@link Double#parseDouble(String)} does)
+     * @throws IndexOutOfBoundsException if range is out of sequence bounds
+     */
+    public static double parseDouble(CharSequence input, int offset, int length) {
+        if (input == null) {
+            return Double.parseDouble(null);
+        }
+        checkRange(input, offset, length);
+
+        long decimal = parseDecimal(input, offset, length, MAX_DOUBLE_DIGITS);
+        if (decimal < 0) {
+            return Double.parseDouble(toString(input, offset, offset + length));
+        }
+
+        // Both mantissa and power of ten are exact, so single division gives correctly rounded result.
+        double value = getMantissa(decimal) / DOUBLE_POWERS_OF_TEN[getScale(decimal)];
+        return isNegative(input, offset) ? -value : value;
+    }
+
+    /**
+     * Parses {@code float} value from specified range of character sequence.
+     *
+     * @param input CharSequence a sequence
+     * @param offset int range start
+     * @param length int range length
+     * @return parsed value
+     * @throws NumberFormatException if range doesn't contain parsable float
+     * @throws NullPointerException if input is {@code null} (as {@link Float#parseFloat(String)} does)
+     * @throws IndexOutOfBoundsException if range is out of sequence bounds
+     */
+    public static float parseFloat(CharSequence input, int offset, int length) {
+        if (input == null) {
+            return Float.parseFloat(null);
+        }
+        checkRange(input, offset, length);
+
+        long decimal = parseDecimal(input, offset, length, MAX_FLOAT_DIGITS);
+        if (decimal < 0) {
+            return Float.parseFloat(toString(input, offset, offset + length));
+        }
+
+        float value = (float) getMantissa(decimal) / FLOAT_POWERS_OF_TEN[getScale(decimal)];
+        return isNegative(input, offset) ? -value : value;
+    }
+
+    /**
+     * Parses {@code boolean} value from specified range of character sequence.
+     *
+     * @param input CharSequence a sequence (nullable)
+     * @param offset int range start
+     * @param length int range length
+     * @return {@code true} if range is equal to "true" ignoring case, {@code false} otherwise
+     * @throws IndexOutOfBoundsException if range is out of sequence bounds
+     */
+    public static boolean parseBoolean(CharSequence input, int offset, int length) {
+        if (input == null) {
+            return false;
+        }
+        checkRange(input, offset, length);
+
+        String expected = "true";
+        if (length != expected.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char actual = input.charAt(offset + i);
+            char upper = Character.toUpperCase(actual);
+            if (upper != Character.toUpperCase(expected.charAt(i))
+                && Character.toLowerCase(upper) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses simple decimal {@code [+-]digits[.digits]} ignoring sign.
+     *
+     * @return mantissa and scale (number of fraction digits) packed into long, -1 if range is not simple decimal or
+     * has more than {@code maxDigits} digits.
+     */
+    private static long parseDecimal(CharSequence input, int offset, int length, int maxDigits) {
+        int end = offset + length;
+        int i = offset;
+        if (i < end && isSign(input.charAt(i))) {
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean point = false;
+        for (; i < end; i++) {
+            char c = input.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digits > maxDigits) {
+                    return -1;
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                scale += point ? 1 : 0;
+            }
+            else if (c == '.' && !point) {
+                point = true;
+            }
+            else {
+                return -1;
+            }
+        }
+        return digits == 0 ? -1 : mantissa << 8 | scale;
+    }
+
+    private static long getMantissa(long decimal) {
+        return decimal >>> 8;
+    }
+
+    private static int getScale(long decimal) {
+        return (int) (decimal & 0xFF);
+    }
+
+    private static boolean isSign(char c) {
+        return c == '-' || c == '+';
+    }
+
+    private static boolean isNegative(CharSequence input, int offset) {
+        return input.charAt(offset) == '-';
+    }
+
+    private static void checkRange(CharSequence input, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > input.length() - length) {
+            throw new IndexOutOfBoundsException(String.format(
+                "Range [%d, %d) is out of sequence bounds [0, %d).", offset, offset + length, input.length()));
+        }
+    }
+
+    private static String toString(CharSequence input, int start, int end) {
+        return input.subSequence(start, end).toString();
+    }
+
+}
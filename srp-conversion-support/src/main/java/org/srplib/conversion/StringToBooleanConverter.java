@@ -5,7 +5,9 @@ package org.srplib.conversion;
  */
 public class StringToBooleanConverter implements Converter<String, Boolean> {
 
+    private final CharSequenceToBooleanConverter parser = new CharSequenceToBooleanConverter();
+
     public Boolean convert(String input) {
-        return Boolean.valueOf(input);
+        return parser.convert(input);
     }
 }
\ No newline at end of file
@@ -9,6 +9,9 @@ import org.srplib.contract.Argument;
 /**
  * Converts {@link String} to {@link Date} using specified pattern.
  *
+ * <p>See {@link StringToLocalDateConverter}, {@link StringToInstantConverter} and
+ * {@link StringToOffsetDateTimeConverter} for {@code java.time} analogs.</p>
+ *
  * @author Anton Pechinsky
  */
 public class StringToDateConverter implements Converter<String, Date> {
@@ -17,6 +20,12 @@ public class StringToDateConverter implements Converter<String, Date> {
 
     private String format;
 
+    /**
+     * {@link SimpleDateFormat} is not thread safe, so each thread gets its own instance instead of creating new one
+     * per conversion.
+     */
+    private final ThreadLocal<SimpleDateFormat> dateFormat = ThreadLocal.withInitial(() -> createDateFormat(format));
+
     /**
      * Constructs converter using specified date format.
      *
@@ -39,7 +48,7 @@ public class StringToDateConverter implements Converter<String, Date> {
         try {
             Date result = null;
             if (!isBlank(input)) {
-                result = createDateFormat(format).parse(input);
+                result = dateFormat.get().parse(input);
             }
             return result;
         }
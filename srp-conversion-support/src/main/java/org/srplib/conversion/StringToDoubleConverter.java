@@ -3,14 +3,12 @@ package org.srplib.conversion;
 /**
  * @author Anton Pechinsky
  */
-public class StringToDoubleConverter implements Converter<String, Double> {
+public class StringToDoubleConverter implements ToDoubleConverter<String> {
 
-    public Double convert(String input) {
-        try {
-            return Double.valueOf(input);
-        }
-        catch (NumberFormatException e) {
-            throw new ConverterException(String.format("Can't convert '%s' to Double.", input), e);
-        }
+    private final CharSequenceToDoubleConverter parser = new CharSequenceToDoubleConverter();
+
+    @Override
+    public double convertToDouble(String input) {
+        return parser.convertToDouble(input);
     }
 }
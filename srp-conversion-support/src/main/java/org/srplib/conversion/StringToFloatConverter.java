@@ -6,6 +6,9 @@ package org.srplib.conversion;
  * @author Q-GMA
  */
 public class StringToFloatConverter implements Converter<String, Float> {
+
+    private final CharSequenceToFloatConverter parser = new CharSequenceToFloatConverter();
+
     /**
      * Converts string to float.
      *
@@ -15,11 +18,6 @@ public class StringToFloatConverter implements Converter<String, Float> {
      */
     @Override
     public Float convert(String input) {
-        try {
-            return Float.valueOf(input);
-        }
-        catch (NumberFormatException e) {
-            throw new ConverterException("Can't convert '" + input + "' to float.", e);
-        }
+        return parser.convert(input);
     }
 }
@@ -0,0 +1,35 @@
+package org.srplib.conversion;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converts {@link String} to {@link Instant}.
+ *
+ * <p>Default converter parses ISO-8601 values ({@link DateTimeFormatter#ISO_INSTANT}). Values like
+ * {@code yyyy-MM-ddTHH:mm:ss[.fraction]Z} are parsed without formatter.</p>
+ */
+public class StringToInstantConverter extends AbstractStringToTemporalConverter<Instant> {
+
+    /**
+     * Constructs ISO-8601 converter.
+     */
+    public StringToInstantConverter() {
+        super(DateTimeFormatter.ISO_INSTANT, Instant::from, Instant.class);
+    }
+
+    /**
+     * Constructs converter using specified pattern.
+     *
+     * @param pattern String date format. See {@link DateTimeFormatter} for syntax details. Pattern must contain
+     * offset or zone.
+     */
+    public StringToInstantConverter(String pattern) {
+        super(pattern, Instant::from, Instant.class);
+    }
+
+    @Override
+    protected Instant parseIso(String input) {
+        return IsoDateTimeParser.parseInstant(input);
+    }
+}
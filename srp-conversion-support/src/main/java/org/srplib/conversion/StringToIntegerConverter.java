@@ -5,22 +5,19 @@ package org.srplib.conversion;
  *
  * @author Anton Pechinsky
  */
-public class StringToIntegerConverter implements Converter<String, Integer> {
+public class StringToIntegerConverter implements ToIntConverter<String> {
+
+    private final CharSequenceToIntegerConverter parser = new CharSequenceToIntegerConverter();
 
     /**
      * Converts string to integer.
      *
      * @param input a value to convert.
-     * @return Integer value.
+     * @return int value.
      * @throws org.srplib.conversion.ConverterException if value can't be converted.
      */
     @Override
-    public Integer convert(String input) {
-        try {
-            return Integer.valueOf(input);
-        }
-        catch (NumberFormatException e) {
-            throw new ConverterException("Can't convert '" + input + "' to int.", e);
-        }
+    public int convertToInt(String input) {
+        return parser.convertToInt(input);
     }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package org.srplib.conversion;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converts {@link String} to {@link LocalDate}.
+ *
+ * <p>Default converter parses ISO-8601 values ({@link DateTimeFormatter#ISO_LOCAL_DATE}). Values like
+ * {@code yyyy-MM-dd} are parsed without formatter.</p>
+ */
+public class StringToLocalDateConverter extends AbstractStringToTemporalConverter<LocalDate> {
+
+    /**
+     * Constructs ISO-8601 converter.
+     */
+    public StringToLocalDateConverter() {
+        super(DateTimeFormatter.ISO_LOCAL_DATE, LocalDate::from, LocalDate.class);
+    }
+
+    /**
+     * Constructs converter using specified pattern.
+     *
+     * @param pattern String date format. See {@link DateTimeFormatter} for syntax details.
+     */
+    public StringToLocalDateConverter(String pattern) {
+        super(pattern, LocalDate::from, LocalDate.class);
+    }
+
+    @Override
+    protected LocalDate parseIso(String input) {
+        return IsoDateTimeParser.parseLocalDate(input);
+    }
+}
@@ -0,0 +1,34 @@
+package org.srplib.conversion;
+
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Converts {@link String} to {@link OffsetDateTime}.
+ *
+ * <p>Default converter parses ISO-8601 values ({@link DateTimeFormatter#ISO_OFFSET_DATE_TIME}). Values like
+ * {@code yyyy-MM-ddTHH:mm:ss[.fraction]+HH:mm} are parsed without formatter.</p>
+ */
+public class StringToOffsetDateTimeConverter extends AbstractStringToTemporalConverter<OffsetDateTime> {
+
+    /**
+     * Constructs ISO-8601 converter.
+     */
+    public StringToOffsetDateTimeConverter() {
+        super(DateTimeFormatter.ISO_OFFSET_DATE_TIME, OffsetDateTime::from, OffsetDateTime.class);
+    }
+
+    /**
+     * Constructs converter using specified pattern.
+     *
+     * @param pattern String date format. See {@link DateTimeFormatter} for syntax details.
+     */
+    public StringToOffsetDateTimeConverter(String pattern) {
+        super(pattern, OffsetDateTime::from, OffsetDateTime.class);
+    }
+
+    @Override
+    protected OffsetDateTime parseIso(String input) {
+        return IsoDateTimeParser.parseOffsetDateTime(input);
+    }
+}
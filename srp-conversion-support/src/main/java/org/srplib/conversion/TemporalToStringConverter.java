@@ -0,0 +1,49 @@
+package org.srplib.conversion;
+
+import java.time.DateTimeException;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+
+import org.srplib.contract.Argument;
+
+/**
+ * Converts {@code java.time} values ({@link java.time.LocalDate}, {@link java.time.Instant} and so on) to
+ * {@link String} using immutable cached formatter.
+ *
+ * <p>{@code null} is converted to empty string as {@link DateToStringConverter} does.</p>
+ */
+public class TemporalToStringConverter<T extends TemporalAccessor> implements Converter<T, String> {
+
+    private static final String NULL_DATE_STRING = "";
+
+    private final DateTimeFormatter formatter;
+
+    /**
+     * Constructs converter using specified formatter.
+     *
+     * @param formatter DateTimeFormatter formatter (e.g. {@link DateTimeFormatter#ISO_LOCAL_DATE})
+     */
+    public TemporalToStringConverter(DateTimeFormatter formatter) {
+        Argument.checkNotNull(formatter, "formatter must not be null!");
+        this.formatter = formatter;
+    }
+
+    /**
+     * Constructs converter using specified pattern.
+     *
+     * @param pattern String date format. See {@link DateTimeFormatter} for syntax details.
+     */
+    public TemporalToStringConverter(String pattern) {
+        this(DateTimeFormatters.ofPattern(pattern));
+    }
+
+    @Override
+    public String convert(T input) {
+        try {
+            return input == null ? NULL_DATE_STRING : formatter.format(input);
+        }
+        catch (DateTimeException e) {
+            throw new ConverterException("Can't convert '" + input + "' to String.", e);
+        }
+    }
+}
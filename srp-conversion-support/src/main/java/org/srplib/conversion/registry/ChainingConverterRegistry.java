@@ -0,0 +1,197 @@
+package org.srplib.conversion.registry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import org.srplib.contract.Argument;
+import org.srplib.conversion.ChainConverter;
+import org.srplib.conversion.Converter;
+import org.srplib.conversion.ConverterException;
+import org.srplib.conversion.ConverterRegistry;
+
+/**
+ * Converter registry decorator building converter chains if no direct converter is registered.
+ *
+ * <p>
+ *     Registry treats registered converters as a graph where types are nodes and converters are edges. If delegate
+ *     registry has no converter for requested types then the shortest converter path from source type to target type
+ *     is searched (breadth first search) and {@link ChainConverter} is built for it. E.g. if {@code String -> Integer}
+ *     and {@code Integer -> Long} converters are registered then {@code String -> Long} conversion is performed by
+ *     chain of these converters.
+ * </p>
+ *
+ * <p>
+ *     Path search is performed once per pair of types. Resulting chain (or absence of chain) is cached. Cache is
+ *     cleared on registration. If several shortest paths exist the first one in registration order wins.
+ * </p>
+ *
+ * <p>Only converters registered via this registry participate in path search, so register converters using this
+ * registry rather than delegate.</p>
+ *
+ * <pre>
+ *     ConversionService service = new ConversionServiceImpl(new MyConfigurer(),
+ *          new ChainingConverterRegistry(new SupertypeConverterRegistry()));
+ * </pre>
+ */
+public class ChainingConverterRegistry implements ConverterRegistry {
+
+    /**
+     * Default maximum number of converters in chain.
+     */
+    public static final int DEFAULT_MAX_CHAIN_LENGTH = 3;
+
+    private static final Object NOT_FOUND = new Object();
+
+    private final ConverterRegistry delegate;
+
+    private final int maxChainLength;
+
+    /**
+     * Registered output types. Path search candidates.
+     */
+    private final Set<Class> outputTypes = new CopyOnWriteArraySet<>();
+
+    /**
+     * Resolution cache: (source class -> (target class -> converter or NOT_FOUND)).
+     * <p>Replaced with new instance on registration.</p>
+     */
+    private volatile Map<Class, Map<Class, Object>> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Modification counter. Increased after registration is complete.
+     */
+    private volatile long version;
+
+    /**
+     * Creates registry.
+     *
+     * @param delegate ConverterRegistry registry used to find direct converters (non-null)
+     * @param maxChainLength int maximum number of converters in chain (>= 1)
+     */
+    public ChainingConverterRegistry(ConverterRegistry delegate, int maxChainLength) {
+        Argument.checkNotNull(delegate, "delegate must not be null!");
+        Argument.checkTrue(maxChainLength >= 1, "maxChainLength must be >= 1. Got: %d", maxChainLength);
+
+        this.delegate = delegate;
+        this.maxChainLength = maxChainLength;
+    }
+
+    /**
+     * Creates registry with {@link #DEFAULT_MAX_CHAIN_LENGTH}.
+     *
+     * @param delegate ConverterRegistry registry used to find direct converters (non-null)
+     */
+    public ChainingConverterRegistry(ConverterRegistry delegate) {
+        this(delegate, DEFAULT_MAX_CHAIN_LENGTH);
+    }
+
+    @Override
+    public <I, O> Converter<I, O> find(Class<I> source, Class<O> target) {
+        Map<Class, Map<Class, Object>> resolutions = cache;
+
+        Map<Class, Object> targets = resolutions.get(source);
+
+        Object resolution = targets != null ? targets.get(target) : null;
+
+        if (resolution == null) {
+            Converter<I, O> converter = resolve(source, target);
+            resolution = converter != null ? converter : NOT_FOUND;
+            resolutions.computeIfAbsent(source, type -> new ConcurrentHashMap<>()).put(target, resolution);
+        }
+
+        return resolution == NOT_FOUND ? null : (Converter<I, O>) resolution;
+    }
+
+    @Override
+    public synchronized <I, O> void add(Class<I> source, Class<O> target, Converter<I, O> converter) {
+        delegate.add(source, target, converter);
+
+        outputTypes.add(target);
+
+        cache = new ConcurrentHashMap<>();
+        version++;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    private <I, O> Converter<I, O> resolve(Class<I> source, Class<O> target) {
+        Converter<I, O> converter = delegate.find(source, target);
+
+        if (converter == null && target != ANY_TYPE) {
+            converter = findChain(source, target);
+        }
+
+        return converter;
+    }
+
+    /**
+     * Searches the shortest converter path from source to target type.
+     *
+     * @return ChainConverter or {@code null} if there is no path not longer than maxChainLength
+     */
+    private <I, O> Converter<I, O> findChain(Class<I> source, Class<O> target) {
+        Map<Class, List<Converter>> paths = new HashMap<>();
+        paths.put(source, Collections.<Converter>emptyList());
+
+        List<Class> level = Collections.<Class>singletonList(source);
+
+        for (int length = 1; length <= maxChainLength && !level.isEmpty(); length++) {
+            List<Class> next = new ArrayList<>();
+
+            for (Class type : level) {
+                List<Converter> path = paths.get(type);
+
+                Converter last = findDirect(type, target);
+                if (last != null) {
+                    return new ChainConverter<>(append(path, last));
+                }
+
+                if (length == maxChainLength) {
+                    continue;
+                }
+
+                for (Class outputType : outputTypes) {
+                    if (paths.containsKey(outputType)) {
+                        continue;
+                    }
+                    Converter converter = findDirect(type, outputType);
+                    if (converter != null) {
+                        paths.put(outputType, append(path, converter));
+                        next.add(outputType);
+                    }
+                }
+            }
+            level = next;
+        }
+        return null;
+    }
+
+    /**
+     * Finds direct converter. Ambiguous converters are not considered as path edges.
+     */
+    private Converter findDirect(Class source, Class target) {
+        try {
+            return delegate.find(source, target);
+        }
+        catch (ConverterException e) {
+            return null;
+        }
+    }
+
+    private static List<Converter> append(List<Converter> path, Converter converter) {
+        List<Converter> result = new ArrayList<>(path.size() + 1);
+        result.addAll(path);
+        result.add(converter);
+        return result;
+    }
+
+}
@@ -0,0 +1,81 @@
+package org.srplib.conversion.registry;
+
+import org.srplib.contract.Argument;
+
+/**
+ * Immutable open addressing hash table keyed by a pair of classes.
+ *
+ * <p>Classes are compared by identity. Table uses linear probing and is at most half full, so lookup is a few array
+ * reads without any allocation.</p>
+ *
+ * <p>Table is filled by {@link #put} during construction only and must not be modified after publication.</p>
+ *
+ * @param <V> value type
+ */
+class ClassPairTable<V> {
+
+    private final Class[] sources;
+
+    private final Class[] targets;
+
+    private final Object[] values;
+
+    private final int mask;
+
+    /**
+     * Creates table able to keep specified number of entries.
+     *
+     * @param expectedSize int maximum number of entries.
+     */
+    ClassPairTable(int expectedSize) {
+        Argument.checkTrue(expectedSize >= 0, "expectedSize must be >= 0. Got: %d", expectedSize);
+
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, 1) * 2 - 1) << 1;
+
+        this.sources = new Class[capacity];
+        this.targets = new Class[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Puts value for specified pair of classes.
+     *
+     * @param source Class first key class (non-null)
+     * @param target Class second key class (non-null)
+     * @param value value (non-null)
+     */
+    void put(Class<?> source, Class<?> target, V value) {
+        int index = index(source, target);
+        while (sources[index] != null && (sources[index] != source || targets[index] != target)) {
+            index = (index + 1) & mask;
+        }
+        sources[index] = source;
+        targets[index] = target;
+        values[index] = value;
+    }
+
+    /**
+     * Returns value for specified pair of classes.
+     *
+     * @param source Class first key class
+     * @param target Class second key class
+     * @return value or {@code null} if table doesn't contain value for specified pair
+     */
+    @SuppressWarnings("unchecked")
+    V get(Class<?> source, Class<?> target) {
+        int index = index(source, target);
+        for (Class<?> current = sources[index]; current != null; current = sources[index]) {
+            if (current == source && targets[index] == target) {
+                return (V) values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    private int index(Class<?> source, Class<?> target) {
+        int hash = System.identityHashCode(source) * 31 + System.identityHashCode(target);
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,46 @@
+package org.srplib.conversion.registry;
+
+import org.srplib.conversion.Converter;
+import org.srplib.conversion.ConverterRegistry;
+
+/**
+ * Thread safe converter registry for many concurrent readers and rare writers.
+ *
+ * <p>Lookup semantics is the same as of {@link SupertypeConverterRegistry}.</p>
+ *
+ * <p>
+ *     Registry keeps immutable snapshot of converters. Registration copies current snapshot, adds converter to the
+ *     copy and publishes the copy. So converters may be registered at runtime (e.g. by plugins) while conversions are
+ *     in progress. Lookups never block and never see partially registered state.
+ * </p>
+ *
+ * <p>Registration is O(n) of registered converters, so prefer {@link SupertypeConverterRegistry} if registry is
+ * populated once and never changed.</p>
+ */
+public class CopyOnWriteConverterRegistry implements ConverterRegistry {
+
+    /**
+     * Current converters snapshot. Never modified after publication.
+     */
+    private volatile SupertypeConverterRegistry snapshot = new SupertypeConverterRegistry();
+
+    @Override
+    public <I, O> Converter<I, O> find(Class<I> source, Class<O> target) {
+        return snapshot.find(source, target);
+    }
+
+    @Override
+    public long getVersion() {
+        return snapshot.getVersion();
+    }
+
+    @Override
+    public synchronized <I, O> void add(Class<I> source, Class<O> target, Converter<I, O> converter) {
+        SupertypeConverterRegistry next = new SupertypeConverterRegistry(snapshot);
+
+        next.add(source, target, converter);
+
+        snapshot = next;
+    }
+
+}
@@ -15,6 +15,8 @@ public class ExactConverterRegistry implements ConverterRegistry {
 
     private Map<CompositeKey, Converter> converters = new HashMap<>();
 
+    private volatile long version;
+
     @Override
     public <I, O> Converter<I, O> find(Class<I> source, Class<O> target) {
         CompositeKey mappingKey = createKey(source, target);
@@ -37,6 +39,12 @@ public class ExactConverterRegistry implements ConverterRegistry {
             "Converter from '%s' to '%s' already registered.", source.getName(), target.getName());
 
         converters.put(mappingKey, converter);
+        version++;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
     }
 
     private CompositeKey createKey(Class<?> source, Class<?> target) {
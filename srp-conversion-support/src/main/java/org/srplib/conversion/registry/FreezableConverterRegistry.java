@@ -0,0 +1,149 @@
+package org.srplib.conversion.registry;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.srplib.contract.Assert;
+import org.srplib.conversion.Converter;
+import org.srplib.conversion.ConverterException;
+import org.srplib.conversion.ConverterRegistry;
+
+/**
+ * Converter registry which may be frozen after configuration.
+ *
+ * <p>Lookup semantics is the same as of {@link SupertypeConverterRegistry}.</p>
+ *
+ * <p>
+ *     Until {@link #freeze()} is called registry behaves as {@link SupertypeConverterRegistry}. Freezing resolves
+ *     converters for all pairs of registered source types and registered target types (including their supertypes and boxing equivalents)
+ *     into flat immutable table keyed by class identity. After that registry rejects registration.
+ * </p>
+ *
+ * <p>Lookup of not pre-resolved pair (e.g. a subclass of registered source type) falls back to cached supertype
+ * lookup.</p>
+ *
+ * <pre>
+ *     FreezableConverterRegistry registry = new FreezableConverterRegistry();
+ *     ConversionService service = new ConversionServiceImpl(new MyConfigurer(), registry);
+ *     registry.freeze();
+ * </pre>
+ */
+public class FreezableConverterRegistry implements ConverterRegistry {
+
+    private final SupertypeConverterRegistry delegate = new SupertypeConverterRegistry();
+
+    private final Set<Class> inputTypes = new LinkedHashSet<>();
+
+    private final Set<Class> outputTypes = new LinkedHashSet<>();
+
+    /**
+     * Pre-resolved converters. Contains either {@link Converter} or ambiguity error message. {@code null} until registry
+     * is frozen.
+     */
+    private volatile ClassPairTable<Object> table;
+
+    @Override
+    public <I, O> Converter<I, O> find(Class<I> source, Class<O> target) {
+        ClassPairTable<Object> resolved = table;
+
+        if (resolved != null) {
+            Object value = resolved.get(source, target);
+            if (value instanceof Converter) {
+                return (Converter<I, O>) value;
+            }
+            if (value != null) {
+                throw new ConverterException((String) value);
+            }
+        }
+
+        return delegate.find(source, target);
+    }
+
+    /**
+     * Returns version of registry. Freezing doesn't change lookup results, so it doesn't change version.
+     *
+     * @return long version
+     */
+    @Override
+    public long getVersion() {
+        return delegate.getVersion();
+    }
+
+    @Override
+    public synchronized <I, O> void add(Class<I> source, Class<O> target, Converter<I, O> converter) {
+        Assert.checkTrue(table == null, "Can't register converter %s -> %s. Registry is frozen.", source, target);
+
+        delegate.add(source, target, converter);
+
+        inputTypes.add(source);
+        outputTypes.add(target);
+    }
+
+    /**
+     * Tests if registry is frozen.
+     *
+     * @return true if {@link #freeze()} was called.
+     */
+    public boolean isFrozen() {
+        return table != null;
+    }
+
+    /**
+     * Pre-resolves converters for all registered types and prohibits further registration.
+     *
+     * <p>Subsequent calls have no effect.</p>
+     *
+     * @return this for easy chaining
+     */
+    public synchronized FreezableConverterRegistry freeze() {
+        if (table != null) {
+            return this;
+        }
+
+        Set<Class> targets = getTargetTypes();
+
+        Map<Class, Map<Class, Object>> resolutions = new HashMap<>();
+        int size = 0;
+        for (Class source : inputTypes) {
+            for (Class target : targets) {
+                Object resolution = resolve(source, target);
+                if (resolution != null) {
+                    resolutions.computeIfAbsent(source, type -> new HashMap<>()).put(target, resolution);
+                    size++;
+                }
+            }
+        }
+
+        ClassPairTable<Object> resolved = new ClassPairTable<>(size);
+        resolutions.forEach((source, map) -> map.forEach((target, value) -> resolved.put(source, target, value)));
+
+        table = resolved;
+
+        return this;
+    }
+
+    private Object resolve(Class source, Class target) {
+        try {
+            return delegate.find(source, target);
+        }
+        catch (ConverterException e) {
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * Returns registered output types with all their supertypes (classes, interfaces and boxing equivalents).
+     */
+    private Set<Class> getTargetTypes() {
+        Set<Class> result = new LinkedHashSet<>();
+        for (Class outputType : outputTypes) {
+            for (Set<Class<?>> level : SupertypeConverterRegistry.getTypeLevels(outputType)) {
+                result.addAll(level);
+            }
+        }
+        return result;
+    }
+
+}
@@ -1,20 +1,34 @@
 package org.srplib.conversion.registry;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.srplib.contract.Argument;
 import org.srplib.contract.Assert;
 import org.srplib.conversion.Converter;
 import org.srplib.conversion.ConverterException;
 import org.srplib.conversion.ConverterRegistry;
+import org.srplib.reflection.Types;
 
 /**
  * A class for organizing operation.
  *
  * <p>Contains method for registering and obtaining type operation</p>
+ *
+ * <p>
+ *     If no converter registered for exact types registry searches converters registered for supertypes of source type
+ *     (superclasses, interfaces, boxing equivalent of primitive or wrapper) and subtypes of target type. Candidates are
+ *     ranked by type distance, so the closest converter wins. E.g. converter registered for {@code CharSequence ->
+ *     Integer} is used for {@code String -> int} conversion.
+ * </p>
  */
 public class SupertypeConverterRegistry implements ConverterRegistry {
 
@@ -37,6 +51,46 @@ public class SupertypeConverterRegistry implements ConverterRegistry {
      */
     private Map<Class, Map<Class, Converter>> converterTree = new HashMap<>();
 
+    /**
+     * Resolution cache.
+     * <p>
+     *     Contains lookup results in the following structure: (source class -> (target class -> resolution)).
+     *     Two level structure allows to probe the cache without allocating composite key. Results are attached to
+     *     source class (see {@link ClassValue}), so cache doesn't prevent unloading of source class loader.
+     * </p>
+     * <p>
+     *     Cache keeps negative ("no converter") and ambiguous results as well. Each registration publishes new empty
+     *     cache instead of clearing current one. Lookup stores its result into the cache it has started with, so a
+     *     result resolved before registration can't get into the cache published by registration.
+     * </p>
+     */
+    private volatile ClassValue<Map<Class, Resolution>> resolutionCache = newResolutionCache();
+
+    /**
+     * Modification counter. Increased after registration is complete.
+     */
+    private volatile long version;
+
+    /**
+     * Creates empty registry.
+     */
+    public SupertypeConverterRegistry() {
+    }
+
+    /**
+     * Creates registry containing the same converters as specified one.
+     *
+     * <p>Resolution cache is not copied. Version is copied, so copy modified by registration has greater version.</p>
+     *
+     * @param source SupertypeConverterRegistry registry to copy converters from (non-null)
+     */
+    public SupertypeConverterRegistry(SupertypeConverterRegistry source) {
+        Argument.checkNotNull(source, "source must not be null!");
+
+        source.converterTree.forEach((inputType, map) -> converterTree.put(inputType, new HashMap<>(map)));
+        version = source.version;
+    }
+
 
     @Override
     public <I, O> void add(Class<I> inputType, Class<O> outputType, Converter<I, O> converter) {
@@ -46,56 +100,242 @@ public class SupertypeConverterRegistry implements ConverterRegistry {
             "Registering several operation for %s -> %s", inputType, outputType);
 
         map.put(outputType, converter);
+
+        resolutionCache = newResolutionCache();
+        version++;
     }
 
     @Override
     public <I, O> Converter<I, O> find(Class<I> source, Class<O> target) {
-        Map<Class<O>, Converter<I, O>> converters = findConverters(source, target);
+        // Read once: resolution must be stored into the cache of the state it was resolved from.
+        Map<Class, Resolution> targets = resolutionCache.get(source);
+
+        Resolution resolution = targets.get(target);
 
-        switch (converters.size()) {
+        if (resolution == null) {
+            resolution = resolve(source, target);
+            targets.put(target, resolution);
+        }
+
+        return resolution.getConverter();
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    private <I, O> Resolution resolve(Class<I> source, Class<O> target) {
+        List<Candidate> candidates = findConverters(source, target);
+
+        switch (candidates.size()) {
             case 0:
-                return null;
+                return Resolution.NONE;
             case 1:
-                return converters.values().iterator().next();
+                return new Resolution(candidates.get(0).converter, null);
             default:
-                throw new ConverterException(
-                    String.format("Too many operation found for %s -> %s", source, target));
+                return new Resolution(null,
+                    String.format("Too many operation found for %s -> %s: %s", source, target, candidates));
         }
     }
 
     /**
+     * Searches best ranked converters for two provided types.
+     *
+     * <p>
+     *     Input type supertypes (superclasses, interfaces and boxing equivalent) are examined level by level starting
+     *     from input type itself (see {@link #getTypeLevels(Class)}). The first level having converters to output type
+     *     wins. Among converters of this level the ones with the closest registered output type are selected.
+     * </p>
+     *
      * @param inputType source type
      * @param outputType target type
      *
-     * @return converters subset as a map of (output type -> converter) for two provided types
+     * @return list of best ranked candidates. Empty list if no converter found. More than one candidate means
+     * ambiguity.
      */
-    private <I, O> Map<Class<O>, Converter<I, O>> findConverters(Class<I> inputType, Class<O> outputType) {
+    private List<Candidate> findConverters(Class<?> inputType, Class<?> outputType) {
+        for (Set<Class<?>> level : getTypeLevels(inputType)) {
+            List<Candidate> result = new ArrayList<>();
+            int bestDistance = Integer.MAX_VALUE;
+
+            for (Class<?> inputSuperType : level) {
+                Map<Class, Converter> map = converterTree.getOrDefault(inputSuperType, Collections.emptyMap());
 
-        for (Class inputSuperType = inputType; inputSuperType != null; inputSuperType = inputSuperType.getSuperclass()) {
-            Map<Class, Converter> map = converterTree.getOrDefault(inputSuperType, Collections.emptyMap());
-            Set<Class> possibleOutputClasses = map.keySet().stream().filter(outputType::isAssignableFrom)
-                .collect(Collectors.toSet());
+                for (Map.Entry<Class, Converter> entry : map.entrySet()) {
+                    int distance = getDistance(entry.getKey(), outputType);
+                    if (distance < 0 || distance > bestDistance) {
+                        continue;
+                    }
+                    if (distance < bestDistance) {
+                        bestDistance = distance;
+                        result.clear();
+                    }
+                    result.add(new Candidate(inputSuperType, entry.getKey(), entry.getValue()));
+                }
+            }
 
-            if (!possibleOutputClasses.isEmpty()) {
-                Map<Class<O>, Converter<I, O>> result = new HashMap<>((Map) map);
-                result.keySet().retainAll(possibleOutputClasses);
+            if (!result.isEmpty()) {
                 return result;
             }
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Calculates distance from registered output type to requested output type.
+     *
+     * @param registered Class registered output type
+     * @param requested Class requested output type
+     * @return 0 if types are the same or requested type is {@link #ANY_TYPE}, number of type levels between types if
+     * requested type is assignable from registered one (with respect to boxing), -1 if types are not assignable.
+     */
+    private int getDistance(Class<?> registered, Class<?> requested) {
+        if (requested == ANY_TYPE) {
+            return 0;
+        }
 
+        List<Set<Class<?>>> levels = getTypeLevels(registered);
+        for (int i = 0; i < levels.size(); i++) {
+            if (levels.get(i).contains(requested)) {
+                return i;
+            }
         }
-        return Collections.emptyMap();
+        return -1;
+    }
+
+    /**
+     * Returns supertypes of specified type grouped by distance.
+     *
+     * <ul>
+     *     <li>level 0 contains type itself</li>
+     *     <li>level 1 contains boxing equivalent if type is primitive or wrapper</li>
+     *     <li>each next level contains direct superclasses and interfaces of previous level types</li>
+     *     <li>last level contains {@link Object}</li>
+     * </ul>
+     *
+     * @param type Class a type
+     * @return list of levels
+     */
+    static List<Set<Class<?>>> getTypeLevels(Class<?> type) {
+        List<Set<Class<?>>> levels = new ArrayList<>();
+        Set<Class<?>> visited = new HashSet<>();
+        visited.add(Object.class);
+
+        Set<Class<?>> level = Collections.singleton(type);
+        visited.add(type);
+        levels.add(level);
+
+        Class<?> boxingEquivalent = getBoxingEquivalent(type);
+        if (boxingEquivalent != null) {
+            level = new LinkedHashSet<>(Arrays.asList(type, boxingEquivalent));
+            visited.add(boxingEquivalent);
+            levels.add(Collections.singleton(boxingEquivalent));
+        }
+
+        while (!level.isEmpty()) {
+            Set<Class<?>> next = new LinkedHashSet<>();
+            for (Class<?> current : level) {
+                addIfNotVisited(current.getSuperclass(), next, visited);
+                for (Class<?> superInterface : current.getInterfaces()) {
+                    addIfNotVisited(superInterface, next, visited);
+                }
+            }
+            if (!next.isEmpty()) {
+                levels.add(next);
+            }
+            level = next;
+        }
+
+        if (type != Object.class) {
+            levels.add(Collections.singleton(Object.class));
+        }
+
+        return levels;
+    }
+
+    private static void addIfNotVisited(Class<?> type, Set<Class<?>> level, Set<Class<?>> visited) {
+        if (type != null && visited.add(type)) {
+            level.add(type);
+        }
+    }
+
+    private static ClassValue<Map<Class, Resolution>> newResolutionCache() {
+        return new ClassValue<Map<Class, Resolution>>() {
+            @Override
+            protected Map<Class, Resolution> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+    }
+
+    private static Class<?> getBoxingEquivalent(Class<?> type) {
+        return type.isPrimitive() ? Types.getWrapper(type) : Types.getPrimitive(type);
     }
 
     private <I, O> Class<O> getOutputType(Class<I> inputType) {
-        Map<Class<O>, Converter<I, O>> converters = findConverters(inputType, ANY_TYPE);
-        switch (converters.size()) {
+        List<Candidate> candidates = findConverters(inputType, ANY_TYPE);
+        switch (candidates.size()) {
             case 0:
                 return null;
             case 1:
-                return converters.keySet().iterator().next();
+                return candidates.get(0).outputType;
             default:
                 throw new IllegalStateException(
-                    String.format("Several opposite types found for %s: %s", inputType, converters.keySet()));
+                    String.format("Several opposite types found for %s: %s", inputType, candidates));
+        }
+    }
+
+    /**
+     * Converter lookup candidate.
+     */
+    private static final class Candidate {
+
+        private final Class inputType;
+
+        private final Class outputType;
+
+        private final Converter converter;
+
+        private Candidate(Class inputType, Class outputType, Converter converter) {
+            this.inputType = inputType;
+            this.outputType = outputType;
+            this.converter = converter;
+        }
+
+        @Override
+        public String toString() {
+            return inputType.getName() + " -> " + outputType.getName();
+        }
+    }
+
+    /**
+     * Cached result of converter lookup for a pair of types.
+     *
+     * <p>Holds either found converter, nothing (no converter registered) or ambiguity error message.</p>
+     */
+    private static final class Resolution {
+
+        private static final Resolution NONE = new Resolution(null, null);
+
+        private final Converter converter;
+
+        private final String error;
+
+        private Resolution(Converter converter, String error) {
+            this.converter = converter;
+            this.error = error;
+        }
+
+        /**
+         * @return converter or {@code null} if no converter found
+         * @throws ConverterException if several converters match
+         */
+        Converter getConverter() {
+            if (error != null) {
+                throw new ConverterException(error);
+            }
+            return converter;
         }
     }
 
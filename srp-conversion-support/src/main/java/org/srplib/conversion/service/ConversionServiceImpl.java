@@ -1,20 +1,45 @@
 package org.srplib.conversion.service;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.srplib.contract.Argument;
 import org.srplib.conversion.ConversionService;
 import org.srplib.conversion.Converter;
 import org.srplib.conversion.ConverterConfigurer;
 import org.srplib.conversion.ConverterException;
 import org.srplib.conversion.ConverterRegistry;
+import org.srplib.conversion.ToDoubleConverter;
+import org.srplib.conversion.ToIntConverter;
+import org.srplib.conversion.ToLongConverter;
 import org.srplib.conversion.registry.SupertypeConverterRegistry;
 
 /**
  * {@link ConversionService} implementation.
+ *
+ * <p>
+ *     Service caches converters found in registry in per input class dispatch tables (see {@link ClassValue}), so
+ *     repeated conversion of the same pair of types is a class value lookup and a map probe without registry access.
+ *     Tables are tagged by registry version (see {@link ConverterRegistry#getVersion()}) and dropped when version
+ *     changes, so converters registered after conversion has started are always visible. Converters of registries
+ *     which don't track their version are not cached. Tables are attached to input classes, so cache doesn't prevent
+ *     unloading of their class loaders.
+ * </p>
+ *
+ * <p>
+ *     Primitive conversions ({@link #convertToInt(Class, Object)} and so on) call primitive specialized converters
+ *     ({@link ToIntConverter} and so on) directly, so no boxing occurs if such converter is registered.
+ * </p>
  */
 public class ConversionServiceImpl implements ConversionService {
 
     private ConverterRegistry registry;
 
+    /**
+     * Dispatch tables of current registry version. Replaced when registry version changes.
+     */
+    private volatile DispatchTable dispatchTable;
+
     public ConversionServiceImpl(ConverterConfigurer configurer, ConverterRegistry registry) {
         Argument.checkNotNull(configurer, "configurer must not be null!");
         Argument.checkNotNull(registry, "registry must not be null!");
@@ -38,6 +63,86 @@ public class ConversionServiceImpl implements ConversionService {
             return (O) input;
         }
 
+        Converter<I, O> converter = getConverter(inputType, outputType);
+
+        return converter.convert(input);
+    }
+
+    @Override
+    public <I> int convertToInt(Class<I> inputType, I input) {
+        checkNotNull(input, int.class);
+
+        if (input instanceof Integer) {
+            return (Integer) input;
+        }
+
+        Converter<I, Integer> converter = getConverter(inputType, int.class);
+
+        if (converter instanceof ToIntConverter) {
+            return ((ToIntConverter<I>) converter).convertToInt(input);
+        }
+
+        return checkNotNull(converter.convert(input), int.class, input);
+    }
+
+    @Override
+    public <I> long convertToLong(Class<I> inputType, I input) {
+        checkNotNull(input, long.class);
+
+        if (input instanceof Long) {
+            return (Long) input;
+        }
+
+        Converter<I, Long> converter = getConverter(inputType, long.class);
+
+        if (converter instanceof ToLongConverter) {
+            return ((ToLongConverter<I>) converter).convertToLong(input);
+        }
+
+        return checkNotNull(converter.convert(input), long.class, input);
+    }
+
+    @Override
+    public <I> double convertToDouble(Class<I> inputType, I input) {
+        checkNotNull(input, double.class);
+
+        if (input instanceof Double) {
+            return (Double) input;
+        }
+
+        Converter<I, Double> converter = getConverter(inputType, double.class);
+
+        if (converter instanceof ToDoubleConverter) {
+            return ((ToDoubleConverter<I>) converter).convertToDouble(input);
+        }
+
+        return checkNotNull(converter.convert(input), double.class, input);
+    }
+
+    private <I, O> Converter<I, O> getConverter(Class<I> inputType, Class<O> outputType) {
+        // Version is read before lookup: converter found later may only be newer than version of its table.
+        long version = registry.getVersion();
+        if (version == ConverterRegistry.NOT_VERSIONED) {
+            return findConverter(inputType, outputType);
+        }
+
+        DispatchTable table = dispatchTable;
+        if (table == null || table.version != version) {
+            table = new DispatchTable(version);
+            dispatchTable = table;
+        }
+
+        Map<Class, Converter> converters = table.converters.get(inputType);
+        Converter<I, O> converter = converters.get(outputType);
+        if (converter == null) {
+            converter = findConverter(inputType, outputType);
+            converters.put(outputType, converter);
+        }
+
+        return converter;
+    }
+
+    private <I, O> Converter<I, O> findConverter(Class<I> inputType, Class<O> outputType) {
         Converter<I, O> converter = registry.find(inputType, outputType);
 
         if (converter == null) {
@@ -45,7 +150,39 @@ public class ConversionServiceImpl implements ConversionService {
                 String.format("Can't convert value from %s to %s. No converter found.", inputType, outputType));
         }
 
-        return converter.convert(input);
+        return converter;
+    }
+
+    private static void checkNotNull(Object input, Class<?> outputType) {
+        if (input == null) {
+            throw new ConverterException(String.format("Can't convert null to %s.", outputType));
+        }
+    }
+
+    private static <X> X checkNotNull(X output, Class<?> outputType, Object input) {
+        if (output == null) {
+            throw new ConverterException(String.format("Can't convert '%s' to %s. Result is null.", input, outputType));
+        }
+        return output;
+    }
+
+    /**
+     * Per input class dispatch tables: (input class -> (output class -> converter)) of particular registry version.
+     */
+    private static final class DispatchTable {
+
+        private final long version;
+
+        private final ClassValue<Map<Class, Converter>> converters = new ClassValue<Map<Class, Converter>>() {
+            @Override
+            protected Map<Class, Converter> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+        private DispatchTable(long version) {
+            this.version = version;
+        }
     }
 
 }
@@ -0,0 +1,157 @@
+package org.srplib.conversion;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.fail;
+
+/**
+ * {@link NumberParser} and CharSequence converters test.
+ */
+public class NumberParserTest {
+
+    private static final String[] INTEGERS = {
+        "0", "-0", "+0", "7", "-7", "+7", "00042", "2147483647", "-2147483648", "2147483648", "-2147483649",
+        "9223372036854775807", "-9223372036854775808", "9223372036854775808", "", "-", "+", "1a", " 1", "1 ",
+        "1.0", "١٢"
+    };
+
+    private static final String[] DECIMALS = {
+        "0", "-0", "-0.0", "1", "1.", ".5", ".", "-.", "3.14", "-3.14", "+2.5", "0.1", "0.3", "123456789012345",
+        "1234567890123456", "0.000000000000001", "9007199254740993", "1e3", "1.5E-3", " 1.5", "1.5 ", "NaN",
+        "-Infinity", "1.5f", "1.5d", "0x1p3", "", "-", "1..2", "abc", "16777217", "3.4028235e38", "1.17549435E-38"
+    };
+
+    @Test
+    public void parseIntIsEquivalentToJdk() {
+        for (String value : INTEGERS) {
+            Object expected;
+            try {
+                expected = Integer.parseInt(value);
+            }
+            catch (NumberFormatException e) {
+                expected = NumberFormatException.class;
+            }
+            assertThat(value, parse(() -> NumberParser.parseInt(value, 0, value.length())), is(expected));
+        }
+    }
+
+    @Test
+    public void parseLongIsEquivalentToJdk() {
+        for (String value : INTEGERS) {
+            Object expected;
+            try {
+                expected = Long.parseLong(value);
+            }
+            catch (NumberFormatException e) {
+                expected = NumberFormatException.class;
+            }
+            assertThat(value, parse(() -> NumberParser.parseLong(value, 0, value.length())), is(expected));
+        }
+    }
+
+    @Test
+    public void parseDoubleIsEquivalentToJdk() {
+        for (String value : DECIMALS) {
+            Object expected;
+            try {
+                expected = Double.doubleToRawLongBits(Double.parseDouble(value));
+            }
+            catch (NumberFormatException e) {
+                expected = NumberFormatException.class;
+            }
+            assertThat(value, parse(() -> Double.doubleToRawLongBits(NumberParser.parseDouble(value, 0, value.length()))),
+                is(expected));
+        }
+    }
+
+    @Test
+    public void parseFloatIsEquivalentToJdk() {
+        for (String value : DECIMALS) {
+            Object expected;
+            try {
+                expected = Float.floatToRawIntBits(Float.parseFloat(value));
+            }
+            catch (NumberFormatException e) {
+                expected = NumberFormatException.class;
+            }
+            assertThat(value, parse(() -> Float.floatToRawIntBits(NumberParser.parseFloat(value, 0, value.length()))),
+                is(expected));
+        }
+    }
+
+    @Test
+    public void parseBoolean() {
+        for (String value : new String[] {"true", "TRUE", "tRuE", "false", "yes", "1", "", "truee", "tru"}) {
+            assertThat(value, NumberParser.parseBoolean(value, 0, value.length()), is(Boolean.parseBoolean(value)));
+        }
+        assertThat(NumberParser.parseBoolean(null, 0, 0), is(false));
+    }
+
+    @Test
+    public void parseRange() {
+        StringBuilder line = new StringBuilder("id=-42;price=19.99;qty=3000000000;flag=True");
+
+        assertThat(NumberParser.parseInt(line, 3, 3), is(-42));
+        assertThat(NumberParser.parseDouble(line, 13, 5), is(19.99));
+        assertThat(NumberParser.parseFloat(line, 13, 5), is(19.99f));
+        assertThat(NumberParser.parseLong(line, 23, 10), is(3000000000L));
+        assertThat(NumberParser.parseBoolean(line, 39, 4), is(true));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void rangeOutOfBounds() {
+        NumberParser.parseInt("123", 2, 2);
+    }
+
+    @Test
+    public void converterExceptionContainsRange() {
+        try {
+            new CharSequenceToIntegerConverter().convertToInt(new StringBuilder("a=1x;"), 2, 2);
+            fail("ConverterException expected");
+        }
+        catch (ConverterException e) {
+            assertThat(e.getMessage(), is("Can't convert '1x' to int."));
+            assertThat(e.getCause() instanceof NumberFormatException, is(true));
+        }
+    }
+
+    @Test
+    public void stringConverterErrorsAreNotChanged() {
+        try {
+            new StringToIntegerConverter().convert("abc");
+            fail("ConverterException expected");
+        }
+        catch (ConverterException e) {
+            assertThat(e.getMessage(), is("Can't convert 'abc' to int."));
+        }
+        try {
+            new StringToDoubleConverter().convert("abc");
+            fail("ConverterException expected");
+        }
+        catch (ConverterException e) {
+            assertThat(e.getMessage(), is("Can't convert 'abc' to Double."));
+        }
+        try {
+            new StringToIntegerConverter().convert(null);
+            fail("ConverterException expected");
+        }
+        catch (ConverterException e) {
+            assertThat(e.getMessage(), is("Can't convert 'null' to int."));
+        }
+    }
+
+    private static Object parse(ParseAction action) {
+        try {
+            return action.parse();
+        }
+        catch (NumberFormatException e) {
+            return NumberFormatException.class;
+        }
+    }
+
+    private interface ParseAction {
+        Object parse();
+    }
+}
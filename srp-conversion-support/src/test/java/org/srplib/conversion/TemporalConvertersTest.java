@@ -0,0 +1,107 @@
+package org.srplib.conversion;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalQuery;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Tests for {@code java.time} converters.
+ */
+public class TemporalConvertersTest {
+
+    private static final String[] DATES = {
+        "2020-01-31", "0000-01-01", "2020-02-29", "2019-02-29", "2020-13-01", "2020-1-01", "+12020-01-01", "2020/01/01"
+    };
+
+    private static final String[] DATE_TIMES = {
+        "2020-01-31T10:15:30Z", "2020-01-31T10:15:30.5Z", "2020-01-31T10:15:30.123456789Z",
+        "2020-01-31T10:15:30.1234567891Z", "2020-01-31T10:15:30+03:00", "2020-01-31T10:15:30.25-05:30",
+        "2020-01-31T10:15:30-00:00", "2020-01-31T10:15:30+18:00", "2020-01-31T10:15:30+19:00",
+        "2020-01-31T10:15Z", "2020-01-31t10:15:30z", "2020-01-31T10:15:30+03:00:15", "2020-01-31T24:00:00Z",
+        "2016-12-31T23:59:60Z", "2020-01-31T10:15:30.Z", "2020-01-31T10:15:30"
+    };
+
+    @Test
+    public void localDateIsParsedAsIsoFormatterDoes() {
+        for (String value : DATES) {
+            assertThat(value, parse(new StringToLocalDateConverter(), value),
+                is(parse(DateTimeFormatter.ISO_LOCAL_DATE, LocalDate::from, value)));
+        }
+    }
+
+    @Test
+    public void offsetDateTimeIsParsedAsIsoFormatterDoes() {
+        for (String value : DATE_TIMES) {
+            assertThat(value, parse(new StringToOffsetDateTimeConverter(), value),
+                is(parse(DateTimeFormatter.ISO_OFFSET_DATE_TIME, OffsetDateTime::from, value)));
+        }
+    }
+
+    @Test
+    public void instantIsParsedAsIsoFormatterDoes() {
+        for (String value : DATE_TIMES) {
+            assertThat(value, parse(new StringToInstantConverter(), value),
+                is(parse(DateTimeFormatter.ISO_INSTANT, Instant::from, value)));
+        }
+    }
+
+    @Test
+    public void blankIsConvertedToNull() {
+        assertThat(new StringToLocalDateConverter().convert(" "), nullValue());
+        assertThat(new StringToInstantConverter().convert(null), nullValue());
+    }
+
+    @Test
+    public void pattern() {
+        StringToLocalDateConverter converter = new StringToLocalDateConverter("dd.MM.yyyy");
+
+        assertThat(converter.convert("31.01.2020"), is(LocalDate.of(2020, 1, 31)));
+        assertThat(new TemporalToStringConverter<LocalDate>("dd.MM.yyyy").convert(LocalDate.of(2020, 1, 31)),
+            is("31.01.2020"));
+    }
+
+    @Test
+    public void formattersAreCached() {
+        DateTimeFormatter formatter = DateTimeFormatters.ofPattern("dd.MM.yyyy");
+
+        assertThat(DateTimeFormatters.ofPattern("dd.MM.yyyy"), sameInstance(formatter));
+    }
+
+    @Test(expected = ConverterException.class)
+    public void invalidValue() {
+        new StringToLocalDateConverter().convert("2019-02-29");
+    }
+
+    @Test
+    public void nullIsFormattedToEmptyString() {
+        assertThat(new TemporalToStringConverter<Instant>(DateTimeFormatter.ISO_INSTANT).convert(null), is(""));
+    }
+
+    private static Object parse(Converter<String, ?> converter, String value) {
+        try {
+            return converter.convert(value);
+        }
+        catch (ConverterException e) {
+            return DateTimeException.class;
+        }
+    }
+
+    private static <T> Object parse(DateTimeFormatter formatter, TemporalQuery<T> query, String value) {
+        try {
+            return formatter.parse(value, query);
+        }
+        catch (DateTimeException e) {
+            return DateTimeException.class;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.srplib.conversion.service;
+
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.srplib.conversion.ChainConverter;
+import org.srplib.conversion.Converter;
+import org.srplib.conversion.IntegerToLongConverter;
+import org.srplib.conversion.IntegerToStringConverter;
+import org.srplib.conversion.StringToIntegerConverter;
+import org.srplib.conversion.registry.ChainingConverterRegistry;
+import org.srplib.conversion.registry.SupertypeConverterRegistry;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.srplib.conversion.service.NamedConverter.converter;
+
+/**
+ * {@link ChainingConverterRegistry} test.
+ */
+public class ChainingConverterRegistryTest {
+
+    private final ChainingConverterRegistry registry;
+
+    public ChainingConverterRegistryTest() {
+        registry = new ChainingConverterRegistry(new SupertypeConverterRegistry(), 2);
+        registry.add(String.class, Integer.class, new StringToIntegerConverter());
+        registry.add(Integer.class, Long.class, new IntegerToLongConverter());
+        registry.add(Long.class, Double.class, converter("LongDouble"));
+    }
+
+    @Test
+    public void findDirect() throws Exception {
+        Converter found = registry.find(Long.class, Double.class);
+
+        MatcherAssert.assertThat(found, is(converter("LongDouble")));
+    }
+
+    @Test
+    public void findChain() throws Exception {
+        Converter<String, Long> found = registry.find(String.class, Long.class);
+
+        MatcherAssert.assertThat(found, instanceOf(ChainConverter.class));
+        MatcherAssert.assertThat(found.convert("5"), is(5L));
+    }
+
+    @Test
+    public void findChainCached() throws Exception {
+        Converter first = registry.find(String.class, Long.class);
+        Converter second = registry.find(String.class, Long.class);
+
+        MatcherAssert.assertThat(second, sameInstance(first));
+    }
+
+    @Test
+    public void findChainLongerThanMaximum() throws Exception {
+        Converter found = registry.find(String.class, Double.class);
+
+        MatcherAssert.assertThat(found, nullValue());
+    }
+
+    @Test
+    public void findMissingIsInvalidatedOnAdd() throws Exception {
+        registry.find(Integer.class, String.class);
+
+        registry.add(Integer.class, String.class, new IntegerToStringConverter());
+
+        Converter<Integer, String> found = registry.find(Integer.class, String.class);
+        MatcherAssert.assertThat(found.convert(5), is("5"));
+    }
+
+    @Test
+    public void findMissing() throws Exception {
+        Converter found = registry.find(Double.class, String.class);
+
+        MatcherAssert.assertThat(found, nullValue());
+    }
+
+}
@@ -7,6 +7,7 @@ import org.srplib.conversion.Converter;
 import org.srplib.conversion.ConverterConfigurer;
 import org.srplib.conversion.ConverterException;
 import org.srplib.conversion.ConverterRegistry;
+import org.srplib.conversion.ToIntConverter;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
@@ -65,6 +66,99 @@ public class ConversionServiceImplTest {
         Mockito.when(registry.find(any(), any())).thenReturn(null);
         service.convert("value");
     }
-}
 
+    @Test
+    public void registryChangeIsVisible() {
+        Converter<String, Integer> first = Mockito.mock(Converter.class);
+        Converter<String, Integer> second = Mockito.mock(Converter.class);
+        Mockito.when(registry.find(String.class, Integer.class)).thenReturn(first);
+
+        service.convert(String.class, Integer.class, "1");
+        Mockito.when(registry.find(String.class, Integer.class)).thenReturn(second);
+        Mockito.when(registry.getVersion()).thenReturn(1L);
+        service.convert(String.class, Integer.class, "2");
+
+        Mockito.verify(first).convert("1");
+        Mockito.verify(second).convert("2");
+        Mockito.verify(first, Mockito.never()).convert("2");
+    }
+
+    @Test
+    public void converterIsCachedWhileRegistryVersionIsSame() {
+        Converter<String, Integer> converter = Mockito.mock(Converter.class);
+        Mockito.when(registry.find(String.class, Integer.class)).thenReturn(converter);
+
+        service.convert(String.class, Integer.class, "1");
+        service.convert(String.class, Integer.class, "2");
+
+        Mockito.verify(registry, Mockito.times(1)).find(String.class, Integer.class);
+        Mockito.verify(converter).convert("2");
+    }
+
+    @Test
+    public void converterOfNotVersionedRegistryIsNotCached() {
+        Converter<String, Integer> converter = Mockito.mock(Converter.class);
+        Mockito.when(registry.find(String.class, Integer.class)).thenReturn(converter);
+        Mockito.when(registry.getVersion()).thenReturn(ConverterRegistry.NOT_VERSIONED);
+
+        service.convert(String.class, Integer.class, "1");
+        service.convert(String.class, Integer.class, "2");
+
+        Mockito.verify(registry, Mockito.times(2)).find(String.class, Integer.class);
+    }
+
+    @Test
+    public void missingConverterIsNotCached() {
+        Converter<String, Integer> converter = Mockito.mock(Converter.class);
+        Mockito.when(converter.convert("1")).thenReturn(1);
+
+        try {
+            service.convert(String.class, Integer.class, "1");
+        }
+        catch (ConverterException e) {
+            // expected: no converter registered yet
+        }
+        Mockito.when(registry.find(String.class, Integer.class)).thenReturn(converter);
 
+        assertThat(service.convert(String.class, Integer.class, "1"), is(1));
+    }
+
+    @Test
+    public void primitiveConversionUsesSpecializedConverter() {
+        ToIntConverter<String> converter = Mockito.mock(ToIntConverter.class);
+        Mockito.when(converter.convertToInt("7")).thenReturn(7);
+        Mockito.when(registry.find(String.class, int.class)).thenReturn(converter);
+
+        assertThat(service.convertToInt("7"), is(7));
+        Mockito.verify(converter).convertToInt("7");
+        Mockito.verify(converter, Mockito.never()).convert("7");
+    }
+
+    @Test
+    public void primitiveConversionUnboxesGenericConverterResult() {
+        Converter<String, Long> converter = Mockito.mock(Converter.class);
+        Mockito.when(converter.convert("7")).thenReturn(7L);
+        Mockito.when(registry.find(String.class, long.class)).thenReturn(converter);
+
+        assertThat(service.convertToLong("7"), is(7L));
+    }
+
+    @Test
+    public void primitiveConversionOfWrapperReturnsValueAsIs() {
+        assertThat(service.convertToDouble(Double.class, 1.5), is(1.5));
+        Mockito.verifyNoMoreInteractions(registry);
+    }
+
+    @Test(expected = ConverterException.class)
+    public void primitiveConversionOfNullFails() {
+        service.convertToInt(String.class, null);
+    }
+
+    @Test(expected = ConverterException.class)
+    public void primitiveConversionOfNullResultFails() {
+        Converter<String, Integer> converter = Mockito.mock(Converter.class);
+        Mockito.when(registry.find(String.class, int.class)).thenReturn(converter);
+
+        service.convertToInt("7");
+    }
+}
@@ -0,0 +1,91 @@
+package org.srplib.conversion.service;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.srplib.conversion.Converter;
+import org.srplib.conversion.registry.CopyOnWriteConverterRegistry;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.srplib.conversion.service.NamedConverter.converter;
+
+/**
+ * {@link CopyOnWriteConverterRegistry} test.
+ */
+public class CopyOnWriteConverterRegistryTest {
+
+    private final CopyOnWriteConverterRegistry registry;
+
+    public CopyOnWriteConverterRegistryTest() {
+        registry = new CopyOnWriteConverterRegistry();
+        registry.add(Exception.class, Exception.class, converter("ExceptionException"));
+    }
+
+    @Test
+    public void findInputSupertype() throws Exception {
+        Converter found = registry.find(IOException.class, Exception.class);
+
+        MatcherAssert.assertThat(found, is(converter("ExceptionException")));
+    }
+
+    @Test
+    public void findAfterAdd() throws Exception {
+        MatcherAssert.assertThat(registry.find(String.class, Integer.class), nullValue());
+
+        registry.add(String.class, Integer.class, converter("StringInteger"));
+
+        MatcherAssert.assertThat(registry.find(String.class, Integer.class), is(converter("StringInteger")));
+    }
+
+    @Test
+    public void conversionServiceSeesConverterAddedAfterConversion() throws Exception {
+        ConversionServiceImpl service = new ConversionServiceImpl((registry, conversionService) -> { }, registry);
+        IOException input = new IOException();
+        Exception converted = new Exception();
+        MatcherAssert.assertThat(service.convert(IOException.class, Exception.class, input), sameInstance(input));
+
+        registry.add(IOException.class, Exception.class, value -> converted);
+
+        MatcherAssert.assertThat(service.convert(IOException.class, Exception.class, input), sameInstance(converted));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void addDuplicate() throws Exception {
+        registry.add(Exception.class, Exception.class, converter("duplicate"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void addWhileReading() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch registered = new CountDownLatch(1);
+        try {
+            Future<?> reader = executor.submit(() -> {
+                while (registered.getCount() > 0) {
+                    MatcherAssert.assertThat(registry.find(IOException.class, Exception.class),
+                        is(converter("ExceptionException")));
+                }
+            });
+
+            Class[] types = {Integer.class, Long.class, Short.class, Byte.class, Double.class, Float.class, String.class};
+            for (Class source : types) {
+                for (Class target : types) {
+                    registry.add(source, target, converter(source.getSimpleName() + target.getSimpleName()));
+                }
+            }
+            registered.countDown();
+            reader.get(10, TimeUnit.SECONDS);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+package org.srplib.conversion.service;
+
+import java.io.IOException;
+
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import org.srplib.conversion.Converter;
+import org.srplib.conversion.ConverterException;
+import org.srplib.conversion.registry.FreezableConverterRegistry;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.srplib.conversion.service.NamedConverter.converter;
+
+/**
+ * {@link FreezableConverterRegistry} test.
+ */
+public class FreezableConverterRegistryTest {
+
+    private final FreezableConverterRegistry registry;
+
+    public FreezableConverterRegistryTest() {
+        registry = new FreezableConverterRegistry();
+        registry.add(Object.class, Object.class, converter("ObjectObject"));
+        registry.add(Exception.class, Exception.class, converter("ExceptionException"));
+        registry.add(RuntimeException.class, Exception.class, converter("RuntimeExceptionException"));
+        registry.add(RuntimeException.class, Throwable.class, converter("RuntimeExceptionThrowable"));
+        registry.add(String.class, Integer.class, converter("StringInteger"));
+        registry.add(CharSequence.class, Long.class, converter("CharSequenceLong"));
+        registry.add(Comparable.class, Long.class, converter("ComparableLong"));
+        registry.freeze();
+    }
+
+    @Test
+    public void findExact() throws Exception {
+        Converter found = registry.find(RuntimeException.class, Exception.class);
+
+        MatcherAssert.assertThat(found, is(converter("RuntimeExceptionException")));
+    }
+
+    @Test
+    public void findTargetSupertype() throws Exception {
+        Converter found = registry.find(String.class, Number.class);
+
+        MatcherAssert.assertThat(found, is(converter("StringInteger")));
+    }
+
+    @Test
+    public void findTargetPrimitive() throws Exception {
+        Converter found = registry.find(String.class, int.class);
+
+        MatcherAssert.assertThat(found, is(converter("StringInteger")));
+    }
+
+    @Test
+    public void findNotPreResolvedInputSupertype() throws Exception {
+        Converter found = registry.find(IOException.class, Exception.class);
+
+        MatcherAssert.assertThat(found, is(converter("ExceptionException")));
+    }
+
+    @Test
+    public void findMissing() throws Exception {
+        Converter found = registry.find(Integer.class, String.class);
+
+        MatcherAssert.assertThat(found, nullValue());
+    }
+
+    @Test(expected = ConverterException.class)
+    public void findAmbiguous() throws Exception {
+        registry.find(String.class, Long.class);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void addToFrozenRegistry() throws Exception {
+        registry.add(Integer.class, String.class, converter("IntegerString"));
+    }
+
+    @Test
+    public void freezeIsIdempotent() throws Exception {
+        registry.freeze();
+
+        MatcherAssert.assertThat(registry.isFrozen(), is(true));
+        MatcherAssert.assertThat(registry.find(String.class, Integer.class), is(converter("StringInteger")));
+    }
+
+}
@@ -1,13 +1,16 @@
 package org.srplib.conversion.service;
 
 import java.io.IOException;
+import java.io.Serializable;
 
 import org.hamcrest.MatcherAssert;
 import org.junit.Test;
 import org.srplib.conversion.Converter;
+import org.srplib.conversion.ConverterException;
 import org.srplib.conversion.registry.SupertypeConverterRegistry;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.srplib.conversion.service.NamedConverter.converter;
 
 /**
@@ -46,4 +49,131 @@ public class SupertypeConverterRegistryTest {
         MatcherAssert.assertThat(found, nullValue());
     }
 
+    @Test
+    public void findCachedReturnsSameConverter() throws Exception {
+        Converter first = registry.find(IOException.class, Exception.class);
+        Converter second = registry.find(IOException.class, Exception.class);
+
+        MatcherAssert.assertThat(second, sameInstance(first));
+    }
+
+    @Test
+    public void findMissingIsInvalidatedOnAdd() throws Exception {
+        MatcherAssert.assertThat(registry.find(String.class, Integer.class), nullValue());
+
+        registry.add(String.class, Integer.class, converter("StringInteger"));
+
+        MatcherAssert.assertThat(registry.find(String.class, Integer.class), is(converter("StringInteger")));
+    }
+
+    @Test
+    public void versionIsIncreasedOnAdd() throws Exception {
+        long version = registry.getVersion();
+
+        registry.add(String.class, Integer.class, converter("StringInteger"));
+
+        MatcherAssert.assertThat(registry.getVersion() > version, is(true));
+        MatcherAssert.assertThat(new SupertypeConverterRegistry(registry).getVersion(), is(registry.getVersion()));
+    }
+
+    @Test
+    public void findSupertypeIsInvalidatedOnAdd() throws Exception {
+        MatcherAssert.assertThat(registry.find(IOException.class, Exception.class), is(converter("ExceptionException")));
+
+        registry.add(IOException.class, Exception.class, converter("IOExceptionException"));
+
+        MatcherAssert.assertThat(registry.find(IOException.class, Exception.class), is(converter("IOExceptionException")));
+    }
+
+    @Test(expected = ConverterException.class)
+    public void findAmbiguous() throws Exception {
+        registry.add(CharSequence.class, Integer.class, converter("CharSequenceInteger"));
+        registry.add(Comparable.class, Integer.class, converter("ComparableInteger"));
+
+        registry.find(String.class, Integer.class);
+    }
+
+    @Test(expected = ConverterException.class)
+    public void findAmbiguousCached() throws Exception {
+        registry.add(CharSequence.class, Integer.class, converter("CharSequenceInteger"));
+        registry.add(Comparable.class, Integer.class, converter("ComparableInteger"));
+        try {
+            registry.find(String.class, Integer.class);
+        }
+        catch (ConverterException e) {
+            // first lookup resolves and caches ambiguity
+        }
+        registry.find(String.class, Integer.class);
+    }
+
+    @Test
+    public void findClosestOutputType() throws Exception {
+        Converter found = registry.find(RuntimeException.class, Throwable.class);
+
+        MatcherAssert.assertThat(found, is(converter("RuntimeExceptionThrowable")));
+    }
+
+    @Test
+    public void findInputInterface() throws Exception {
+        registry.add(CharSequence.class, Integer.class, converter("CharSequenceInteger"));
+
+        Converter found = registry.find(String.class, Integer.class);
+
+        MatcherAssert.assertThat(found, is(converter("CharSequenceInteger")));
+    }
+
+    @Test
+    public void findInputSuperclassBeforeInterface() throws Exception {
+        registry.add(Serializable.class, Exception.class, converter("SerializableException"));
+
+        Converter found = registry.find(IOException.class, Exception.class);
+
+        MatcherAssert.assertThat(found, is(converter("ExceptionException")));
+    }
+
+    @Test
+    public void findPrimitiveInput() throws Exception {
+        registry.add(Integer.class, String.class, converter("IntegerString"));
+
+        Converter found = registry.find(int.class, String.class);
+
+        MatcherAssert.assertThat(found, is(converter("IntegerString")));
+    }
+
+    @Test
+    public void findPrimitiveOutput() throws Exception {
+        registry.add(String.class, Integer.class, converter("StringInteger"));
+
+        Converter found = registry.find(String.class, int.class);
+
+        MatcherAssert.assertThat(found, is(converter("StringInteger")));
+    }
+
+    @Test
+    public void findExactBeforeBoxingEquivalent() throws Exception {
+        registry.add(Integer.class, String.class, converter("IntegerString"));
+        registry.add(int.class, String.class, converter("intString"));
+
+        MatcherAssert.assertThat(registry.find(int.class, String.class), is(converter("intString")));
+        MatcherAssert.assertThat(registry.find(Integer.class, String.class), is(converter("IntegerString")));
+    }
+
+    @Test
+    public void findOutputSupertypeOfPrimitive() throws Exception {
+        registry.add(String.class, int.class, converter("StringInt"));
+
+        Converter found = registry.find(String.class, Number.class);
+
+        MatcherAssert.assertThat(found, is(converter("StringInt")));
+    }
+
+    @Test
+    public void findInterfaceInputIsNotShadowedByObject() throws Exception {
+        registry.add(CharSequence.class, Object.class, converter("CharSequenceObject"));
+
+        Converter found = registry.find(String.class, Object.class);
+
+        MatcherAssert.assertThat(found, is(converter("CharSequenceObject")));
+    }
+
 }
@@ -46,6 +46,96 @@ public interface ConversionService {
         return convert(getInputType(input), (Class<O>)ConverterRegistry.ANY_TYPE, input);
     }
 
+    /**
+     * Converts value to {@code int}.
+     *
+     * <p>Implementations may avoid boxing if converter found for types is {@link ToIntConverter}.</p>
+     *
+     * @param inputType source type
+     * @param input converting value (non-null)
+     * @return converted value
+     * @throws ConverterException if value is {@code null} or in case of conversion errors
+     */
+    default <I> int convertToInt(Class<I> inputType, I input) {
+        if (input == null) {
+            throw new ConverterException("Can't convert null to int.");
+        }
+        if (input instanceof Integer) {
+            return (Integer) input;
+        }
+        return ConversionServiceHelper.checkNotNull(convert(inputType, int.class, input), int.class, input);
+    }
+
+    /**
+     * {@link #convertToInt(Class, Object)} analog with automatic source type resolving.
+     *
+     * @param input converting value (non-null)
+     * @return converted value
+     */
+    default <I> int convertToInt(I input) {
+        return convertToInt(getInputType(input), input);
+    }
+
+    /**
+     * Converts value to {@code long}.
+     *
+     * <p>Implementations may avoid boxing if converter found for types is {@link ToLongConverter}.</p>
+     *
+     * @param inputType source type
+     * @param input converting value (non-null)
+     * @return converted value
+     * @throws ConverterException if value is {@code null} or in case of conversion errors
+     */
+    default <I> long convertToLong(Class<I> inputType, I input) {
+        if (input == null) {
+            throw new ConverterException("Can't convert null to long.");
+        }
+        if (input instanceof Long) {
+            return (Long) input;
+        }
+        return ConversionServiceHelper.checkNotNull(convert(inputType, long.class, input), long.class, input);
+    }
+
+    /**
+     * {@link #convertToLong(Class, Object)} analog with automatic source type resolving.
+     *
+     * @param input converting value (non-null)
+     * @return converted value
+     */
+    default <I> long convertToLong(I input) {
+        return convertToLong(getInputType(input), input);
+    }
+
+    /**
+     * Converts value to {@code double}.
+     *
+     * <p>Implementations may avoid boxing if converter found for types is {@link ToDoubleConverter}.</p>
+     *
+     * @param inputType source type
+     * @param input converting value (non-null)
+     * @return converted value
+     * @throws ConverterException if value is {@code null} or in case of conversion errors
+     */
+    default <I> double convertToDouble(Class<I> inputType, I input) {
+        if (input == null) {
+            throw new ConverterException("Can't convert null to double.");
+        }
+        if (input instanceof Double) {
+            return (Double) input;
+        }
+        return ConversionServiceHelper.checkNotNull(convert(inputType, double.class, input), double.class, input);
+    }
+
+    /**
+     * {@link #convertToDouble(Class, Object)} analog with automatic source type resolving.
+     *
+     * @param input converting value (non-null)
+     * @return converted value
+     */
+    default <I> double convertToDouble(I input) {
+        return convertToDouble(getInputType(input), input);
+    }
+
     /**
      * Objects stream/array/collection conversion.
      *
@@ -0,0 +1,27 @@
+package org.srplib.conversion;
+
+/**
+ * Helper methods of {@link ConversionService} default methods.
+ */
+final class ConversionServiceHelper {
+
+    private ConversionServiceHelper() {
+    }
+
+    /**
+     * Checks that conversion result is not null.
+     *
+     * @param output conversion result
+     * @param outputType Class requested output type (used in error message)
+     * @param input converted value (used in error message)
+     * @return output
+     * @throws ConverterException if output is null
+     */
+    static <X> X checkNotNull(X output, Class<?> outputType, Object input) {
+        if (output == null) {
+            throw new ConverterException(String.format("Can't convert '%s' to %s. Result is null.", input, outputType));
+        }
+        return output;
+    }
+
+}
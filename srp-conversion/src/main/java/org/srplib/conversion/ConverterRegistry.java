@@ -15,6 +15,11 @@ public interface ConverterRegistry {
 
     Class ANY_TYPE = Object.class;
 
+    /**
+     * Version of registry which doesn't track its modifications.
+     */
+    long NOT_VERSIONED = -1;
+
     /**
      * Searches for converter for provided types pair.
      * <p>
@@ -47,4 +52,19 @@ public interface ConverterRegistry {
         registrar.register(this);
     }
 
+    /**
+     * Returns modification counter of registry.
+     *
+     * <p>
+     *     Counter changes on each registration, so callers may cache results of {@link #find(Class, Class)} while
+     *     version stays the same. Registry which returns {@link #NOT_VERSIONED} (default) may change lookup results
+     *     at any time, so its results must not be cached.
+     * </p>
+     *
+     * @return long current version or {@link #NOT_VERSIONED}
+     */
+    default long getVersion() {
+        return NOT_VERSIONED;
+    }
+
 }
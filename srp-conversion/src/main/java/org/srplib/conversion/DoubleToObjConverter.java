@@ -0,0 +1,30 @@
+package org.srplib.conversion;
+
+/**
+ * A specialization of {@link Converter} accepting primitive {@code double} values.
+ *
+ * <p>Allows conversion code to avoid boxing on hot paths. {@link #convert(Object)} unboxes input and delegates to
+ * {@link #convertDouble(double)}.</p>
+ *
+ * @param <O> output type
+ */
+public interface DoubleToObjConverter<O> extends Converter<Double, O> {
+
+    /**
+     * Converts specified {@code double} value.
+     *
+     * @param input a value to convert.
+     * @return output value.
+     * @throws ConverterException if value can't be converted.
+     */
+    O convertDouble(double input);
+
+    @Override
+    default O convert(Double input) {
+        if (input == null) {
+            throw new ConverterException("Can't convert null value. Converter accepts double values only.");
+        }
+        return convertDouble(input);
+    }
+
+}
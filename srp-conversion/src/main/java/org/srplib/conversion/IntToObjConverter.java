@@ -0,0 +1,30 @@
+package org.srplib.conversion;
+
+/**
+ * A specialization of {@link Converter} accepting primitive {@code int} values.
+ *
+ * <p>Allows conversion code to avoid boxing on hot paths. {@link #convert(Object)} unboxes input and delegates to
+ * {@link #convertInt(int)}.</p>
+ *
+ * @param <O> output type
+ */
+public interface IntToObjConverter<O> extends Converter<Integer, O> {
+
+    /**
+     * Converts specified {@code int} value.
+     *
+     * @param input a value to convert.
+     * @return output value.
+     * @throws ConverterException if value can't be converted.
+     */
+    O convertInt(int input);
+
+    @Override
+    default O convert(Integer input) {
+        if (input == null) {
+            throw new ConverterException("Can't convert null value. Converter accepts int values only.");
+        }
+        return convertInt(input);
+    }
+
+}
@@ -0,0 +1,30 @@
+package org.srplib.conversion;
+
+/**
+ * A specialization of {@link Converter} accepting primitive {@code long} values.
+ *
+ * <p>Allows conversion code to avoid boxing on hot paths. {@link #convert(Object)} unboxes input and delegates to
+ * {@link #convertLong(long)}.</p>
+ *
+ * @param <O> output type
+ */
+public interface LongToObjConverter<O> extends Converter<Long, O> {
+
+    /**
+     * Converts specified {@code long} value.
+     *
+     * @param input a value to convert.
+     * @return output value.
+     * @throws ConverterException if value can't be converted.
+     */
+    O convertLong(long input);
+
+    @Override
+    default O convert(Long input) {
+        if (input == null) {
+            throw new ConverterException("Can't convert null value. Converter accepts long values only.");
+        }
+        return convertLong(input);
+    }
+
+}
@@ -0,0 +1,27 @@
+package org.srplib.conversion;
+
+/**
+ * A specialization of {@link Converter} producing primitive {@code double} values.
+ *
+ * <p>Allows conversion code to avoid boxing on hot paths. {@link #convert(Object)} boxes the result of
+ * {@link #convertToDouble(Object)}.</p>
+ *
+ * @param <I> input type
+ */
+public interface ToDoubleConverter<I> extends Converter<I, Double> {
+
+    /**
+     * Converts specified value to {@code double}.
+     *
+     * @param input a value to convert.
+     * @return double value.
+     * @throws ConverterException if value can't be converted.
+     */
+    double convertToDouble(I input);
+
+    @Override
+    default Double convert(I input) {
+        return convertToDouble(input);
+    }
+
+}
@@ -0,0 +1,27 @@
+package org.srplib.conversion;
+
+/**
+ * A specialization of {@link Converter} producing primitive {@code int} values.
+ *
+ * <p>Allows conversion code to avoid boxing on hot paths. {@link #convert(Object)} boxes the result of
+ * {@link #convertToInt(Object)}.</p>
+ *
+ * @param <I> input type
+ */
+public interface ToIntConverter<I> extends Converter<I, Integer> {
+
+    /**
+     * Converts specified value to {@code int}.
+     *
+     * @param input a value to convert.
+     * @return int value.
+     * @throws ConverterException if value can't be converted.
+     */
+    int convertToInt(I input);
+
+    @Override
+    default Integer convert(I input) {
+        return convertToInt(input);
+    }
+
+}
@@ -0,0 +1,27 @@
+package org.srplib.conversion;
+
+/**
+ * A specialization of {@link Converter} producing primitive {@code long} values.
+ *
+ * <p>Allows conversion code to avoid boxing on hot paths. {@link #convert(Object)} boxes the result of
+ * {@link #convertToLong(Object)}.</p>
+ *
+ * @param <I> input type
+ */
+public interface ToLongConverter<I> extends Converter<I, Long> {
+
+    /**
+     * Converts specified value to {@code long}.
+     *
+     * @param input a value to convert.
+     * @return long value.
+     * @throws ConverterException if value can't be converted.
+     */
+    long convertToLong(I input);
+
+    @Override
+    default Long convert(I input) {
+        return convertToLong(input);
+    }
+
+}
@@ -1,6 +1,8 @@
 package org.srplib.model;
 
 import org.srplib.contract.Assert;
+import org.srplib.reflection.BeanAccessor;
+import org.srplib.reflection.BeanAccessors;
 import org.srplib.reflection.ReflectionUtils;
 
 /**
@@ -8,6 +10,9 @@ import org.srplib.reflection.ReflectionUtils;
  *
  * <p>Note that this is model is context dependent (see. {@link ContextDependentValueModel}</p>
  *
+ * <p>Property is accessed through generated {@link BeanAccessor} if bean class has one (see {@link BeanAccessors}).
+ * Otherwise reflection is used.</p>
+ *
  * @author Anton Pechinsky
  */
 public class BeanPropertyValueAdapter<B, T> extends AbstractValueModel<T> implements ContextDependentValueModel<B, T> {
@@ -16,6 +21,13 @@ public class BeanPropertyValueAdapter<B, T> extends AbstractValueModel<T> implem
 
     private Object context;
 
+    private final Class<B> beanClass;
+
+    /**
+     * Generated accessor of bean class or {@code null}.
+     */
+    private final BeanAccessor<B> accessor;
+
     /**
      * Creates value model for specified object.
      *
@@ -66,8 +78,17 @@ public class BeanPropertyValueAdapter<B, T> extends AbstractValueModel<T> implem
      * @param property String property name to be accessed.
      */
     public BeanPropertyValueAdapter(Class<B> beanClass, String property) {
-        super((Class<T>) ReflectionUtils.getFieldType(beanClass, property));
+        super((Class<T>) getPropertyType(beanClass, property));
         this.property = property;
+        this.beanClass = beanClass;
+        this.accessor = BeanAccessors.find(beanClass);
+    }
+
+    private static Class<?> getPropertyType(Class<?> beanClass, String property) {
+        BeanAccessor<?> accessor = BeanAccessors.find(beanClass);
+        Class<?> type = accessor == null ? null : accessor.getPropertyType(property);
+
+        return type != null ? type : ReflectionUtils.getFieldType(beanClass, property);
     }
 
     /**
@@ -79,7 +100,12 @@ public class BeanPropertyValueAdapter<B, T> extends AbstractValueModel<T> implem
     @Override
     public void setValue(T value) {
         Assert.checkNotNull(context, "Context object isn't set!");
-        ReflectionUtils.setFieldValue(context, property, value);
+        if (hasAccessor() && accessor.isWritable(property)) {
+            accessor.set((B) context, property, value);
+        }
+        else {
+            ReflectionUtils.setFieldValue(context, property, value);
+        }
     }
 
     /**
@@ -91,9 +117,19 @@ public class BeanPropertyValueAdapter<B, T> extends AbstractValueModel<T> implem
     @Override
     public T getValue() {
         Assert.checkNotNull(context, "Context object was not set!");
+        if (hasAccessor() && accessor.isReadable(property)) {
+            return (T) accessor.get((B) context, property);
+        }
         return (T) ReflectionUtils.getFieldValue(context, property);
     }
 
+    /**
+     * Tests if accessor of bean class may be used for context. Subclasses may hide bean class fields.
+     */
+    private boolean hasAccessor() {
+        return accessor != null && context.getClass() == beanClass;
+    }
+
     @Override
     public void setContext(B context) {
         this.context = context;
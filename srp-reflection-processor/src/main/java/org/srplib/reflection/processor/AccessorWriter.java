@@ -0,0 +1,165 @@
+package org.srplib.reflection.processor;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes java source of {@link org.srplib.reflection.BeanAccessor} implementation for a bean.
+ */
+class AccessorWriter {
+
+    private static final String INDENT = "    ";
+
+    private final BeanModel bean;
+
+    private final PrintWriter out;
+
+    AccessorWriter(BeanModel bean, Writer writer) {
+        this.bean = bean;
+        this.out = new PrintWriter(writer);
+    }
+
+    /**
+     * Writes accessor source and flushes writer.
+     */
+    void write() {
+        if (!bean.getPackageName().isEmpty()) {
+            out.printf("package %s;%n%n", bean.getPackageName());
+        }
+
+        out.printf("/**%n");
+        out.printf(" * {@link org.srplib.reflection.BeanAccessor} of {@link %s}.%n", bean.getBeanClassName());
+        out.printf(" *%n");
+        out.printf(" * <p>Generated by %s. Don't edit.</p>%n", SrpBeanProcessor.class.getName());
+        out.printf(" */%n");
+        out.printf("@SuppressWarnings({\"unchecked\", \"rawtypes\"})%n");
+        out.printf("public final class %s extends org.srplib.reflection.AbstractBeanAccessor<%s> {%n%n",
+            bean.getAccessorSimpleName(), bean.getBeanClassName());
+
+        line(1, "public %s() {", bean.getAccessorSimpleName());
+        line(2, "super(%s.class);", bean.getBeanClassName());
+        line(1, "}");
+        out.println();
+
+        writePropertyType();
+        writeTest("isReadable", readable(false));
+        writeTest("isWritable", writable(false));
+        writeTest("isFieldReadable", readable(true));
+        writeTest("isFieldWritable", writable(true));
+        writeGet();
+        writeSet();
+        writeNewInstance();
+
+        out.printf("}%n");
+        out.flush();
+    }
+
+    private void writePropertyType() {
+        line(1, "@Override");
+        line(1, "public Class<?> getPropertyType(String property) {");
+        line(2, "switch (property) {");
+        for (PropertyModel property : bean.getProperties()) {
+            line(3, "case \"%s\":", property.getName());
+            line(4, "return %s.class;", property.getDeclaredType());
+        }
+        line(3, "default:");
+        line(4, "return null;");
+        line(2, "}");
+        line(1, "}");
+        out.println();
+    }
+
+    private void writeTest(String method, List<PropertyModel> properties) {
+        line(1, "@Override");
+        line(1, "public boolean %s(String property) {", method);
+        line(2, "switch (property) {");
+        for (PropertyModel property : properties) {
+            line(3, "case \"%s\":", property.getName());
+        }
+        if (!properties.isEmpty()) {
+            line(4, "return true;");
+        }
+        line(3, "default:");
+        line(4, "return false;");
+        line(2, "}");
+        line(1, "}");
+        out.println();
+    }
+
+    private void writeGet() {
+        line(1, "@Override");
+        line(1, "public Object get(%s bean, String property) {", bean.getBeanClassName());
+        line(2, "switch (property) {");
+        for (PropertyModel property : readable(false)) {
+            line(3, "case \"%s\":", property.getName());
+            line(4, "return %s;", property.getReadExpression());
+        }
+        line(3, "default:");
+        line(4, "throw notReadable(property);");
+        line(2, "}");
+        line(1, "}");
+        out.println();
+    }
+
+    private void writeSet() {
+        line(1, "@Override");
+        line(1, "public void set(%s bean, String property, Object value) {", bean.getBeanClassName());
+        line(2, "switch (property) {");
+        for (PropertyModel property : writable(false)) {
+            line(3, "case \"%s\":", property.getName());
+            line(4, "%s", property.getWriteStatement());
+            line(4, "break;");
+        }
+        line(3, "default:");
+        line(4, "throw notWritable(property);");
+        line(2, "}");
+        line(1, "}");
+    }
+
+    private void writeNewInstance() {
+        if (!bean.isInstantiable()) {
+            return;
+        }
+        out.println();
+        line(1, "@Override");
+        line(1, "public boolean isInstantiable() {");
+        line(2, "return true;");
+        line(1, "}");
+        out.println();
+        line(1, "@Override");
+        line(1, "public %s newInstance() {", bean.getBeanClassName());
+        line(2, "return new %s();", bean.getBeanClassName());
+        line(1, "}");
+    }
+
+    private List<PropertyModel> readable(boolean fieldOnly) {
+        List<PropertyModel> result = new ArrayList<>();
+        for (PropertyModel property : bean.getProperties()) {
+            if (fieldOnly ? property.isFieldReadable() : property.isReadable()) {
+                result.add(property);
+            }
+        }
+        return result;
+    }
+
+    private List<PropertyModel> writable(boolean fieldOnly) {
+        List<PropertyModel> result = new ArrayList<>();
+        for (PropertyModel property : bean.getProperties()) {
+            if (fieldOnly ? property.isFieldWritable() : property.isWritable()) {
+                result.add(property);
+            }
+        }
+        return result;
+    }
+
+    private void line(int level, String format, Object... arguments) {
+        for (int i = 0; i < level; i++) {
+            out.print(INDENT);
+        }
+        out.printf(format, arguments);
+        out.println();
+    }
+
+}
@@ -0,0 +1,65 @@
+package org.srplib.reflection.processor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Bean class as seen by generated accessor.
+ */
+class BeanModel {
+
+    private final String packageName;
+
+    private final String beanClassName;
+
+    private final String accessorSimpleName;
+
+    private final boolean instantiable;
+
+    private final List<PropertyModel> properties;
+
+    /**
+     * Creates bean model.
+     *
+     * @param packageName String package name (empty for default package)
+     * @param beanClassName String canonical name of bean class
+     * @param accessorSimpleName String simple name of accessor class
+     * @param instantiable boolean true if bean may be created with no-arg constructor
+     * @param properties List of properties
+     */
+    BeanModel(String packageName, String beanClassName, String accessorSimpleName, boolean instantiable,
+        List<PropertyModel> properties) {
+
+        this.packageName = packageName;
+        this.beanClassName = beanClassName;
+        this.accessorSimpleName = accessorSimpleName;
+        this.instantiable = instantiable;
+        this.properties = Collections.unmodifiableList(new ArrayList<>(properties));
+    }
+
+    String getPackageName() {
+        return packageName;
+    }
+
+    String getBeanClassName() {
+        return beanClassName;
+    }
+
+    String getAccessorSimpleName() {
+        return accessorSimpleName;
+    }
+
+    String getAccessorClassName() {
+        return packageName.isEmpty() ? accessorSimpleName : packageName + "." + accessorSimpleName;
+    }
+
+    boolean isInstantiable() {
+        return instantiable;
+    }
+
+    List<PropertyModel> getProperties() {
+        return properties;
+    }
+
+}
@@ -0,0 +1,86 @@
+package org.srplib.reflection.processor;
+
+/**
+ * Property of bean as seen by generated accessor.
+ */
+class PropertyModel {
+
+    private final String name;
+
+    private final String declaredType;
+
+    private final String memberType;
+
+    private final String readExpression;
+
+    private final boolean getter;
+
+    private final String writeTarget;
+
+    private final boolean setter;
+
+    /**
+     * Creates property.
+     *
+     * @param name String property (field) name
+     * @param declaredType String source name of erased declared field type
+     * @param memberType String source name of erased field type as member of bean class
+     * @param readExpression String expression reading property of {@code bean} or {@code null} if not readable
+     * @param getter boolean true if {@code readExpression} calls getter
+     * @param writeTarget String field access or setter name or {@code null} if not writable
+     * @param setter boolean true if {@code writeTarget} is setter name
+     */
+    PropertyModel(String name, String declaredType, String memberType, String readExpression, boolean getter,
+        String writeTarget, boolean setter) {
+
+        this.name = name;
+        this.declaredType = declaredType;
+        this.memberType = memberType;
+        this.readExpression = readExpression;
+        this.getter = getter;
+        this.writeTarget = writeTarget;
+        this.setter = setter;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    String getDeclaredType() {
+        return declaredType;
+    }
+
+    boolean isReadable() {
+        return readExpression != null;
+    }
+
+    boolean isWritable() {
+        return writeTarget != null;
+    }
+
+    boolean isFieldReadable() {
+        return isReadable() && !getter;
+    }
+
+    boolean isFieldWritable() {
+        return isWritable() && !setter;
+    }
+
+    String getReadExpression() {
+        return readExpression;
+    }
+
+    /**
+     * Returns statement writing value of {@code value} variable to property of {@code bean}.
+     *
+     * @return String java statement
+     */
+    String getWriteStatement() {
+        String value = String.format("cast(value, %s.class, property)", memberType);
+
+        return setter
+            ? String.format("bean.%s(%s);", writeTarget, value)
+            : String.format("bean.%s = %s;", writeTarget, value);
+    }
+
+}
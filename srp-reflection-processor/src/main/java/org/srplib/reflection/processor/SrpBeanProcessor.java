@@ -0,0 +1,252 @@
+package org.srplib.reflection.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+import org.srplib.reflection.BeanAccessors;
+import org.srplib.reflection.SrpBean;
+
+/**
+ * Generates {@link org.srplib.reflection.BeanAccessor} implementations for classes annotated with {@link SrpBean}.
+ *
+ * <p>
+ *     Accessor is generated into package of bean and named as {@link BeanAccessors#getAccessorClassName(Class)}
+ *     expects. Generated code accesses fields directly if they are visible from bean package (non-private fields of
+ *     bean package and public fields). Private fields are accessed through getter ({@code getX()}, {@code isX()})
+ *     and setter ({@code setX(x)}) of the same type if they are visible. Other fields are left to reflection.
+ *     Properties accessed through getter or setter aren't reported as field readable (writable), so field level
+ *     methods don't run accessor methods.
+ * </p>
+ *
+ * <p>Private classes and inner (non-static nested) classes are not supported: warning is reported.</p>
+ */
+@SupportedAnnotationTypes("org.srplib.reflection.SrpBean")
+public class SrpBeanProcessor extends AbstractProcessor {
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+        for (Element element : roundEnvironment.getElementsAnnotatedWith(SrpBean.class)) {
+            if (isSupported(element)) {
+                write(createModel((TypeElement) element), element);
+            }
+        }
+        return true;
+    }
+
+    private boolean isSupported(Element element) {
+        if (element.getKind() != ElementKind.CLASS) {
+            return warning(element, "@SrpBean is applicable to classes only.");
+        }
+
+        TypeElement type = (TypeElement) element;
+        if (type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS) {
+            return warning(element, "@SrpBean is not supported for local classes.");
+        }
+        for (Element current = type; current instanceof TypeElement; current = current.getEnclosingElement()) {
+            if (current.getModifiers().contains(Modifier.PRIVATE)) {
+                return warning(element, "@SrpBean is not supported for private classes.");
+            }
+            if (((TypeElement) current).getNestingKind() == NestingKind.MEMBER
+                && !current.getModifiers().contains(Modifier.STATIC)) {
+                return warning(element, "@SrpBean is not supported for inner (non-static) classes.");
+            }
+        }
+        return true;
+    }
+
+    private boolean warning(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, message + " Accessor isn't generated.",
+            element);
+        return false;
+    }
+
+    private BeanModel createModel(TypeElement type) {
+        Elements elements = processingEnv.getElementUtils();
+        Types types = processingEnv.getTypeUtils();
+
+        PackageElement beanPackage = elements.getPackageOf(type);
+        String packageName = beanPackage.isUnnamed() ? "" : beanPackage.getQualifiedName().toString();
+
+        String binaryName = elements.getBinaryName(type).toString();
+        String simpleBinaryName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+
+        // Members of generic bean are accessed through raw type.
+        DeclaredType beanType = (DeclaredType) types.erasure(type.asType());
+
+        Map<String, VariableElement> fields = new LinkedHashMap<>();
+        Set<String> hidden = new HashSet<>();
+        for (TypeElement current = type; current != null; current = getSuperclass(current)) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                String name = field.getSimpleName().toString();
+                if (field.getModifiers().contains(Modifier.STATIC) || name.indexOf('$') != -1) {
+                    continue;
+                }
+                if (fields.containsKey(name) || hidden.contains(name)) {
+                    fields.remove(name);
+                    hidden.add(name);
+                    continue;
+                }
+                fields.put(name, field);
+            }
+        }
+
+        Iterable<ExecutableElement> methods = ElementFilter.methodsIn(elements.getAllMembers(type));
+
+        ArrayList<PropertyModel> properties = new ArrayList<>();
+        for (VariableElement field : fields.values()) {
+            properties.add(createProperty(field, beanType, beanPackage, methods));
+        }
+
+        return new BeanModel(packageName, type.getQualifiedName().toString(),
+            simpleBinaryName.replace('$', '_') + BeanAccessors.SUFFIX, isInstantiable(type), properties);
+    }
+
+    private PropertyModel createProperty(VariableElement field, DeclaredType beanType, PackageElement beanPackage,
+        Iterable<ExecutableElement> methods) {
+
+        Types types = processingEnv.getTypeUtils();
+
+        String name = field.getSimpleName().toString();
+        TypeMirror memberType = types.erasure(types.asMemberOf(beanType, field));
+        String capitalized = name.substring(0, 1).toUpperCase(Locale.ROOT) + name.substring(1);
+
+        String readExpression = null;
+        boolean getter = false;
+        String writeTarget = null;
+        boolean setter = false;
+
+        if (isVisible(field, beanPackage)) {
+            readExpression = "bean." + name;
+            if (!field.getModifiers().contains(Modifier.FINAL)) {
+                writeTarget = name;
+            }
+        }
+
+        for (ExecutableElement method : methods) {
+            if (method.getModifiers().contains(Modifier.STATIC) || !isVisible(method, beanPackage)) {
+                continue;
+            }
+            String methodName = method.getSimpleName().toString();
+            ExecutableType methodType = (ExecutableType) types.asMemberOf(beanType, method);
+
+            if (readExpression == null && method.getParameters().isEmpty() && isGetterName(methodName, capitalized,
+                memberType) && types.isSameType(types.erasure(methodType.getReturnType()), memberType)) {
+
+                readExpression = "bean." + methodName + "()";
+                getter = true;
+            }
+            if (writeTarget == null && methodName.equals("set" + capitalized) && method.getParameters().size() == 1
+                && types.isSameType(types.erasure(methodType.getParameterTypes().get(0)), memberType)) {
+
+                writeTarget = methodName;
+                setter = true;
+            }
+        }
+
+        return new PropertyModel(name, getSourceName(types.erasure(field.asType())), getSourceName(memberType),
+            readExpression, getter, writeTarget, setter);
+    }
+
+    private static boolean isGetterName(String methodName, String capitalized, TypeMirror type) {
+        return methodName.equals("get" + capitalized)
+            || type.getKind() == TypeKind.BOOLEAN && methodName.equals("is" + capitalized);
+    }
+
+    private boolean isInstantiable(TypeElement type) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tests if member is visible from (unrelated) class of specified package.
+     */
+    private boolean isVisible(Element member, PackageElement beanPackage) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        return modifiers.contains(Modifier.PUBLIC)
+            || processingEnv.getElementUtils().getPackageOf(member).equals(beanPackage);
+    }
+
+    private TypeElement getSuperclass(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+        return element.getQualifiedName().contentEquals(Object.class.getName()) ? null : element;
+    }
+
+    /**
+     * Returns name of erased type usable in source code (class literal, cast).
+     */
+    private String getSourceName(TypeMirror type) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return getSourceName(((ArrayType) type).getComponentType()) + "[]";
+            case DECLARED:
+                return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+            case TYPEVAR:
+                return getSourceName(processingEnv.getTypeUtils().erasure(type));
+            default:
+                return type.getKind().isPrimitive()
+                    ? type.getKind().name().toLowerCase(Locale.ROOT)
+                    : Object.class.getName();
+        }
+    }
+
+    private void write(BeanModel bean, Element element) {
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(bean.getAccessorClassName(), element);
+            try (Writer writer = file.openWriter()) {
+                new AccessorWriter(bean, writer).write();
+            }
+        }
+        catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                "Can't write accessor " + bean.getAccessorClassName() + ": " + e.getMessage(), element);
+        }
+    }
+
+}
@@ -0,0 +1,277 @@
+package org.srplib.reflection.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Test;
+import org.srplib.reflection.BeanAccessor;
+import org.srplib.reflection.BeanAccessors;
+import org.srplib.reflection.ReflectionUtils;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * Test for {@link SrpBeanProcessor}. Compiles sample beans with processor and uses generated accessors.
+ */
+public class SrpBeanProcessorTest {
+
+    private static final String BASE = String.join("\n",
+        "package sample;",
+        "",
+        "public class Base<T> {",
+        "    T value;",
+        "    String shadowed;",
+        "    protected String inherited;",
+        "}");
+
+    private static final String PERSON = String.join("\n",
+        "package sample;",
+        "",
+        "import java.util.List;",
+        "",
+        "@org.srplib.reflection.SrpBean",
+        "public class Person extends Base<String> {",
+        "    private String name;",
+        "    int age;",
+        "    private long id;",
+        "    final String constant = \"constant\";",
+        "    List<String> tags;",
+        "    private boolean active;",
+        "    String shadowed;",
+        "    public String getName() { return name == null ? null : name.toUpperCase(); }",
+        "    public void setName(String name) { this.name = name; }",
+        "    public boolean isActive() { return active; }",
+        "    public static class Nested {",
+        "    }",
+        "}");
+
+    private static final String OUTER = String.join("\n",
+        "package sample;",
+        "",
+        "public class Outer {",
+        "    @org.srplib.reflection.SrpBean",
+        "    public static class Inner {",
+        "        String text;",
+        "        Inner(String text) { this.text = text; }",
+        "    }",
+        "    @org.srplib.reflection.SrpBean",
+        "    public class NotStatic {",
+        "    }",
+        "}");
+
+    private static Path root;
+
+    private static URLClassLoader classLoader;
+
+    private static List<Diagnostic<? extends JavaFileObject>> diagnostics;
+
+    private static synchronized ClassLoader getClassLoader() throws IOException {
+        if (classLoader == null) {
+            compile();
+        }
+        return classLoader;
+    }
+
+    @AfterClass
+    public static void cleanUp() throws IOException {
+        if (classLoader != null) {
+            classLoader.close();
+            classLoader = null;
+        }
+        if (root != null) {
+            try (Stream<Path> paths = Files.walk(root)) {
+                // Files before their directories.
+                for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                    Files.delete(path);
+                }
+            }
+            root = null;
+        }
+    }
+
+    private static void compile() throws IOException {
+        root = Files.createTempDirectory("srp-processor");
+        Path classes = Files.createDirectories(root.resolve("classes"));
+
+        List<File> sources = new ArrayList<>();
+        sources.add(writeSource(root, "Base", BASE));
+        sources.add(writeSource(root, "Person", PERSON));
+        sources.add(writeSource(root, "Outer", OUTER));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> collector = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(collector, null, null)) {
+            List<String> options = Arrays.asList(
+                "-classpath", System.getProperty("java.class.path"),
+                "-d", classes.toString(),
+                "-s", classes.toString(),
+                "-processor", SrpBeanProcessor.class.getName());
+
+            Boolean success = compiler.getTask(null, fileManager, collector, options, null,
+                fileManager.getJavaFileObjectsFromFiles(sources)).call();
+
+            Assert.assertThat(collector.getDiagnostics().toString(), success, is(true));
+        }
+        diagnostics = collector.getDiagnostics();
+        classLoader = new URLClassLoader(new URL[] {classes.toUri().toURL()},
+            SrpBeanProcessorTest.class.getClassLoader());
+    }
+
+    @Test
+    public void accessorIsGenerated() throws Exception {
+        BeanAccessor<Object> accessor = accessor("sample.Person");
+
+        Assert.assertThat(accessor, notNullValue());
+        Assert.assertThat(accessor.getClass().getName(), is("sample.Person_SrpAccessor"));
+    }
+
+    @Test
+    public void fieldAccess() throws Exception {
+        BeanAccessor<Object> accessor = accessor("sample.Person");
+        Object person = accessor.newInstance();
+
+        accessor.set(person, "age", 30);
+        accessor.set(person, "age", (short) 31);
+
+        Assert.assertThat(accessor.get(person, "age"), is((Object) 31));
+        Assert.assertThat(accessor.get(person, "constant"), is((Object) "constant"));
+        Assert.assertThat(accessor.isWritable("constant"), is(false));
+    }
+
+    @Test
+    public void getterAndSetterAreUsedForPrivateFields() throws Exception {
+        BeanAccessor<Object> accessor = accessor("sample.Person");
+        Object person = accessor.newInstance();
+
+        accessor.set(person, "name", "john");
+
+        Assert.assertThat(accessor.get(person, "name"), is((Object) "JOHN"));
+        Assert.assertThat(accessor.isReadable("active"), is(true));
+        Assert.assertThat(accessor.isWritable("active"), is(false));
+        Assert.assertThat(accessor.isReadable("id"), is(false));
+        Assert.assertThat(accessor.getPropertyType("id"), is((Object) long.class));
+    }
+
+    @Test
+    public void fieldAccessIsReportedSeparately() throws Exception {
+        BeanAccessor<Object> accessor = accessor("sample.Person");
+
+        Assert.assertThat(accessor.isFieldReadable("age"), is(true));
+        Assert.assertThat(accessor.isFieldWritable("age"), is(true));
+        Assert.assertThat(accessor.isFieldReadable("constant"), is(true));
+        Assert.assertThat(accessor.isFieldWritable("constant"), is(false));
+        // Accessed through getter and setter.
+        Assert.assertThat(accessor.isFieldReadable("name"), is(false));
+        Assert.assertThat(accessor.isFieldWritable("name"), is(false));
+        Assert.assertThat(accessor.isFieldReadable("active"), is(false));
+    }
+
+    @Test
+    public void inheritedFields() throws Exception {
+        BeanAccessor<Object> accessor = accessor("sample.Person");
+        Object person = accessor.newInstance();
+
+        accessor.set(person, "value", "text");
+
+        Assert.assertThat(accessor.get(person, "value"), is((Object) "text"));
+        Assert.assertThat(accessor.getPropertyType("value"), is((Object) Object.class));
+        Assert.assertThat(accessor.getPropertyType("tags"), is((Object) List.class));
+        Assert.assertThat(accessor.isReadable("inherited"), is(true));
+    }
+
+    @Test
+    public void hiddenFieldsAreNotProperties() throws Exception {
+        Assert.assertThat(accessor("sample.Person").getPropertyType("shadowed"), nullValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void valueOfWrongType() throws Exception {
+        BeanAccessor<Object> accessor = accessor("sample.Person");
+
+        accessor.set(accessor.newInstance(), "value", 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nullToPrimitive() throws Exception {
+        BeanAccessor<Object> accessor = accessor("sample.Person");
+
+        accessor.set(accessor.newInstance(), "age", null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void narrowingIsNotSupported() throws Exception {
+        BeanAccessor<Object> accessor = accessor("sample.Person");
+
+        accessor.set(accessor.newInstance(), "age", 1L);
+    }
+
+    @Test
+    public void reflectionUtilsUsesAccessor() throws Exception {
+        Object person = ReflectionUtils.newInstance(getClassLoader().loadClass("sample.Person"));
+
+        ReflectionUtils.setFieldValue(person, "age", 40);
+        ReflectionUtils.setFieldValue(person, "name", "james");
+
+        Assert.assertThat(ReflectionUtils.<Integer>getFieldValue(person, "age"), is(40));
+        // Accessor reads name through getter, so reflection is used and getter logic isn't run.
+        Assert.assertThat(ReflectionUtils.<String>getFieldValue(person, "name"), is("james"));
+        // Not readable by accessor, reflection is used.
+        Assert.assertThat(ReflectionUtils.<Long>getFieldValue(person, "id"), is(0L));
+    }
+
+    @Test
+    public void nestedClass() throws Exception {
+        BeanAccessor<Object> accessor = accessor("sample.Outer$Inner");
+
+        Assert.assertThat(accessor.getClass().getName(), is("sample.Outer_Inner_SrpAccessor"));
+        Assert.assertThat(accessor.isReadable("text"), is(true));
+        // No no-arg constructor.
+        Assert.assertThat(accessor.isInstantiable(), is(false));
+    }
+
+    @Test
+    public void innerClassIsNotSupported() throws Exception {
+        Assert.assertThat(accessor("sample.Outer$NotStatic"), nullValue());
+        Assert.assertThat(diagnostics.toString().contains("not supported for inner"), is(true));
+    }
+
+    @Test
+    public void classWithoutAccessor() throws Exception {
+        Assert.assertThat(accessor("sample.Base"), nullValue());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BeanAccessor<Object> accessor(String className) throws Exception {
+        return BeanAccessors.find((Class<Object>) getClassLoader().loadClass(className));
+    }
+
+    private static File writeSource(Path root, String name, String source) throws IOException {
+        Path file = root.resolve("src/sample/" + name + ".java");
+        Files.createDirectories(file.getParent());
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(source);
+        }
+        return file.toFile();
+    }
+}
@@ -1,9 +1,8 @@
 package org.srplib.reflection.classgraph;
 
-import java.lang.reflect.Field;
-
 import org.srplib.contract.Argument;
-import org.srplib.reflection.ReflectionUtils;
+import org.srplib.reflection.ClassMetadata;
+import org.srplib.reflection.FieldMetadata;
 import org.srplib.visitor.Element;
 import org.srplib.support.Predicate;
 import org.srplib.visitor.NodePath;
@@ -59,8 +58,8 @@ public class ClassGraph<N extends ClassGraphNode, V extends ClassGraphVisitor<N>
 
         ClassGraphNode node = path.getCurrent();
 
-        for (Field field : ReflectionUtils.getFieldsRecursively(node.getType())) {
-            N newNode = visitor.resolveNode(ClassGraphNode.create(field));
+        for (FieldMetadata field : ClassMetadata.of(node.getType()).getFields()) {
+            N newNode = visitor.resolveNode(ClassGraphNode.create(field.getField()));
 
             traverse(path.add(newNode), visitor);
         }
@@ -1,13 +1,11 @@
 package org.srplib.reflection.deepcompare;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import org.srplib.contract.Argument;
 import org.srplib.reflection.deepcompare.comparators.ReferenceComparatorDecorator;
 import org.srplib.reflection.deepcompare.support.StandardConfiguration;
-import org.srplib.support.CompositeKey;
+import org.srplib.support.IdentityPairSet;
 
 /**
  * Implements deep object comparison logic.
@@ -16,7 +14,10 @@ import org.srplib.support.CompositeKey;
  */
 public class ConfigurableDeepComparator implements DeepComparator {
 
-    private Set<CompositeKey> processedIdentities = new HashSet<>();
+    /**
+     * Pairs of objects compared during current top level comparison. Recreated by {@link #compare(Object, Object)}.
+     */
+    private IdentityPairSet processed = new IdentityPairSet();
 
     private DeepComparatorConfiguration configuration;
 
@@ -41,6 +42,9 @@ public class ConfigurableDeepComparator implements DeepComparator {
     /**
      * Compares two objects using default configuration.
      *
+     * <p>Each call starts with empty set of processed pairs, so comparator may be reused. Compared objects aren't
+     * referenced by comparator after call.</p>
+     *
      * @param object1 first object
      * @param object2 second object
      * @return list of mismatch description strings or empty list if no mismatches found.
@@ -50,7 +54,13 @@ public class ConfigurableDeepComparator implements DeepComparator {
 
         DeepComparatorContextImpl context = new DeepComparatorContextImpl(rootComparator);
 
-        compare(object1, object2, context);
+        processed = new IdentityPairSet();
+        try {
+            compare(object1, object2, context);
+        }
+        finally {
+            processed = new IdentityPairSet();
+        }
 
         return context.getMismatches();
     }
@@ -71,21 +81,11 @@ public class ConfigurableDeepComparator implements DeepComparator {
     }
 
     private void rememberProcessed(Object object1, Object object2) {
-        CompositeKey key = getKey(object1, object2);
-        processedIdentities.add(key);
+        processed.add(object1, object2);
     }
 
     private boolean alreadyProcessed(Object object1, Object object2) {
-        CompositeKey key = getKey(object1, object2);
-        return processedIdentities.contains(key);
-    }
-
-    private CompositeKey getKey(Object object1, Object object2) {
-        return new CompositeKey(identity(object1), identity(object2));
-    }
-
-    private int identity(Object object) {
-        return System.identityHashCode(object);
+        return processed.contains(object1, object2);
     }
 
 }
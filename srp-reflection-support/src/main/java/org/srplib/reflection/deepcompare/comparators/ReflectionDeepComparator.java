@@ -2,8 +2,11 @@ package org.srplib.reflection.deepcompare.comparators;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.List;
 
 import org.srplib.contract.Argument;
+import org.srplib.reflection.ClassMetadata;
+import org.srplib.reflection.FieldMetadata;
 import org.srplib.reflection.ReflectionUtils;
 import org.srplib.reflection.deepcompare.DeepComparator;
 import org.srplib.reflection.deepcompare.DeepComparatorContext;
@@ -12,6 +15,8 @@ import org.srplib.support.Predicate;
 /**
  * Compares objects field by field using reflection.
  *
+ * <p>Fields of compared classes are taken from {@link ClassMetadata} cache.</p>
+ *
  * @author Anton Pechinsky
  */
 public class ReflectionDeepComparator implements DeepComparator<Object> {
@@ -38,15 +43,20 @@ public class ReflectionDeepComparator implements DeepComparator<Object> {
 
     @Override
     public void compare(Object object1, Object object2, DeepComparatorContext context) {
+        ClassMetadata metadata = ClassMetadata.of(object1.getClass());
+
+        // Default filter accepts exactly instance fields, so there is no need to test them.
+        boolean defaultFilter = comparables instanceof NonStaticAndNonSynthenticFilter;
+        List<FieldMetadata> fields = defaultFilter ? metadata.getInstanceFields() : metadata.getFields();
 
-        for (Field field : ReflectionUtils.getFieldsRecursively(object1.getClass())) {
+        for (FieldMetadata field : fields) {
 
-            if (!comparables.test(field)) {
+            if (!defaultFilter && !comparables.test(field.getField())) {
                 continue;
             }
 
-            Object value1 = ReflectionUtils.getFieldValue(object1, field);
-            Object value2 = ReflectionUtils.getFieldValue(object2, field);
+            Object value1 = field.getValue(object1);
+            Object value2 = field.getValue(object2);
 
             context.compareNested(value1, value2, field.getName());
         }
@@ -0,0 +1,48 @@
+package org.srplib.reflection.deepcopy;
+
+import java.lang.reflect.Array;
+
+/**
+ * Plan for arrays.
+ *
+ * <p>
+ *     Arrays of primitives and of immutable final classes are copied by {@link System#arraycopy}, elements of other
+ *     arrays are copied one by one.
+ * </p>
+ */
+final class ArrayCopyPlan extends CopyPlan {
+
+    private final Class<?> componentType;
+
+    private final boolean shareElements;
+
+    ArrayCopyPlan(Class<?> componentType, boolean shareElements) {
+        this.componentType = componentType;
+        this.shareElements = shareElements;
+    }
+
+    @Override
+    boolean isShallow() {
+        return shareElements;
+    }
+
+    @Override
+    Object newCopy(Object original, CopyContext context) {
+        int length = Array.getLength(original);
+        Object copy = Array.newInstance(componentType, length);
+        if (shareElements) {
+            System.arraycopy(original, 0, copy, 0, length);
+        }
+        return copy;
+    }
+
+    @Override
+    void fill(Object original, Object copy, CopyContext context) {
+        Object[] source = (Object[]) original;
+        Object[] target = (Object[]) copy;
+        for (int i = 0, length = source.length; i < length; i++) {
+            target[i] = context.copyOf(source[i]);
+        }
+    }
+
+}
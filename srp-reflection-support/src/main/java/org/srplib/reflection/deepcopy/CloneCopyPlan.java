@@ -0,0 +1,62 @@
+package org.srplib.reflection.deepcopy;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.srplib.reflection.ReflectionException;
+
+/**
+ * Plan for classes which fields are not accessible but which have public {@code clone()} method (e.g.
+ * {@link java.util.Date}, {@link java.util.EnumSet} on Java 9+). Clone is expected to be complete copy.
+ */
+final class CloneCopyPlan extends CopyPlan {
+
+    private final MethodHandle clone;
+
+    private CloneCopyPlan(MethodHandle clone) {
+        this.clone = clone;
+    }
+
+    /**
+     * Returns plan for specified class.
+     *
+     * @param type Class a class
+     * @return CloneCopyPlan plan or {@code null} if class is not {@link Cloneable} or has no public clone method
+     */
+    static CloneCopyPlan find(Class<?> type) {
+        if (!Cloneable.class.isAssignableFrom(type)) {
+            return null;
+        }
+        try {
+            Method method = type.getMethod("clone");
+            if (!Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+                return null;
+            }
+            return new CloneCopyPlan(MethodHandles.publicLookup().unreflect(method));
+        }
+        catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    @Override
+    boolean isShallow() {
+        return true;
+    }
+
+    @Override
+    Object newCopy(Object original, CopyContext context) {
+        try {
+            return clone.invoke(original);
+        }
+        catch (RuntimeException | Error e) {
+            throw e;
+        }
+        catch (Throwable e) {
+            throw new ReflectionException(String.format("Can't clone object of class '%s'.", original.getClass()), e);
+        }
+    }
+
+}
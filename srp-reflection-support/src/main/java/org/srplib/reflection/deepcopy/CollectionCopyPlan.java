@@ -0,0 +1,54 @@
+package org.srplib.reflection.deepcopy;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Plan for collections: copy is created empty (pre-sized for standard JDK classes) and filled by copies of elements.
+ *
+ * <p>
+ *     Lists and deques are filled at once. Other collections (sets, priority queues) hash or compare their elements,
+ *     so they are filled when all copies are complete (see {@link CopyContext#defer(Runnable)}).
+ * </p>
+ */
+final class CollectionCopyPlan extends CopyPlan {
+
+    private final ContainerFactory factory;
+
+    private final boolean ordered;
+
+    CollectionCopyPlan(ContainerFactory factory, boolean ordered) {
+        this.factory = factory;
+        this.ordered = ordered;
+    }
+
+    @Override
+    Object newCopy(Object original, CopyContext context) {
+        return factory.create(original, ((Collection) original).size());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    void fill(Object original, Object copy, CopyContext context) {
+        Object[] elements = ((Collection) original).toArray();
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = context.copyOf(elements[i]);
+        }
+
+        final Collection<Object> target = (Collection<Object>) copy;
+        final List<Object> copies = Arrays.asList(elements);
+        if (ordered) {
+            target.addAll(copies);
+        }
+        else {
+            context.defer(new Runnable() {
+                @Override
+                public void run() {
+                    target.addAll(copies);
+                }
+            });
+        }
+    }
+
+}
@@ -0,0 +1,227 @@
+package org.srplib.reflection.deepcopy;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.srplib.reflection.MethodInvoker;
+import org.srplib.reflection.MethodInvokers;
+
+/**
+ * Creates empty copy of collection or map.
+ *
+ * <p>
+ *     Standard JDK classes are created with capacity of original, so copy is not rehashed (reallocated) while being
+ *     filled. Other classes are created by their own constructors, so copy is always an instance of the class of
+ *     original and can be assigned wherever original was. Private JDK implementations (e.g. unmodifiable wrappers) are
+ *     copied by {@link JdkContainerPlans}.
+ * </p>
+ */
+abstract class ContainerFactory {
+
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private static final ContainerFactory SORTED_SET = new ContainerFactory() {
+        @Override
+        Object create(Object original, int size) {
+            return new TreeSet<>(((SortedSet) original).comparator());
+        }
+    };
+
+    private static final ContainerFactory SORTED_MAP = new ContainerFactory() {
+        @Override
+        Object create(Object original, int size) {
+            return new TreeMap<>(((SortedMap) original).comparator());
+        }
+    };
+
+    private static final ContainerFactory ENUM_MAP = new ContainerFactory() {
+        @Override
+        Object create(Object original, int size) {
+            // Key type of empty map is not visible without reflection. Values are replaced by copies when filled.
+            return new EnumMap((EnumMap) original);
+        }
+    };
+
+    private static final Map<Class<?>, ContainerFactory> STANDARD = new HashMap<>();
+
+    static {
+        STANDARD.put(ArrayList.class, new ContainerFactory() {
+            @Override
+            Object create(Object original, int size) {
+                return new ArrayList<>(size);
+            }
+        });
+        STANDARD.put(LinkedList.class, new ContainerFactory() {
+            @Override
+            Object create(Object original, int size) {
+                return new LinkedList<>();
+            }
+        });
+        STANDARD.put(ArrayDeque.class, new ContainerFactory() {
+            @Override
+            Object create(Object original, int size) {
+                return new ArrayDeque<>(size);
+            }
+        });
+        STANDARD.put(Vector.class, new ContainerFactory() {
+            @Override
+            Object create(Object original, int size) {
+                return new Vector<>(Math.max(size, 1));
+            }
+        });
+        STANDARD.put(CopyOnWriteArrayList.class, new ContainerFactory() {
+            @Override
+            Object create(Object original, int size) {
+                return new CopyOnWriteArrayList<>();
+            }
+        });
+        STANDARD.put(PriorityQueue.class, new ContainerFactory() {
+            @Override
+            Object create(Object original, int size) {
+                return new PriorityQueue<>(Math.max(size, 1), ((PriorityQueue) original).comparator());
+            }
+        });
+        STANDARD.put(HashSet.class, new ContainerFactory() {
+            @Override
+            Object create(Object original, int size) {
+                return new HashSet<>(capacity(size));
+            }
+        });
+        STANDARD.put(LinkedHashSet.class, new ContainerFactory() {
+            @Override
+            Object create(Object original, int size) {
+                return new LinkedHashSet<>(capacity(size));
+            }
+        });
+        STANDARD.put(HashMap.class, new ContainerFactory() {
+            @Override
+            Object create(Object original, int size) {
+                return new HashMap<>(capacity(size));
+            }
+        });
+        // Access order of LinkedHashMap is not visible without reflection. Copy has insertion order equal to
+        // iteration order of original.
+        STANDARD.put(LinkedHashMap.class, new ContainerFactory() {
+            @Override
+            Object create(Object original, int size) {
+                return new LinkedHashMap<>(capacity(size));
+            }
+        });
+        STANDARD.put(IdentityHashMap.class, new ContainerFactory() {
+            @Override
+            Object create(Object original, int size) {
+                return new IdentityHashMap<>(size);
+            }
+        });
+        STANDARD.put(Hashtable.class, new ContainerFactory() {
+            @Override
+            Object create(Object original, int size) {
+                return new Hashtable<>(capacity(size));
+            }
+        });
+        STANDARD.put(ConcurrentHashMap.class, new ContainerFactory() {
+            @Override
+            Object create(Object original, int size) {
+                return new ConcurrentHashMap<>(capacity(size));
+            }
+        });
+        STANDARD.put(TreeSet.class, SORTED_SET);
+        STANDARD.put(TreeMap.class, SORTED_MAP);
+    }
+
+    /**
+     * Creates empty container to copy original to.
+     *
+     * @param original Object original collection or map
+     * @param size int size of original
+     * @return Object empty collection or map
+     */
+    abstract Object create(Object original, int size);
+
+    /**
+     * Returns factory of standard JDK class.
+     *
+     * @param type Class collection or map class
+     * @return ContainerFactory factory or {@code null} if class is not a standard one
+     */
+    static ContainerFactory findStandard(Class<?> type) {
+        return STANDARD.get(type);
+    }
+
+    /**
+     * Returns factory creating instances of specified class.
+     *
+     * <p>
+     *     Sorted collections (maps) are created by constructor accepting comparator, other collections (maps) by
+     *     no-arg constructor. Constructor may be non-public.
+     * </p>
+     *
+     * @param type Class collection or map class
+     * @return ContainerFactory factory or {@code null} if class can't be instantiated
+     */
+    static ContainerFactory find(Class<?> type) {
+        ContainerFactory standard = findStandard(type);
+        if (standard != null) {
+            return standard;
+        }
+        if (type == EnumMap.class) {
+            return ENUM_MAP;
+        }
+        if (Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+        if (SortedSet.class.isAssignableFrom(type) || SortedMap.class.isAssignableFrom(type)) {
+            final MethodInvoker constructor = findConstructor(type, Comparator.class);
+            return constructor == null ? null : new ContainerFactory() {
+                @Override
+                Object create(Object original, int size) {
+                    Comparator<?> comparator = original instanceof SortedSet
+                        ? ((SortedSet) original).comparator()
+                        : ((SortedMap) original).comparator();
+                    return constructor.newInstance(comparator);
+                }
+            };
+        }
+        final MethodInvoker constructor = findConstructor(type);
+        return constructor == null ? null : new ContainerFactory() {
+            @Override
+            Object create(Object original, int size) {
+                return constructor.newInstance();
+            }
+        };
+    }
+
+    private static MethodInvoker findConstructor(Class<?> type, Class<?>... parameters) {
+        try {
+            return MethodInvokers.findConstructor(type, parameters);
+        }
+        catch (RuntimeException e) {
+            // Constructor is not accessible.
+            return null;
+        }
+    }
+
+    private static int capacity(int size) {
+        return (int) (size / LOAD_FACTOR) + 1;
+    }
+
+}
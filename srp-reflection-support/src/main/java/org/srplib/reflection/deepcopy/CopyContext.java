@@ -0,0 +1,107 @@
+package org.srplib.reflection.deepcopy;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * State of single copy operation: copies of visited objects and work queues.
+ *
+ * <p>
+ *     Objects are copied breadth first without recursion. Copy of an object is registered as soon as it is created,
+ *     so every object is copied once: shared references and cycles of original are reproduced by copy.
+ * </p>
+ */
+final class CopyContext {
+
+    private final DeepCopier copier;
+
+    private final Map<Object, Object> copies = new IdentityHashMap<>();
+
+    /**
+     * Copies to fill: (plan, original, copy) triples.
+     */
+    private final ArrayDeque<Object> pending = new ArrayDeque<>();
+
+    private final List<Runnable> deferred = new ArrayList<>();
+
+    CopyContext(DeepCopier copier) {
+        this.copier = copier;
+    }
+
+    /**
+     * Copies specified object and all objects reachable from it.
+     *
+     * @param root Object root object
+     * @return Object complete copy
+     */
+    Object copy(Object root) {
+        Object result = copyOf(root);
+
+        while (!pending.isEmpty()) {
+            CopyPlan plan = (CopyPlan) pending.pollFirst();
+            Object original = pending.pollFirst();
+            Object copy = pending.pollFirst();
+            plan.fill(original, copy, this);
+        }
+
+        // Containers registered later are (usually) nested into earlier ones, fill them first.
+        for (int i = deferred.size() - 1; i >= 0; i--) {
+            deferred.get(i).run();
+        }
+        return result;
+    }
+
+    /**
+     * Returns copy of specified object. Copy of mutable object may be incomplete until copy operation ends.
+     *
+     * @param original Object an object
+     * @return Object copy (original itself for immutable objects and {@code null})
+     */
+    Object copyOf(Object original) {
+        if (original == null) {
+            return null;
+        }
+        CopyPlan plan = copier.getPlan(original.getClass());
+        if (plan.isShared()) {
+            return original;
+        }
+
+        Object copy = copies.get(original);
+        if (copy == null) {
+            copy = plan.newCopy(original, this);
+            copies.put(original, copy);
+            if (!plan.isShallow()) {
+                fill(plan, original, copy);
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Schedules filling of specified target by plan. Used by plans which copy is a view of another (filled) object,
+     * e.g. unmodifiable wrapper of a collection.
+     *
+     * @param plan CopyPlan plan to fill target by
+     * @param original Object original object
+     * @param target Object an object to fill
+     */
+    void fill(CopyPlan plan, Object original, Object target) {
+        pending.addLast(plan);
+        pending.addLast(original);
+        pending.addLast(target);
+    }
+
+    /**
+     * Schedules action to be run when all copies are complete. Used to fill containers hashing or comparing their
+     * elements.
+     *
+     * @param action Runnable an action
+     */
+    void defer(Runnable action) {
+        deferred.add(action);
+    }
+
+}
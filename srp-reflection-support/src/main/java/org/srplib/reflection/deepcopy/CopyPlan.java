@@ -0,0 +1,59 @@
+package org.srplib.reflection.deepcopy;
+
+/**
+ * Compiled knowledge how to copy instances of particular class.
+ *
+ * <p>
+ *     Copy is created in two steps: {@link #newCopy(Object, CopyContext)} creates an instance and copies everything
+ *     that doesn't require copying of other objects, {@link #fill(Object, Object, CopyContext)} copies referenced
+ *     objects. Split allows to register copy before its references are copied, so shared references and cycles are
+ *     preserved without recursion.
+ * </p>
+ */
+abstract class CopyPlan {
+
+    /**
+     * Checks if instances are immutable and original is used instead of copy.
+     *
+     * @return boolean {@code true} if instances are shared
+     */
+    boolean isShared() {
+        return false;
+    }
+
+    /**
+     * Checks if copy created by {@link #newCopy(Object, CopyContext)} is complete and
+     * {@link #fill(Object, Object, CopyContext)} has nothing to do.
+     *
+     * @return boolean {@code true} if copy doesn't reference copies of other objects
+     */
+    boolean isShallow() {
+        return false;
+    }
+
+    /**
+     * Creates copy of specified object. References to other (mutable) objects are not copied.
+     *
+     * <p>
+     *     Plans which can't create an instance without its references (immutable singleton collections) copy them
+     *     by context. Copy of original is not registered yet, so it's allowed only if {@code newCopy} of references
+     *     can't lead back to original (other plans copy references in {@code fill}).
+     * </p>
+     *
+     * @param original Object an object to copy
+     * @param context CopyContext current copy operation
+     * @return Object new copy
+     */
+    abstract Object newCopy(Object original, CopyContext context);
+
+    /**
+     * Sets copies of objects referenced by original to copy.
+     *
+     * @param original Object original object
+     * @param copy Object copy created by {@link #newCopy(Object, CopyContext)}
+     * @param context CopyContext current copy operation
+     */
+    void fill(Object original, Object copy, CopyContext context) {
+    }
+
+}
@@ -0,0 +1,253 @@
+package org.srplib.reflection.deepcopy;
+
+import java.io.File;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import static java.util.Arrays.asList;
+
+import org.srplib.contract.Argument;
+import org.srplib.reflection.ReflectionException;
+import org.srplib.reflection.Types;
+
+/**
+ * Creates deep copies of object graphs.
+ *
+ * <p>
+ *     Copy plan is compiled once per class and cached: immutable objects (strings, wrappers, enums, {@code java.time}
+ *     values and so on) are shared by original and copy, primitive arrays are copied by {@link System#arraycopy},
+ *     objects are instantiated by Objenesis and copied field by field using
+ *     {@link org.srplib.reflection.FieldAccessor}s (primitive fields and fields of immutable types don't require
+ *     further copying), collections and maps are rebuilt (pre-sized for standard JDK classes) from copies of their
+ *     elements.
+ * </p>
+ *
+ * <p>
+ *     Every object is copied once, so shared references and cycles of original graph are reproduced by copy. Graph
+ *     is copied without recursion, so depth of graph is not limited by stack size.
+ * </p>
+ *
+ * <pre>
+ *     DeepCopier copier = new DeepCopier().immutable(Money.class);
+ *     Order copy = copier.copy(order);
+ * </pre>
+ *
+ * <p>
+ *     Collections and maps are always rebuilt as instances of the same class from copies of their elements (see
+ *     {@link ContainerFactory}); their other fields are not copied. Classes which fields are not accessible (JDK
+ *     classes on Java 9+ without {@code --add-opens}) and which have public {@code clone()} method are cloned. Other
+ *     such classes can't be copied unless registered as immutable.
+ * </p>
+ *
+ * <p>Copier is thread safe. Register immutable classes before copying.</p>
+ */
+public class DeepCopier {
+
+    private static final Set<Class<?>> STANDARD_IMMUTABLE_TYPES = new HashSet<>(asList(
+        String.class,
+        BigInteger.class,
+        BigDecimal.class,
+        Class.class,
+        UUID.class,
+        Locale.class,
+        Currency.class,
+        Pattern.class,
+        URI.class,
+        URL.class,
+        File.class,
+        Instant.class,
+        Duration.class,
+        Period.class,
+        LocalDate.class,
+        LocalTime.class,
+        LocalDateTime.class,
+        OffsetTime.class,
+        OffsetDateTime.class,
+        ZonedDateTime.class,
+        Year.class,
+        YearMonth.class,
+        MonthDay.class
+    ));
+
+    private final Set<Class<?>> immutableTypes = ConcurrentHashMap.newKeySet();
+
+    private final ClassValue<CopyPlan> plans = new ClassValue<CopyPlan>() {
+        @Override
+        protected CopyPlan computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    /**
+     * Creates copier sharing instances of standard immutable classes.
+     */
+    public DeepCopier() {
+        immutableTypes.addAll(STANDARD_IMMUTABLE_TYPES);
+    }
+
+    /**
+     * Registers classes which instances are immutable. Instances of registered classes are not copied.
+     *
+     * <p>Subclasses of registered classes are not considered immutable.</p>
+     *
+     * @param types Class immutable classes
+     * @return this copier
+     */
+    public DeepCopier immutable(Class<?>... types) {
+        Argument.checkNotNull(types, "types must not be null!");
+
+        for (Class<?> type : types) {
+            Argument.checkNotNull(type, "type must not be null!");
+            immutableTypes.add(type);
+            plans.remove(type);
+        }
+        return this;
+    }
+
+    /**
+     * Creates deep copy of specified object.
+     *
+     * @param object Object an object to copy
+     * @return copy of object, object itself if it is immutable or {@code null} if object is {@code null}
+     * @throws ReflectionException if graph contains object which can't be copied
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T copy(T object) {
+        return (T) new CopyContext(this).copy(object);
+    }
+
+    /**
+     * Checks if instances of specified class are immutable.
+     *
+     * @param type Class a class
+     * @return boolean {@code true} if instances are shared rather than copied
+     */
+    public boolean isImmutable(Class<?> type) {
+        Argument.checkNotNull(type, "type must not be null!");
+
+        return getPlan(type).isShared();
+    }
+
+    CopyPlan getPlan(Class<?> type) {
+        return plans.get(type);
+    }
+
+    /**
+     * Checks if any value of field of specified type is immutable: field type is immutable final class or enum.
+     */
+    boolean isImmutableFieldType(Class<?> type) {
+        return Enum.class.isAssignableFrom(type) ||
+            Modifier.isFinal(type.getModifiers()) && isImmutableType(type);
+    }
+
+    private boolean isImmutableType(Class<?> type) {
+        return
+            immutableTypes.contains(type) ||
+                Types.isWrapper(type) ||
+                Enum.class.isAssignableFrom(type) ||
+                ZoneId.class.isAssignableFrom(type) ||
+                // lambdas
+                type.isSynthetic();
+    }
+
+    private CopyPlan compile(Class<?> type) {
+        if (isImmutableType(type)) {
+            return SharedCopyPlan.INSTANCE;
+        }
+        if (type.isArray()) {
+            Class<?> componentType = type.getComponentType();
+            return new ArrayCopyPlan(componentType, componentType.isPrimitive() || isImmutableFieldType(componentType));
+        }
+
+        if (Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)) {
+            return newContainerPlan(type);
+        }
+
+        CopyPlan fieldsPlan = newFieldsPlan(type);
+        if (fieldsPlan != null) {
+            return fieldsPlan;
+        }
+        CopyPlan clonePlan = CloneCopyPlan.find(type);
+        if (clonePlan != null) {
+            return clonePlan;
+        }
+
+        throw new ReflectionException(String.format("Can't copy instance of class '%s'. Its fields are not accessible. "
+            + "Register class as immutable or open its package to srplib.", type.getName()));
+    }
+
+    /**
+     * Returns plan rebuilding collection (map) from its elements. Internals of container (e.g. cached hashes of
+     * hash map entries) are never copied as is: they may depend on identity of original elements.
+     *
+     * <p>
+     *     Private JDK containers (unmodifiable wrappers, {@code Arrays.asList} lists etc.) are rebuilt by public
+     *     factories (see {@link JdkContainerPlans}). Other private JDK classes (e.g. views of maps) are copied field
+     *     by field if their fields are accessible: views reference their backing containers which are rebuilt.
+     * </p>
+     */
+    private CopyPlan newContainerPlan(Class<?> type) {
+        // Clone of container is shallow, but elements of enum set are immutable.
+        if (EnumSet.class.isAssignableFrom(type)) {
+            return CloneCopyPlan.find(type);
+        }
+        CopyPlan jdkPlan = JdkContainerPlans.find(type);
+        if (jdkPlan != null) {
+            return jdkPlan;
+        }
+
+        ContainerFactory factory = ContainerFactory.find(type);
+        if (factory == null) {
+            CopyPlan fieldsPlan = type.getName().startsWith("java.") ? newFieldsPlan(type) : null;
+            if (fieldsPlan != null) {
+                return fieldsPlan;
+            }
+            throw new ReflectionException(String.format("Can't copy instance of class '%s'. Class has no accessible "
+                + "no-arg constructor (or constructor accepting comparator for sorted collections).", type.getName()));
+        }
+        if (Map.class.isAssignableFrom(type)) {
+            return new MapCopyPlan(factory);
+        }
+        boolean ordered = List.class.isAssignableFrom(type) || Deque.class.isAssignableFrom(type);
+        return new CollectionCopyPlan(factory, ordered);
+    }
+
+    private CopyPlan newFieldsPlan(Class<?> type) {
+        try {
+            return new FieldsCopyPlan(type, this);
+        }
+        catch (RuntimeException e) {
+            // Fields are not accessible.
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+package org.srplib.reflection.deepcopy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.objenesis.ObjenesisHelper;
+import org.objenesis.instantiator.ObjectInstantiator;
+import org.srplib.reflection.ClassMetadata;
+import org.srplib.reflection.FieldAccessor;
+import org.srplib.reflection.FieldMetadata;
+
+/**
+ * Plan for classes copied field by field.
+ *
+ * <p>
+ *     Instance is created by Objenesis (no constructor is called). Fields are split once: primitive fields are copied
+ *     by unboxed accessors, fields which values are always immutable are copied as is and only remaining reference
+ *     fields are copied deeply.
+ * </p>
+ */
+final class FieldsCopyPlan extends CopyPlan {
+
+    private static final FieldAccessor[] NO_FIELDS = new FieldAccessor[0];
+
+    private final ObjectInstantiator<?> instantiator;
+
+    private final FieldAccessor[] intFields;
+
+    private final FieldAccessor[] longFields;
+
+    private final FieldAccessor[] doubleFields;
+
+    private final FieldAccessor[] booleanFields;
+
+    /**
+     * Fields of other primitive types and of immutable types. Values are copied as is.
+     */
+    private final FieldAccessor[] sharedFields;
+
+    private final FieldAccessor[] copiedFields;
+
+    /**
+     * Creates plan for specified class.
+     *
+     * @param type Class a class
+     * @param copier DeepCopier copier deciding which types are immutable
+     * @throws RuntimeException if any field is not accessible
+     */
+    FieldsCopyPlan(Class<?> type, DeepCopier copier) {
+        List<FieldAccessor> ints = new ArrayList<>();
+        List<FieldAccessor> longs = new ArrayList<>();
+        List<FieldAccessor> doubles = new ArrayList<>();
+        List<FieldAccessor> booleans = new ArrayList<>();
+        List<FieldAccessor> shared = new ArrayList<>();
+        List<FieldAccessor> copied = new ArrayList<>();
+
+        for (FieldMetadata field : ClassMetadata.of(type).getInstanceFields()) {
+            FieldAccessor accessor = field.getAccessor();
+            Class<?> fieldType = field.getType();
+            if (fieldType == int.class) {
+                ints.add(accessor);
+            }
+            else if (fieldType == long.class) {
+                longs.add(accessor);
+            }
+            else if (fieldType == double.class) {
+                doubles.add(accessor);
+            }
+            else if (fieldType == boolean.class) {
+                booleans.add(accessor);
+            }
+            else if (fieldType.isPrimitive() || copier.isImmutableFieldType(fieldType)) {
+                shared.add(accessor);
+            }
+            else {
+                copied.add(accessor);
+            }
+        }
+
+        this.instantiator = ObjenesisHelper.getInstantiatorOf(type);
+        this.intFields = toArray(ints);
+        this.longFields = toArray(longs);
+        this.doubleFields = toArray(doubles);
+        this.booleanFields = toArray(booleans);
+        this.sharedFields = toArray(shared);
+        this.copiedFields = toArray(copied);
+    }
+
+    @Override
+    boolean isShallow() {
+        return copiedFields.length == 0;
+    }
+
+    @Override
+    Object newCopy(Object original, CopyContext context) {
+        Object copy = instantiator.newInstance();
+        for (FieldAccessor field : intFields) {
+            field.setInt(copy, field.getInt(original));
+        }
+        for (FieldAccessor field : longFields) {
+            field.setLong(copy, field.getLong(original));
+        }
+        for (FieldAccessor field : doubleFields) {
+            field.setDouble(copy, field.getDouble(original));
+        }
+        for (FieldAccessor field : booleanFields) {
+            field.setBoolean(copy, field.getBoolean(original));
+        }
+        for (FieldAccessor field : sharedFields) {
+            field.set(copy, field.get(original));
+        }
+        return copy;
+    }
+
+    @Override
+    void fill(Object original, Object copy, CopyContext context) {
+        for (FieldAccessor field : copiedFields) {
+            field.set(copy, context.copyOf(field.get(original)));
+        }
+    }
+
+    private static FieldAccessor[] toArray(List<FieldAccessor> fields) {
+        return fields.isEmpty() ? NO_FIELDS : fields.toArray(new FieldAccessor[fields.size()]);
+    }
+
+}
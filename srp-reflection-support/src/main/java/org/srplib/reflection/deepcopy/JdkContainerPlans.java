@@ -0,0 +1,340 @@
+package org.srplib.reflection.deepcopy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Plans for private JDK containers which have no accessible constructors: lists returned by
+ * {@link Arrays#asList(Object[])}, empty and singleton collections, unmodifiable and synchronized wrappers, key sets
+ * of maps.
+ *
+ * <p>
+ *     Containers are rebuilt by public factories from copies of their elements. Wrappers and views are created
+ *     around new standard container (see {@link ContainerFactory}) which is filled like any other one.
+ * </p>
+ */
+final class JdkContainerPlans {
+
+    /**
+     * Plan for {@code Arrays.asList} lists: fixed size list backed by new array.
+     */
+    private static final CopyPlan ARRAY_LIST = new CopyPlan() {
+        @Override
+        Object newCopy(Object original, CopyContext context) {
+            return Arrays.asList(new Object[((List) original).size()]);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void fill(Object original, Object copy, CopyContext context) {
+            List<Object> source = (List<Object>) original;
+            List<Object> target = (List<Object>) copy;
+            for (int i = 0; i < source.size(); i++) {
+                target.set(i, context.copyOf(source.get(i)));
+            }
+        }
+    };
+
+    private static final CopyPlan SINGLETON_LIST = new CopyPlan() {
+        @Override
+        boolean isShallow() {
+            return true;
+        }
+
+        @Override
+        Object newCopy(Object original, CopyContext context) {
+            Object element = ((List) original).get(0);
+            Object copy = context.copyOf(element);
+            return copy == element ? original : Collections.singletonList(copy);
+        }
+    };
+
+    private static final CopyPlan SINGLETON_SET = new CopyPlan() {
+        @Override
+        boolean isShallow() {
+            return true;
+        }
+
+        @Override
+        Object newCopy(Object original, CopyContext context) {
+            Object element = ((Set) original).iterator().next();
+            Object copy = context.copyOf(element);
+            return copy == element ? original : Collections.singleton(copy);
+        }
+    };
+
+    private static final CopyPlan SINGLETON_MAP = new CopyPlan() {
+        @Override
+        boolean isShallow() {
+            return true;
+        }
+
+        @Override
+        Object newCopy(Object original, CopyContext context) {
+            Map.Entry<?, ?> entry = ((Map<?, ?>) original).entrySet().iterator().next();
+            Object key = context.copyOf(entry.getKey());
+            Object value = context.copyOf(entry.getValue());
+            return key == entry.getKey() && value == entry.getValue()
+                ? original
+                : Collections.singletonMap(key, value);
+        }
+    };
+
+    private static final Map<Class<?>, CopyPlan> PLANS = new HashMap<>();
+
+    static {
+        PLANS.put(Collections.emptyList().getClass(), SharedCopyPlan.INSTANCE);
+        PLANS.put(Collections.emptySet().getClass(), SharedCopyPlan.INSTANCE);
+        PLANS.put(Collections.emptyMap().getClass(), SharedCopyPlan.INSTANCE);
+        PLANS.put(Collections.emptySortedSet().getClass(), SharedCopyPlan.INSTANCE);
+        PLANS.put(Collections.emptySortedMap().getClass(), SharedCopyPlan.INSTANCE);
+
+        PLANS.put(Arrays.asList().getClass(), ARRAY_LIST);
+        PLANS.put(Collections.singletonList(null).getClass(), SINGLETON_LIST);
+        PLANS.put(Collections.singleton(null).getClass(), SINGLETON_SET);
+        PLANS.put(Collections.singletonMap(null, null).getClass(), SINGLETON_MAP);
+
+        PLANS.put(Collections.unmodifiableCollection(new ArrayList<>()).getClass(),
+            new WrapperCopyPlan(ArrayList.class) {
+                @Override
+                Object wrap(Object container) {
+                    return Collections.unmodifiableCollection((Collection<?>) container);
+                }
+            });
+        PLANS.put(Collections.unmodifiableList(new ArrayList<>()).getClass(), new WrapperCopyPlan(ArrayList.class) {
+            @Override
+            Object wrap(Object container) {
+                return Collections.unmodifiableList((List<?>) container);
+            }
+        });
+        PLANS.put(Collections.unmodifiableList(new LinkedList<>()).getClass(), new WrapperCopyPlan(LinkedList.class) {
+            @Override
+            Object wrap(Object container) {
+                return Collections.unmodifiableList((List<?>) container);
+            }
+        });
+        PLANS.put(Collections.unmodifiableSet(new HashSet<>()).getClass(), new WrapperCopyPlan(LinkedHashSet.class) {
+            @Override
+            Object wrap(Object container) {
+                return Collections.unmodifiableSet((Set<?>) container);
+            }
+        });
+        PLANS.put(Collections.unmodifiableSortedSet(new TreeSet<>()).getClass(), new WrapperCopyPlan(TreeSet.class) {
+            @Override
+            Object wrap(Object container) {
+                return Collections.unmodifiableSortedSet((SortedSet<?>) container);
+            }
+        });
+        PLANS.put(Collections.unmodifiableNavigableSet(new TreeSet<>()).getClass(),
+            new WrapperCopyPlan(TreeSet.class) {
+                @Override
+                Object wrap(Object container) {
+                    return Collections.unmodifiableNavigableSet((NavigableSet<?>) container);
+                }
+            });
+        PLANS.put(Collections.unmodifiableMap(new HashMap<>()).getClass(), new WrapperCopyPlan(LinkedHashMap.class) {
+            @Override
+            Object wrap(Object container) {
+                return Collections.unmodifiableMap((Map<?, ?>) container);
+            }
+        });
+        PLANS.put(Collections.unmodifiableSortedMap(new TreeMap<>()).getClass(), new WrapperCopyPlan(TreeMap.class) {
+            @Override
+            Object wrap(Object container) {
+                return Collections.unmodifiableSortedMap((SortedMap<?, ?>) container);
+            }
+        });
+        PLANS.put(Collections.unmodifiableNavigableMap(new TreeMap<>()).getClass(),
+            new WrapperCopyPlan(TreeMap.class) {
+                @Override
+                Object wrap(Object container) {
+                    return Collections.unmodifiableNavigableMap((NavigableMap<?, ?>) container);
+                }
+            });
+
+        PLANS.put(Collections.synchronizedCollection(new ArrayList<>()).getClass(),
+            new WrapperCopyPlan(ArrayList.class) {
+                @Override
+                Object wrap(Object container) {
+                    return Collections.synchronizedCollection((Collection<?>) container);
+                }
+            });
+        PLANS.put(Collections.synchronizedList(new ArrayList<>()).getClass(), new WrapperCopyPlan(ArrayList.class) {
+            @Override
+            Object wrap(Object container) {
+                return Collections.synchronizedList((List<?>) container);
+            }
+        });
+        PLANS.put(Collections.synchronizedList(new LinkedList<>()).getClass(), new WrapperCopyPlan(LinkedList.class) {
+            @Override
+            Object wrap(Object container) {
+                return Collections.synchronizedList((List<?>) container);
+            }
+        });
+        PLANS.put(Collections.synchronizedSet(new HashSet<>()).getClass(), new WrapperCopyPlan(LinkedHashSet.class) {
+            @Override
+            Object wrap(Object container) {
+                return Collections.synchronizedSet((Set<?>) container);
+            }
+        });
+        PLANS.put(Collections.synchronizedSortedSet(new TreeSet<>()).getClass(), new WrapperCopyPlan(TreeSet.class) {
+            @Override
+            Object wrap(Object container) {
+                return Collections.synchronizedSortedSet((SortedSet<?>) container);
+            }
+        });
+        PLANS.put(Collections.synchronizedNavigableSet(new TreeSet<>()).getClass(),
+            new WrapperCopyPlan(TreeSet.class) {
+                @Override
+                Object wrap(Object container) {
+                    return Collections.synchronizedNavigableSet((NavigableSet<?>) container);
+                }
+            });
+        PLANS.put(Collections.synchronizedMap(new HashMap<>()).getClass(), new WrapperCopyPlan(LinkedHashMap.class) {
+            @Override
+            Object wrap(Object container) {
+                return Collections.synchronizedMap((Map<?, ?>) container);
+            }
+        });
+        PLANS.put(Collections.synchronizedSortedMap(new TreeMap<>()).getClass(), new WrapperCopyPlan(TreeMap.class) {
+            @Override
+            Object wrap(Object container) {
+                return Collections.synchronizedSortedMap((SortedMap<?, ?>) container);
+            }
+        });
+        PLANS.put(Collections.synchronizedNavigableMap(new TreeMap<>()).getClass(),
+            new WrapperCopyPlan(TreeMap.class) {
+                @Override
+                Object wrap(Object container) {
+                    return Collections.synchronizedNavigableMap((NavigableMap<?, ?>) container);
+                }
+            });
+
+        PLANS.put(new HashMap<>().keySet().getClass(), new KeySetCopyPlan(HashMap.class));
+        PLANS.put(new LinkedHashMap<>().keySet().getClass(), new KeySetCopyPlan(LinkedHashMap.class));
+        PLANS.put(new TreeMap<>().keySet().getClass(), new KeySetCopyPlan(TreeMap.class));
+    }
+
+    private JdkContainerPlans() {
+    }
+
+    /**
+     * Returns plan of private JDK container class.
+     *
+     * @param type Class collection or map class
+     * @return CopyPlan plan or {@code null} if class is not supported
+     */
+    static CopyPlan find(Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    /**
+     * Plan for wrappers of collections (maps): wrapper of the same kind is created around new standard container
+     * which is filled by copies of elements of original.
+     */
+    private abstract static class WrapperCopyPlan extends CopyPlan {
+
+        private final ContainerFactory factory;
+
+        private final CopyPlan containerPlan;
+
+        WrapperCopyPlan(Class<?> containerType) {
+            factory = ContainerFactory.findStandard(containerType);
+            containerPlan = Map.class.isAssignableFrom(containerType)
+                ? new MapCopyPlan(factory)
+                : new CollectionCopyPlan(factory, List.class.isAssignableFrom(containerType));
+        }
+
+        @Override
+        boolean isShallow() {
+            return true;
+        }
+
+        @Override
+        Object newCopy(Object original, CopyContext context) {
+            int size = original instanceof Map ? ((Map) original).size() : ((Collection) original).size();
+            Object container = factory.create(original, size);
+            context.fill(containerPlan, original, container);
+            return wrap(container);
+        }
+
+        /**
+         * Wraps container.
+         *
+         * @param container Object new collection or map
+         * @return Object wrapper
+         */
+        abstract Object wrap(Object container);
+
+    }
+
+    /**
+     * Plan for key sets of maps: copy is key set of new map filled by copies of keys of original.
+     */
+    private static final class KeySetCopyPlan extends CopyPlan {
+
+        private final ContainerFactory factory;
+
+        KeySetCopyPlan(Class<?> mapType) {
+            // Key set of sorted map is sorted set, but factory of sorted map expects sorted map.
+            factory = !SortedMap.class.isAssignableFrom(mapType) ? ContainerFactory.findStandard(mapType)
+                : new ContainerFactory() {
+                    @Override
+                    Object create(Object original, int size) {
+                        return new TreeMap<>(((SortedSet) original).comparator());
+                    }
+                };
+        }
+
+        @Override
+        boolean isShallow() {
+            return true;
+        }
+
+        @Override
+        Object newCopy(Object original, CopyContext context) {
+            Map<?, ?> map = (Map<?, ?>) factory.create(original, ((Set) original).size());
+            // Copy is filled by this plan through its map.
+            context.fill(this, original, map);
+            return map.keySet();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void fill(Object original, Object copy, CopyContext context) {
+            Object[] keys = ((Set) original).toArray();
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = context.copyOf(keys[i]);
+            }
+
+            final Map<Object, Object> target = (Map<Object, Object>) copy;
+            final List<Object> copies = Arrays.asList(keys);
+            context.defer(new Runnable() {
+                @Override
+                public void run() {
+                    for (Object key : copies) {
+                        target.put(key, Boolean.TRUE);
+                    }
+                }
+            });
+        }
+
+    }
+
+}
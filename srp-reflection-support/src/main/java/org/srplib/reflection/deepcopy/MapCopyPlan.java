@@ -0,0 +1,51 @@
+package org.srplib.reflection.deepcopy;
+
+import java.util.Map;
+
+/**
+ * Plan for maps: copy is created empty (pre-sized for standard JDK classes) and filled by copies of keys and values.
+ *
+ * <p>
+ *     Maps hash or compare their keys, so copy is filled when all copies are complete (see
+ *     {@link CopyContext#defer(Runnable)}).
+ * </p>
+ */
+final class MapCopyPlan extends CopyPlan {
+
+    private final ContainerFactory factory;
+
+    MapCopyPlan(ContainerFactory factory) {
+        this.factory = factory;
+    }
+
+    @Override
+    Object newCopy(Object original, CopyContext context) {
+        return factory.create(original, ((Map) original).size());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    void fill(Object original, Object copy, CopyContext context) {
+        Map<?, ?> source = (Map<?, ?>) original;
+        final Object[] keys = new Object[source.size()];
+        final Object[] values = new Object[keys.length];
+        int index = 0;
+        for (Map.Entry<?, ?> entry : source.entrySet()) {
+            keys[index] = context.copyOf(entry.getKey());
+            values[index] = context.copyOf(entry.getValue());
+            index++;
+        }
+
+        final Map<Object, Object> target = (Map<Object, Object>) copy;
+        final int size = index;
+        context.defer(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < size; i++) {
+                    target.put(keys[i], values[i]);
+                }
+            }
+        });
+    }
+
+}
@@ -0,0 +1,23 @@
+package org.srplib.reflection.deepcopy;
+
+/**
+ * Plan for immutable classes: original is shared by copies.
+ */
+final class SharedCopyPlan extends CopyPlan {
+
+    static final CopyPlan INSTANCE = new SharedCopyPlan();
+
+    private SharedCopyPlan() {
+    }
+
+    @Override
+    boolean isShared() {
+        return true;
+    }
+
+    @Override
+    Object newCopy(Object original, CopyContext context) {
+        return original;
+    }
+
+}
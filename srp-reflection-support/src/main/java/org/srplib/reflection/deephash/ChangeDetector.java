@@ -0,0 +1,92 @@
+package org.srplib.reflection.deephash;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.srplib.contract.Argument;
+
+/**
+ * Detects changes of object graphs (e.g. entities) identified by keys.
+ *
+ * <p>
+ *     Detector stores fingerprint of the last seen version of each graph instead of the graph itself, so a batch of
+ *     entities is checked without holding their previous versions and unchanged ones may be skipped.
+ * </p>
+ *
+ * <pre>
+ *     for (Order order : orders) {
+ *         if (detector.update(order.getId(), order)) {
+ *             publish(order);
+ *         }
+ *     }
+ * </pre>
+ *
+ * <p>Detector is thread safe.</p>
+ */
+public class ChangeDetector<K> {
+
+    private final ConcurrentMap<K, Fingerprint> fingerprints = new ConcurrentHashMap<>();
+
+    private final ConfigurableDeepHasher hasher;
+
+    /**
+     * Constructor.
+     *
+     * @param hasher ConfigurableDeepHasher hasher computing fingerprints
+     */
+    public ChangeDetector(ConfigurableDeepHasher hasher) {
+        Argument.checkNotNull(hasher, "hasher must not be null!");
+
+        this.hasher = hasher;
+    }
+
+    /**
+     * Constructs detector with default hasher configuration.
+     */
+    public ChangeDetector() {
+        this(new ConfigurableDeepHasher());
+    }
+
+    /**
+     * Stores fingerprint of current version of graph and checks if it differs from fingerprint of previous one.
+     *
+     * @param key K graph key
+     * @param graph Object current version of graph
+     * @return boolean {@code true} if graph is new or changed
+     */
+    public boolean update(K key, Object graph) {
+        Argument.checkNotNull(key, "key must not be null!");
+
+        Fingerprint fingerprint = hasher.fingerprint(graph);
+        return !fingerprint.equals(fingerprints.put(key, fingerprint));
+    }
+
+    /**
+     * Returns fingerprint of the last seen version of graph.
+     *
+     * @param key K graph key
+     * @return Fingerprint fingerprint or {@code null} if graph was not seen
+     */
+    public Fingerprint get(K key) {
+        return fingerprints.get(key);
+    }
+
+    /**
+     * Forgets graph.
+     *
+     * @param key K graph key
+     */
+    public void remove(K key) {
+        fingerprints.remove(key);
+    }
+
+    /**
+     * Returns number of remembered graphs.
+     *
+     * @return int number of graphs
+     */
+    public int size() {
+        return fingerprints.size();
+    }
+
+}
@@ -0,0 +1,72 @@
+package org.srplib.reflection.deephash;
+
+import org.srplib.contract.Argument;
+import org.srplib.reflection.deephash.support.StandardHasherConfiguration;
+
+/**
+ * Computes structural digests (fingerprints) of object graphs.
+ *
+ * <p>
+ *     Digest of an object is computed by {@link DeepHasher} chosen by {@link DeepHasherConfiguration} for object class
+ *     (the same way {@link org.srplib.reflection.deepcompare.ConfigurableDeepComparator} chooses comparators), so
+ *     graphs of the same structure and values have equal fingerprints and a change of graph is detected by comparing
+ *     fingerprint with stored one instead of comparing graph with its previous version.
+ * </p>
+ *
+ * <p>
+ *     Digest depends on structure and values only (not on identity hash codes), so it is stable across JVM runs.
+ *     Cycles are replaced by back references. Objects taking part in cycles are hashed once per path they are reached
+ *     by, other objects are hashed once. Hashing is recursive: depth of graph is limited by stack size.
+ * </p>
+ *
+ * <pre>
+ *     Fingerprint fingerprint = new ConfigurableDeepHasher().fingerprint(order);
+ * </pre>
+ *
+ * <p>Hasher is thread safe if its configuration is.</p>
+ *
+ * @see ChangeDetector
+ */
+public class ConfigurableDeepHasher {
+
+    private final DeepHasherConfiguration configuration;
+
+    /**
+     * Constructor.
+     *
+     * @param configuration DeepHasherConfiguration class to hasher registry.
+     */
+    public ConfigurableDeepHasher(DeepHasherConfiguration configuration) {
+        Argument.checkNotNull(configuration, "configuration must not be null!");
+
+        this.configuration = configuration;
+    }
+
+    /**
+     * Constructs hasher with default configuration.
+     */
+    public ConfigurableDeepHasher() {
+        this(new StandardHasherConfiguration());
+    }
+
+    /**
+     * Computes 128-bit digest of object graph.
+     *
+     * @param object Object root object (nullable)
+     * @return Fingerprint digest
+     */
+    public Fingerprint fingerprint(Object object) {
+        return new DeepHashContextImpl(configuration).digest(object);
+    }
+
+    /**
+     * Computes 64-bit digest of object graph.
+     *
+     * @param object Object root object (nullable)
+     * @return long digest
+     */
+    public long hash(Object object) {
+        return fingerprint(object).asLong();
+    }
+
+}
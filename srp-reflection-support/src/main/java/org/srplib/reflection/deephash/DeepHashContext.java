@@ -0,0 +1,53 @@
+package org.srplib.reflection.deephash;
+
+/**
+ * Deep hash context: accumulates digest of current object.
+ */
+public interface DeepHashContext {
+
+    /**
+     * Adds digest of nested object to digest of current object.
+     *
+     * @param value Object nested object (nullable)
+     */
+    void hash(Object value);
+
+    /**
+     * Adds name of nested object (field name, etc.) and its digest to digest of current object.
+     *
+     * @param value Object nested object (nullable)
+     * @param node String name of nested object
+     */
+    void hashNested(Object value, String node);
+
+    /**
+     * Computes digest of nested object without adding it to digest of current object. Used to combine digests of
+     * elements of unordered containers.
+     *
+     * @param value Object nested object (nullable)
+     * @return Fingerprint digest of nested object
+     */
+    Fingerprint digest(Object value);
+
+    /**
+     * Adds value to digest of current object.
+     *
+     * @param value long a value
+     */
+    void putLong(long value);
+
+    /**
+     * Adds characters of string to digest of current object.
+     *
+     * @param value String a value (not null)
+     */
+    void putString(String value);
+
+    /**
+     * Adds fingerprint to digest of current object.
+     *
+     * @param fingerprint Fingerprint a fingerprint
+     */
+    void putFingerprint(Fingerprint fingerprint);
+
+}
@@ -0,0 +1,205 @@
+package org.srplib.reflection.deephash;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.srplib.reflection.deephash.hashers.ValueDeepHasher;
+
+/**
+ * Implementation of deep hash context.
+ *
+ * <ul>
+ *     <li>Maintains digest of current object. Digest of nested object is computed separately and added to digest of
+ *     its parent.</li>
+ *
+ *     <li>Remembers digests of hashed objects, so object referenced several times is hashed once and shared object
+ *     contributes the same digest as its copy would.</li>
+ *
+ *     <li>Hashes objects taking part in cycles (strongly connected components of object graph) as a unit, so their
+ *     digests don't depend on the object the cycle was entered from. Otherwise digests of elements of unordered
+ *     containers (sets, maps) would depend on iteration order.</li>
+ * </ul>
+ *
+ * <p>
+ *     Components are found by Tarjan's algorithm while graph is hashed depth first. Digests of members of component
+ *     are computed by partition refinement: each round hashes every member with references to other members
+ *     replaced by their digests of previous round (first round replaces them by a constant). Rounds stop when they
+ *     no longer split members into more classes of equal digests. Digest of member depends on the structure of
+ *     component only and each round hashes every member once, so hashing densely cyclic graphs is polynomial.
+ * </p>
+ */
+final class DeepHashContextImpl implements DeepHashContext {
+
+    private static final Fingerprint NULL = new DigestBuilder().putLong(0x6e756c6cL).build();
+
+    private static final Fingerprint CYCLE = new DigestBuilder().putLong(0x6379636cL).build();
+
+    private final DeepHasherConfiguration configuration;
+
+    private final Map<Object, Fingerprint> digests = new IdentityHashMap<>();
+
+    /**
+     * Visited objects which component is not complete yet, in order of visit.
+     */
+    private final List<Object> stack = new ArrayList<>();
+
+    /**
+     * Objects of {@link #stack} mapped to their positions.
+     */
+    private final Map<Object, Integer> positions = new IdentityHashMap<>();
+
+    /**
+     * Minimum position of objects on stack referenced from subgraph of current object.
+     */
+    private int lowLink = Integer.MAX_VALUE;
+
+    /**
+     * Checks if current object references an object on stack.
+     */
+    private boolean cyclic;
+
+    /**
+     * Digests of members of component of previous refinement round or {@code null} if component is not refined.
+     */
+    private Map<Object, Fingerprint> labels;
+
+    private DigestBuilder builder;
+
+    DeepHashContextImpl(DeepHasherConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    @Override
+    public void hash(Object value) {
+        builder.putFingerprint(digest(value));
+    }
+
+    @Override
+    public void hashNested(Object value, String node) {
+        // String caches its hash code, which is specified and therefore stable.
+        builder.putLong(node.hashCode());
+        builder.putFingerprint(digest(value));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Fingerprint digest(Object value) {
+        if (value == null) {
+            return NULL;
+        }
+
+        DeepHasher hasher = configuration.getHasher(value.getClass());
+        if (hasher instanceof ValueDeepHasher) {
+            return compute(hasher, value);
+        }
+
+        if (labels != null && labels.containsKey(value)) {
+            return labels.get(value);
+        }
+        Fingerprint digest = digests.get(value);
+        if (digest != null) {
+            return digest;
+        }
+        Integer target = positions.get(value);
+        if (target != null) {
+            // Digest of component is computed when it's complete.
+            lowLink = Math.min(lowLink, target);
+            cyclic = true;
+            return CYCLE;
+        }
+
+        int position = stack.size();
+        int parentLowLink = lowLink;
+        boolean parentCyclic = cyclic;
+        lowLink = position;
+        cyclic = false;
+
+        stack.add(value);
+        positions.put(value, position);
+        digest = compute(hasher, value);
+
+        if (lowLink == position) {
+            // Value is the first visited member of component, the rest of the stack is the component.
+            List<Object> component = stack.subList(position, stack.size());
+            if (component.size() > 1 || cyclic) {
+                digest = refine(component).get(value);
+            }
+            else {
+                digests.put(value, digest);
+            }
+            for (Object member : component) {
+                positions.remove(member);
+            }
+            component.clear();
+        }
+
+        lowLink = Math.min(parentLowLink, lowLink);
+        cyclic = parentCyclic;
+        return digest;
+    }
+
+    @Override
+    public void putLong(long value) {
+        builder.putLong(value);
+    }
+
+    @Override
+    public void putString(String value) {
+        builder.putString(value);
+    }
+
+    @Override
+    public void putFingerprint(Fingerprint fingerprint) {
+        builder.putFingerprint(fingerprint);
+    }
+
+    /**
+     * Computes and remembers digests of members of component. Objects referenced by component outside of it are
+     * already hashed.
+     *
+     * @param component List members of component
+     * @return Map members of component mapped to their digests
+     */
+    private Map<Object, Fingerprint> refine(List<Object> component) {
+        Map<Object, Fingerprint> current = new IdentityHashMap<>();
+        for (Object member : component) {
+            current.put(member, CYCLE);
+        }
+
+        int classes = 1;
+        while (true) {
+            labels = current;
+            current = new IdentityHashMap<>();
+            for (Object member : component) {
+                current.put(member, compute(configuration.getHasher(member.getClass()), member));
+            }
+            labels = null;
+
+            int refinedClasses = new HashSet<>(current.values()).size();
+            if (refinedClasses == classes) {
+                break;
+            }
+            classes = refinedClasses;
+        }
+
+        digests.putAll(current);
+        return current;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Fingerprint compute(DeepHasher hasher, Object value) {
+        DigestBuilder parent = builder;
+        builder = new DigestBuilder();
+        try {
+            hasher.hash(value, this);
+            return builder.build();
+        }
+        finally {
+            builder = parent;
+        }
+    }
+
+}
@@ -0,0 +1,21 @@
+package org.srplib.reflection.deephash;
+
+/**
+ * Interface for deep hash function of particular class or class hierarchy.
+ *
+ * <p>
+ *     Implementation feeds state of object to context: values directly and nested objects through
+ *     {@link DeepHashContext#hash(Object)} or {@link DeepHashContext#hashNested(Object, String)}.
+ * </p>
+ */
+public interface DeepHasher<T> {
+
+    /**
+     * Feeds state of object to context.
+     *
+     * @param object T an object (not null)
+     * @param context DeepHashContext hash context
+     */
+    void hash(T object, DeepHashContext context);
+
+}
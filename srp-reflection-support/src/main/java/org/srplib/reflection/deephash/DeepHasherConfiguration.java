@@ -0,0 +1,16 @@
+package org.srplib.reflection.deephash;
+
+/**
+ * DeepHasher configuration.
+ */
+public interface DeepHasherConfiguration {
+
+    /**
+     * Returns hasher for given class.
+     *
+     * @param type Class a type
+     * @return DeepHasher a hasher for specified type
+     */
+    DeepHasher getHasher(Class type);
+
+}
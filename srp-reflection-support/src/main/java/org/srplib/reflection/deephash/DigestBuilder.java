@@ -0,0 +1,79 @@
+package org.srplib.reflection.deephash;
+
+/**
+ * Streaming 128-bit digest of sequence of 64-bit values.
+ *
+ * <p>
+ *     Mixing steps are the ones of MurmurHash3 x64 128-bit: each value is mixed into both halves of state, state
+ *     is finalized by 64-bit avalanche function. Digest depends on values and their order only, so it is stable
+ *     across JVM runs and platforms.
+ * </p>
+ */
+final class DigestBuilder {
+
+    private static final long C1 = 0x87c37b91114253d5L;
+
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private long h1 = 0x9368e53c2f6af274L;
+
+    private long h2 = 0x586dcd208f7cd3fdL;
+
+    private long length;
+
+    DigestBuilder putLong(long value) {
+        long k1 = Long.rotateLeft(value * C1, 31) * C2;
+        h1 ^= k1;
+        h1 = Long.rotateLeft(h1, 27) + h2;
+        h1 = h1 * 5 + 0x52dce729;
+
+        long k2 = Long.rotateLeft(value * C2, 33) * C1;
+        h2 ^= k2;
+        h2 = Long.rotateLeft(h2, 31) + h1;
+        h2 = h2 * 5 + 0x38495ab5;
+
+        length++;
+        return this;
+    }
+
+    DigestBuilder putString(String value) {
+        int length = value.length();
+        putLong(length);
+        // Pack 4 characters into a value.
+        for (int i = 0; i < length; i += 4) {
+            long packed = 0;
+            for (int j = i; j < i + 4 && j < length; j++) {
+                packed = packed << 16 | value.charAt(j);
+            }
+            putLong(packed);
+        }
+        return this;
+    }
+
+    DigestBuilder putFingerprint(Fingerprint fingerprint) {
+        return putLong(fingerprint.getLow()).putLong(fingerprint.getHigh());
+    }
+
+    Fingerprint build() {
+        long x1 = h1 ^ length;
+        long x2 = h2 ^ length;
+        x1 += x2;
+        x2 += x1;
+        x1 = mix(x1);
+        x2 = mix(x2);
+        x1 += x2;
+        x2 += x1;
+        return new Fingerprint(x2, x1);
+    }
+
+    private static long mix(long value) {
+        long k = value;
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+
+}
@@ -0,0 +1,98 @@
+package org.srplib.reflection.deephash;
+
+import org.srplib.contract.Argument;
+
+/**
+ * 128-bit digest of object graph.
+ *
+ * <p>
+ *     Fingerprint is stable: the same structure yields the same fingerprint in any JVM, so fingerprints may be
+ *     stored and compared later. Use {@link #toString()} and {@link #parse(String)} to store it as text.
+ * </p>
+ *
+ * @see ConfigurableDeepHasher
+ */
+public final class Fingerprint {
+
+    private static final int HEX_LENGTH = 32;
+
+    private final long high;
+
+    private final long low;
+
+    /**
+     * Creates fingerprint.
+     *
+     * @param high long high 64 bits
+     * @param low long low 64 bits
+     */
+    public Fingerprint(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * Parses fingerprint from string returned by {@link #toString()}.
+     *
+     * @param value String 32 hex digits
+     * @return Fingerprint fingerprint
+     * @throws IllegalArgumentException if value is not 32 hex digits
+     */
+    public static Fingerprint parse(String value) {
+        Argument.checkTrue(value != null && value.length() == HEX_LENGTH,
+            "Invalid fingerprint '%s'. Expected 32 hex digits.", value);
+
+        return new Fingerprint(Long.parseUnsignedLong(value.substring(0, 16), 16),
+            Long.parseUnsignedLong(value.substring(16), 16));
+    }
+
+    public long getHigh() {
+        return high;
+    }
+
+    public long getLow() {
+        return low;
+    }
+
+    /**
+     * Returns 64-bit hash: low 64 bits of fingerprint.
+     *
+     * @return long hash
+     */
+    public long asLong() {
+        return low;
+    }
+
+    /**
+     * Returns fingerprint of ordered pair of this and other fingerprint.
+     *
+     * @param other Fingerprint other fingerprint
+     * @return Fingerprint combined fingerprint
+     */
+    public Fingerprint combine(Fingerprint other) {
+        return new DigestBuilder().putFingerprint(this).putFingerprint(other).build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Fingerprint)) {
+            return false;
+        }
+        Fingerprint that = (Fingerprint) o;
+        return high == that.high && low == that.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (low ^ low >>> 32);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x%016x", high, low);
+    }
+
+}
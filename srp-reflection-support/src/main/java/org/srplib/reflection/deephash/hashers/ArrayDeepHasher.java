@@ -0,0 +1,56 @@
+package org.srplib.reflection.deephash.hashers;
+
+import java.lang.reflect.Array;
+
+import org.srplib.reflection.deephash.DeepHashContext;
+import org.srplib.reflection.deephash.DeepHasher;
+
+/**
+ * Hashes arrays: length and elements in order.
+ *
+ * <p>Elements of primitive arrays are added to digest directly without boxing.</p>
+ */
+public class ArrayDeepHasher implements DeepHasher<Object> {
+
+    @Override
+    public void hash(Object array, DeepHashContext context) {
+        Class<?> componentType = array.getClass().getComponentType();
+        context.putLong(componentType.getName().hashCode());
+        context.putLong(Array.getLength(array));
+
+        if (!componentType.isPrimitive()) {
+            for (Object element : (Object[]) array) {
+                context.hash(element);
+            }
+        }
+        else if (componentType == int.class) {
+            for (int element : (int[]) array) {
+                context.putLong(element);
+            }
+        }
+        else if (componentType == long.class) {
+            for (long element : (long[]) array) {
+                context.putLong(element);
+            }
+        }
+        else if (componentType == double.class) {
+            for (double element : (double[]) array) {
+                context.putLong(Double.doubleToLongBits(element));
+            }
+        }
+        else if (componentType == byte.class) {
+            for (byte element : (byte[]) array) {
+                context.putLong(element);
+            }
+        }
+        else if (componentType == char.class) {
+            context.putString(new String((char[]) array));
+        }
+        else {
+            for (int i = 0, length = Array.getLength(array); i < length; i++) {
+                context.hash(Array.get(array, i));
+            }
+        }
+    }
+
+}
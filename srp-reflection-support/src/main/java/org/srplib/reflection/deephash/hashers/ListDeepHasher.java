@@ -0,0 +1,21 @@
+package org.srplib.reflection.deephash.hashers;
+
+import java.util.Collection;
+
+import org.srplib.reflection.deephash.DeepHashContext;
+import org.srplib.reflection.deephash.DeepHasher;
+
+/**
+ * Hashes lists (and other ordered collections): size and elements in iteration order.
+ */
+public class ListDeepHasher implements DeepHasher<Collection> {
+
+    @Override
+    public void hash(Collection collection, DeepHashContext context) {
+        context.putLong(collection.size());
+        for (Object element : collection) {
+            context.hash(element);
+        }
+    }
+
+}
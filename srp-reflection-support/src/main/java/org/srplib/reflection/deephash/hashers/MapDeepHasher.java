@@ -0,0 +1,28 @@
+package org.srplib.reflection.deephash.hashers;
+
+import java.util.Map;
+
+import org.srplib.reflection.deephash.DeepHashContext;
+import org.srplib.reflection.deephash.DeepHasher;
+import org.srplib.reflection.deephash.Fingerprint;
+
+/**
+ * Hashes maps: size and sum of digests of (key, value) pairs, so digest doesn't depend on iteration order.
+ */
+public class MapDeepHasher implements DeepHasher<Map> {
+
+    @Override
+    public void hash(Map map, DeepHashContext context) {
+        long high = 0;
+        long low = 0;
+        for (Object entryObject : map.entrySet()) {
+            Map.Entry entry = (Map.Entry) entryObject;
+            Fingerprint digest = context.digest(entry.getKey()).combine(context.digest(entry.getValue()));
+            high += digest.getHigh();
+            low += digest.getLow();
+        }
+        context.putLong(map.size());
+        context.putFingerprint(new Fingerprint(high, low));
+    }
+
+}
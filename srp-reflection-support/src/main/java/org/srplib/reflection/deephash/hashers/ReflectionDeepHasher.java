@@ -0,0 +1,25 @@
+package org.srplib.reflection.deephash.hashers;
+
+import org.srplib.reflection.ClassMetadata;
+import org.srplib.reflection.FieldMetadata;
+import org.srplib.reflection.deephash.DeepHashContext;
+import org.srplib.reflection.deephash.DeepHasher;
+
+/**
+ * Hashes objects field by field: class name, then names and digests of instance fields.
+ *
+ * <p>Fields of hashed classes are taken from {@link ClassMetadata} cache.</p>
+ */
+public class ReflectionDeepHasher implements DeepHasher<Object> {
+
+    @Override
+    public void hash(Object object, DeepHashContext context) {
+        ClassMetadata metadata = ClassMetadata.of(object.getClass());
+
+        context.putLong(metadata.getType().getName().hashCode());
+        for (FieldMetadata field : metadata.getInstanceFields()) {
+            context.hashNested(field.getValue(object), field.getName());
+        }
+    }
+
+}
@@ -0,0 +1,27 @@
+package org.srplib.reflection.deephash.hashers;
+
+import java.util.Set;
+
+import org.srplib.reflection.deephash.DeepHashContext;
+import org.srplib.reflection.deephash.DeepHasher;
+import org.srplib.reflection.deephash.Fingerprint;
+
+/**
+ * Hashes sets: size and sum of element digests, so digest doesn't depend on iteration order.
+ */
+public class SetDeepHasher implements DeepHasher<Set> {
+
+    @Override
+    public void hash(Set set, DeepHashContext context) {
+        long high = 0;
+        long low = 0;
+        for (Object element : set) {
+            Fingerprint digest = context.digest(element);
+            high += digest.getHigh();
+            low += digest.getLow();
+        }
+        context.putLong(set.size());
+        context.putFingerprint(new Fingerprint(high, low));
+    }
+
+}
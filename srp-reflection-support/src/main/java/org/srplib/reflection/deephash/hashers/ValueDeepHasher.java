@@ -0,0 +1,82 @@
+package org.srplib.reflection.deephash.hashers;
+
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAmount;
+import java.util.Currency;
+import java.util.Date;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+import org.srplib.reflection.deephash.DeepHashContext;
+import org.srplib.reflection.deephash.DeepHasher;
+
+/**
+ * Hashes values compared by {@link Object#equals(Object)}: primitive wrappers, strings, dates, enums and numbers.
+ *
+ * <p>
+ *     Digest includes class name, so values of different classes (e.g. {@code 1} and {@code 1L}) have different
+ *     digests. Classes are hashed by name, {@code java.time} values, UUIDs, locales, currencies, URIs (URLs) and
+ *     files by their string form. Values of other classes are hashed by {@link Object#hashCode()}, which is stable
+ *     only if class overrides it.
+ * </p>
+ *
+ * <p>Values are not tracked as graph nodes: shared and equal values contribute the same digest.</p>
+ */
+public class ValueDeepHasher implements DeepHasher<Object> {
+
+    @Override
+    public void hash(Object value, DeepHashContext context) {
+        context.putLong(value.getClass().getName().hashCode());
+
+        if (value instanceof String) {
+            context.putString((String) value);
+        }
+        else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            context.putLong(((Number) value).longValue());
+        }
+        else if (value instanceof Double || value instanceof Float) {
+            context.putLong(Double.doubleToLongBits(((Number) value).doubleValue()));
+        }
+        else if (value instanceof Number) {
+            context.putString(value.toString());
+        }
+        else if (value instanceof Character) {
+            context.putLong((Character) value);
+        }
+        else if (value instanceof Boolean) {
+            context.putLong((Boolean) value ? 1 : 0);
+        }
+        else if (value instanceof Date) {
+            context.putLong(((Date) value).getTime());
+        }
+        else if (value instanceof Enum) {
+            context.putString(((Enum) value).name());
+        }
+        else if (value instanceof Class) {
+            context.putString(((Class) value).getName());
+        }
+        else if (value instanceof AtomicBoolean) {
+            context.putLong(((AtomicBoolean) value).get() ? 1 : 0);
+        }
+        else if (value instanceof Pattern) {
+            context.putString(((Pattern) value).pattern());
+            context.putLong(((Pattern) value).flags());
+        }
+        else if (value instanceof TemporalAccessor || value instanceof TemporalAmount || value instanceof ZoneId ||
+            value instanceof UUID || value instanceof Locale || value instanceof Currency || value instanceof URI ||
+            // URL.hashCode() resolves host name.
+            value instanceof URL || value instanceof File) {
+            context.putString(value.toString());
+        }
+        else {
+            context.putLong(value.hashCode());
+        }
+    }
+
+}
@@ -0,0 +1,119 @@
+package org.srplib.reflection.deephash.support;
+
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAmount;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+import org.srplib.conversion.Converter;
+import org.srplib.conversion.mapper.MatcherMapBuilder;
+import org.srplib.reflection.deepcompare.support.IsPrimitiveMatcher;
+import org.srplib.reflection.deepcompare.support.IsPrimitiveWrapperMatcher;
+import org.srplib.reflection.deephash.DeepHasher;
+import org.srplib.reflection.deephash.DeepHasherConfiguration;
+import org.srplib.reflection.deephash.hashers.ArrayDeepHasher;
+import org.srplib.reflection.deephash.hashers.ListDeepHasher;
+import org.srplib.reflection.deephash.hashers.MapDeepHasher;
+import org.srplib.reflection.deephash.hashers.ReflectionDeepHasher;
+import org.srplib.reflection.deephash.hashers.SetDeepHasher;
+import org.srplib.reflection.deephash.hashers.ValueDeepHasher;
+import static org.hamcrest.Matchers.typeCompatibleWith;
+import static org.srplib.reflection.valuefactory.factories.IsArrayMatcher.isArray;
+
+
+/**
+ * Standard hasher configuration.
+ *
+ * <p>
+ *     Mirrors {@link org.srplib.reflection.deepcompare.support.StandardConfiguration}: classes compared by equals are
+ *     hashed by value, arrays and lists by elements in order, maps by entries and other classes field by field.
+ *     Sets are hashed by digests of their elements regardless of order. Numbers (e.g. {@link java.math.BigDecimal})
+ *     are hashed by value and collections other than lists and sets by elements in iteration order.
+ * </p>
+ *
+ * <p>
+ *     Standard immutable JDK classes (classes, {@code java.time} values, UUIDs, locales etc.) are hashed by value
+ *     too: their fields are not accessible by reflection on Java 9+.
+ * </p>
+ */
+public class StandardHasherConfiguration implements DeepHasherConfiguration {
+
+    private final Converter<Class<?>, DeepHasher> hashers = MatcherMapBuilder.<Class<?>, DeepHasher>create()
+
+        .map(new IsPrimitiveMatcher(), new ValueDeepHasher())
+
+        .map(new IsPrimitiveWrapperMatcher(), new ValueDeepHasher())
+
+        .map(typeCompatibleWith(String.class), new ValueDeepHasher())
+
+        .map(typeCompatibleWith(Date.class), new ValueDeepHasher())
+
+        .map(typeCompatibleWith(Enum.class), new ValueDeepHasher())
+
+        .map(typeCompatibleWith(Number.class), new ValueDeepHasher())
+
+        .map(typeCompatibleWith(Class.class), new ValueDeepHasher())
+
+        .map(typeCompatibleWith(AtomicBoolean.class), new ValueDeepHasher())
+
+        .map(typeCompatibleWith(TemporalAccessor.class), new ValueDeepHasher())
+
+        .map(typeCompatibleWith(TemporalAmount.class), new ValueDeepHasher())
+
+        .map(typeCompatibleWith(ZoneId.class), new ValueDeepHasher())
+
+        .map(typeCompatibleWith(UUID.class), new ValueDeepHasher())
+
+        .map(typeCompatibleWith(Locale.class), new ValueDeepHasher())
+
+        .map(typeCompatibleWith(Currency.class), new ValueDeepHasher())
+
+        .map(typeCompatibleWith(URI.class), new ValueDeepHasher())
+
+        .map(typeCompatibleWith(URL.class), new ValueDeepHasher())
+
+        .map(typeCompatibleWith(File.class), new ValueDeepHasher())
+
+        .map(typeCompatibleWith(Pattern.class), new ValueDeepHasher())
+
+        .map(isArray(), new ArrayDeepHasher())
+
+        .map(typeCompatibleWith(List.class), new ListDeepHasher())
+
+        .map(typeCompatibleWith(Map.class), new MapDeepHasher())
+
+        .map(typeCompatibleWith(Set.class), new SetDeepHasher())
+
+        .map(typeCompatibleWith(Collection.class), new ListDeepHasher())
+
+        .setDefaultValue(new ReflectionDeepHasher())
+
+        .build();
+
+    /**
+     * Matchers are tested one by one, so hasher is resolved once per class.
+     */
+    private final ClassValue<DeepHasher> resolved = new ClassValue<DeepHasher>() {
+        @Override
+        protected DeepHasher computeValue(Class<?> type) {
+            return hashers.convert(type);
+        }
+    };
+
+    @Override
+    public DeepHasher getHasher(Class type) {
+        return resolved.get(type);
+    }
+}
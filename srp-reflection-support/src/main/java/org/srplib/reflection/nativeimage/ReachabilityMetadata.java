@@ -0,0 +1,138 @@
+package org.srplib.reflection.nativeimage;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.srplib.contract.Argument;
+import org.srplib.support.ExceptionUtils;
+
+/**
+ * Native image reachability metadata: set of {@link ReflectionEntry}s written as {@code reflect-config.json}.
+ *
+ * <p>Entries are sorted by class name, so output is stable and may be compared with previously generated file.</p>
+ */
+public class ReachabilityMetadata {
+
+    private static final String INDENT = "  ";
+
+    private final Map<String, ReflectionEntry> entries = new TreeMap<>();
+
+    /**
+     * Returns entry of specified class creating it if necessary.
+     *
+     * @param type Class a class
+     * @return ReflectionEntry class entry
+     */
+    public ReflectionEntry register(Class<?> type) {
+        Argument.checkNotNull(type, "type must not be null!");
+
+        ReflectionEntry entry = entries.get(type.getName());
+        if (entry == null) {
+            entry = new ReflectionEntry(type);
+            entries.put(type.getName(), entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Returns entry of specified class.
+     *
+     * @param type Class a class
+     * @return ReflectionEntry class entry or {@code null} if class is not registered
+     */
+    public ReflectionEntry find(Class<?> type) {
+        Argument.checkNotNull(type, "type must not be null!");
+
+        return entries.get(type.getName());
+    }
+
+    /**
+     * Returns all entries sorted by class name.
+     *
+     * @return unmodifiable collection of entries
+     */
+    public Collection<ReflectionEntry> getEntries() {
+        return Collections.unmodifiableCollection(entries.values());
+    }
+
+    /**
+     * Writes metadata in {@code reflect-config.json} format.
+     *
+     * @param writer Writer output
+     * @throws IOException if writer throws it
+     */
+    public void writeTo(Writer writer) throws IOException {
+        Argument.checkNotNull(writer, "writer must not be null!");
+
+        writer.write("[");
+        String separator = "\n";
+        for (ReflectionEntry entry : entries.values()) {
+            writer.write(separator);
+            writeEntry(entry, writer);
+            separator = ",\n";
+        }
+        writer.write("\n]\n");
+    }
+
+    /**
+     * Returns metadata in {@code reflect-config.json} format.
+     *
+     * @return String json
+     */
+    public String toJson() {
+        StringWriter writer = new StringWriter();
+        try {
+            writeTo(writer);
+        }
+        catch (IOException e) {
+            throw ExceptionUtils.asUnchecked(e);
+        }
+        return writer.toString();
+    }
+
+    private void writeEntry(ReflectionEntry entry, Writer writer) throws IOException {
+        writer.write(INDENT + "{\n");
+        writer.write(INDENT + INDENT + "\"name\": " + quote(entry.getName()));
+        if (entry.isAllDeclaredFields()) {
+            writer.write(",\n" + INDENT + INDENT + "\"allDeclaredFields\": true");
+        }
+        if (entry.isUnsafeAllocated()) {
+            writer.write(",\n" + INDENT + INDENT + "\"unsafeAllocated\": true");
+        }
+        if (!entry.getMethods().isEmpty()) {
+            writer.write(",\n" + INDENT + INDENT + "\"methods\": [");
+            String separator = "\n";
+            for (Map.Entry<String, List<String>> method : entry.getMethods().entrySet()) {
+                writer.write(separator + INDENT + INDENT + INDENT + "{\"name\": "
+                    + quote(ReflectionEntry.getMethodName(method.getKey()))
+                    + ", \"parameterTypes\": " + toJsonArray(method.getValue()) + "}");
+                separator = ",\n";
+            }
+            writer.write("\n" + INDENT + INDENT + "]");
+        }
+        writer.write("\n" + INDENT + "}");
+    }
+
+    private static String toJsonArray(List<String> values) {
+        StringBuilder result = new StringBuilder("[");
+        for (int i = 0; i < values.size(); i++) {
+            result.append(i == 0 ? "" : ", ").append(quote(values.get(i)));
+        }
+        return result.append("]").toString();
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    @Override
+    public String toString() {
+        return "ReachabilityMetadata{" + entries.keySet() + "}";
+    }
+}
@@ -0,0 +1,178 @@
+package org.srplib.reflection.nativeimage;
+
+import java.lang.reflect.Modifier;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.srplib.contract.Argument;
+import org.srplib.reflection.BeanAccessors;
+import org.srplib.reflection.ReflectionUtils;
+import org.srplib.reflection.classgraph.ClassGraph;
+import org.srplib.reflection.classgraph.ClassGraphNode;
+import org.srplib.reflection.classgraph.ClassGraphVisitor;
+import org.srplib.reflection.classgraph.TraversableNodesFilter;
+import org.srplib.reflection.objectgraph.StandardTraversableClassesFilter;
+import org.srplib.reflection.valuefactory.TypeMeta;
+import org.srplib.support.Predicate;
+import org.srplib.visitor.NodePath;
+
+/**
+ * Class graph visitor collecting reflection metadata required by srplib to work with visited classes in native image.
+ *
+ * <p>For each class of the graph the following is registered:</p>
+ * <ul>
+ *     <li>traversable classes and their superclasses: all declared fields ({@link ClassGraph}, {@code ReflectionUtils}
+ *     field access, {@code ObjectGraph}, deep comparison)</li>
+ *
+ *     <li>instantiable traversable classes (including collections and maps): instantiation without constructor
+ *     (Objenesis used by {@code ReflectionValueFactory}) and no-arg constructor if declared
+ *     ({@code ReflectionUtils.newInstance})</li>
+ *
+ *     <li>enums: {@code values()} method ({@link Class#getEnumConstants()})</li>
+ *
+ *     <li>arrays: array class itself ({@code Array.newInstance}). Component type is collected as a new root because
+ *     {@link ClassGraph} doesn't examine arrays.</li>
+ *
+ *     <li>generated bean accessors (see {@link BeanAccessors}): no-arg constructor</li>
+ * </ul>
+ *
+ * <p>
+ *     Each class is examined once, so (unlike {@link ClassGraph} alone) cyclic class graphs are supported. Element
+ *     types of collections and maps are not known from class graph and should be collected as separate roots.
+ * </p>
+ */
+public class ReachabilityMetadataCollector implements ClassGraphVisitor<ClassGraphNode> {
+
+    private static final Predicate<Class<?>> TRAVERSABLE_CLASSES = new StandardTraversableClassesFilter();
+
+    private final ReachabilityMetadata metadata;
+
+    private final Predicate<ClassGraphNode> traversableNodes = new TraversableNodesFilter();
+
+    /**
+     * Classes which fields are already examined.
+     */
+    private final Set<Class<?>> examined = new HashSet<>();
+
+    /**
+     * Creates collector registering entries in specified metadata.
+     *
+     * @param metadata ReachabilityMetadata metadata to fill
+     */
+    public ReachabilityMetadataCollector(ReachabilityMetadata metadata) {
+        Argument.checkNotNull(metadata, "metadata must not be null!");
+
+        this.metadata = metadata;
+    }
+
+    /**
+     * Creates collector with empty metadata.
+     */
+    public ReachabilityMetadataCollector() {
+        this(new ReachabilityMetadata());
+    }
+
+    /**
+     * Walks class graph of specified class registering its classes.
+     *
+     * @param root Class root class
+     * @return this collector
+     */
+    public ReachabilityMetadataCollector collect(Class<?> root) {
+        Argument.checkNotNull(root, "root must not be null!");
+
+        new ClassGraph<ClassGraphNode, ReachabilityMetadataCollector>(root, new ExamineOnceFilter()).accept(this);
+        return this;
+    }
+
+    /**
+     * Returns collected metadata.
+     *
+     * @return ReachabilityMetadata metadata
+     */
+    public ReachabilityMetadata getMetadata() {
+        return metadata;
+    }
+
+    @Override
+    public ClassGraphNode resolveNode(ClassGraphNode node) {
+        return node;
+    }
+
+    @Override
+    public void visit(NodePath<ClassGraphNode> path) {
+        ClassGraphNode node = path.getCurrent();
+
+        if (!node.isRoot() && isIgnoredField(node)) {
+            return;
+        }
+
+        register(node.getType());
+    }
+
+    private void register(Class<?> type) {
+        if (type.isPrimitive()) {
+            return;
+        }
+
+        if (type.isArray()) {
+            if (metadata.find(type) == null) {
+                metadata.register(type);
+                collect(type.getComponentType());
+            }
+        }
+        else if (type.isEnum()) {
+            metadata.register(type).method("values");
+        }
+        else if (TRAVERSABLE_CLASSES.test(type)) {
+            registerBean(type);
+        }
+        else if (type == Object.class) {
+            metadata.register(type).unsafeAllocated();
+        }
+    }
+
+    private void registerBean(Class<?> type) {
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            metadata.register(current).allDeclaredFields();
+        }
+
+        if (TypeMeta.isInstantiable(type)) {
+            metadata.register(type).unsafeAllocated();
+            if (ReflectionUtils.hasConstructor(type, new Class[0])) {
+                metadata.register(type).constructor();
+            }
+        }
+
+        registerAccessor(type);
+    }
+
+    private void registerAccessor(Class<?> type) {
+        if (type.getClassLoader() == null) {
+            return;
+        }
+        try {
+            Class<?> accessor = Class.forName(BeanAccessors.getAccessorClassName(type), false, type.getClassLoader());
+            metadata.register(accessor).constructor();
+        }
+        catch (ClassNotFoundException e) {
+            // No generated accessor.
+        }
+    }
+
+    private boolean isIgnoredField(ClassGraphNode node) {
+        return Modifier.isStatic(node.getField().getModifiers())
+            || ReflectionUtils.isSyntheticName(node.getField().getName());
+    }
+
+    /**
+     * Standard node filter allowing to examine each class once.
+     */
+    private class ExamineOnceFilter implements Predicate<ClassGraphNode> {
+
+        @Override
+        public boolean test(ClassGraphNode node) {
+            return traversableNodes.test(node) && examined.add(node.getType());
+        }
+    }
+}
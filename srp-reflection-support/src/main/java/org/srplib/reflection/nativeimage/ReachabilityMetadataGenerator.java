@@ -0,0 +1,82 @@
+package org.srplib.reflection.nativeimage;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.srplib.contract.Argument;
+import org.srplib.reflection.ReflectionUtils;
+
+/**
+ * Generates native image reflection metadata ({@code reflect-config.json}) for class graphs of specified root classes.
+ *
+ * <p>May be used from code or as a command line tool (e.g. Gradle {@code JavaExec} task):</p>
+ * <pre>
+ *     java -cp ... org.srplib.reflection.nativeimage.ReachabilityMetadataGenerator \
+ *         build/resources/main/META-INF/native-image/com.example/app/reflect-config.json \
+ *         com.example.Order com.example.Customer
+ * </pre>
+ *
+ * @see ReachabilityMetadataCollector
+ */
+public class ReachabilityMetadataGenerator {
+
+    private static final String USAGE = "Usage: ReachabilityMetadataGenerator <output file> <root class>...";
+
+    /**
+     * Collects metadata of specified root classes.
+     *
+     * @param roots Class[] root classes
+     * @return ReachabilityMetadata collected metadata
+     */
+    public static ReachabilityMetadata generate(Class<?>... roots) {
+        Argument.checkNotNull(roots, "roots must not be null!");
+
+        ReachabilityMetadataCollector collector = new ReachabilityMetadataCollector();
+        for (Class<?> root : roots) {
+            collector.collect(root);
+        }
+        return collector.getMetadata();
+    }
+
+    /**
+     * Writes metadata of specified root classes to file.
+     *
+     * @param output File output file. Parent directories are created if necessary.
+     * @param roots Class[] root classes
+     * @throws IOException if file can't be written
+     */
+    public static void generate(File output, Class<?>... roots) throws IOException {
+        Argument.checkNotNull(output, "output must not be null!");
+
+        ReachabilityMetadata metadata = generate(roots);
+
+        File directory = output.getAbsoluteFile().getParentFile();
+        if (directory != null) {
+            Files.createDirectories(directory.toPath());
+        }
+        try (Writer writer = new OutputStreamWriter(Files.newOutputStream(output.toPath()), StandardCharsets.UTF_8)) {
+            metadata.writeTo(writer);
+        }
+    }
+
+    /**
+     * Command line entry point.
+     *
+     * @param args String[] output file followed by names of root classes
+     */
+    public static void main(String[] args) throws IOException {
+        Argument.checkTrue(args.length >= 2, USAGE);
+
+        Class<?>[] roots = new Class<?>[args.length - 1];
+        for (int i = 1; i < args.length; i++) {
+            roots[i - 1] = ReflectionUtils.classForName(args[i]);
+        }
+
+        generate(new File(args[0]), roots);
+    }
+
+}
@@ -0,0 +1,160 @@
+package org.srplib.reflection.nativeimage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.srplib.contract.Argument;
+
+/**
+ * Reflection metadata of a single class: an element of native image {@code reflect-config.json}.
+ */
+public class ReflectionEntry {
+
+    static final String CONSTRUCTOR = "<init>";
+
+    private final String name;
+
+    private boolean allDeclaredFields;
+
+    private boolean unsafeAllocated;
+
+    /**
+     * Registered methods: parameter type names by signature ({@code name(type1,type2)}).
+     */
+    private final Map<String, List<String>> methods = new TreeMap<>();
+
+    /**
+     * Creates entry for specified class.
+     *
+     * @param type Class a class
+     */
+    public ReflectionEntry(Class<?> type) {
+        Argument.checkNotNull(type, "type must not be null!");
+
+        this.name = type.getName();
+    }
+
+    /**
+     * Returns class name as returned by {@link Class#getName()}.
+     *
+     * @return String class name
+     */
+    public String getName() {
+        return name;
+    }
+
+    public boolean isAllDeclaredFields() {
+        return allDeclaredFields;
+    }
+
+    /**
+     * Registers all fields declared by class for reflective access.
+     *
+     * @return this entry
+     */
+    public ReflectionEntry allDeclaredFields() {
+        this.allDeclaredFields = true;
+        return this;
+    }
+
+    public boolean isUnsafeAllocated() {
+        return unsafeAllocated;
+    }
+
+    /**
+     * Registers class for instantiation without constructor call (Objenesis, {@code Unsafe.allocateInstance}).
+     *
+     * @return this entry
+     */
+    public ReflectionEntry unsafeAllocated() {
+        this.unsafeAllocated = true;
+        return this;
+    }
+
+    /**
+     * Registers method with specified name and parameter types.
+     *
+     * @param methodName String method name
+     * @param parameterTypes Class[] parameter types
+     * @return this entry
+     */
+    public ReflectionEntry method(String methodName, Class<?>... parameterTypes) {
+        Argument.checkNotNull(methodName, "methodName must not be null!");
+
+        List<String> typeNames = getTypeNames(parameterTypes);
+        methods.put(getSignature(methodName, typeNames), typeNames);
+        return this;
+    }
+
+    /**
+     * Registers constructor with specified parameter types.
+     *
+     * @param parameterTypes Class[] parameter types
+     * @return this entry
+     */
+    public ReflectionEntry constructor(Class<?>... parameterTypes) {
+        return method(CONSTRUCTOR, parameterTypes);
+    }
+
+    /**
+     * Tests if method with specified name and parameter types is registered.
+     *
+     * @param methodName String method name
+     * @param parameterTypes Class[] parameter types
+     * @return true if method is registered
+     */
+    public boolean hasMethod(String methodName, Class<?>... parameterTypes) {
+        return methods.containsKey(getSignature(methodName, getTypeNames(parameterTypes)));
+    }
+
+    /**
+     * Tests if constructor with specified parameter types is registered.
+     *
+     * @param parameterTypes Class[] parameter types
+     * @return true if constructor is registered
+     */
+    public boolean hasConstructor(Class<?>... parameterTypes) {
+        return hasMethod(CONSTRUCTOR, parameterTypes);
+    }
+
+    /**
+     * Returns registered methods: parameter type names by signature ({@code name(type1,type2)}).
+     *
+     * @return unmodifiable map sorted by signature
+     */
+    public Map<String, List<String>> getMethods() {
+        return Collections.unmodifiableMap(methods);
+    }
+
+    /**
+     * Returns method name from signature.
+     */
+    static String getMethodName(String signature) {
+        return signature.substring(0, signature.indexOf('('));
+    }
+
+    private static List<String> getTypeNames(Class<?>[] types) {
+        List<String> names = new ArrayList<>(types.length);
+        for (Class<?> type : types) {
+            names.add(type.getName());
+        }
+        return names;
+    }
+
+    private static String getSignature(String methodName, List<String> typeNames) {
+        StringBuilder signature = new StringBuilder(methodName).append('(');
+        for (int i = 0; i < typeNames.size(); i++) {
+            signature.append(i == 0 ? "" : ",").append(typeNames.get(i));
+        }
+        return signature.append(')').toString();
+    }
+
+    @Override
+    public String toString() {
+        return "ReflectionEntry{" + name + ", allDeclaredFields=" + allDeclaredFields + ", unsafeAllocated="
+            + unsafeAllocated + ", methods=" + methods.keySet() + "}";
+    }
+}
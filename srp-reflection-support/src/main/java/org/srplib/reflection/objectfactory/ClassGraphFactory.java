@@ -3,6 +3,8 @@ package org.srplib.reflection.objectfactory;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 
+import org.srplib.reflection.BeanAccessor;
+import org.srplib.reflection.BeanAccessors;
 import org.srplib.reflection.ReflectionUtils;
 import org.srplib.reflection.classgraph.ClassGraph;
 import org.srplib.reflection.classgraph.ClassGraphVisitor;
@@ -25,6 +27,9 @@ import org.srplib.visitor.NodePath;
  *     <li>Created object is accessible via {@link #getResult()} method.</li>
  * </ul>
  *
+ * <p>Fields are set through generated {@link BeanAccessor} if parent class has one (see {@link BeanAccessors}) and it
+ * writes field directly. Setters are never called.</p>
+ *
  * Usage:
  * <pre>{@code
  *  ClassGraphFactory visitor = new ClassGraphFactory(valueFactory);
@@ -91,8 +96,18 @@ public class ClassGraphFactory implements ClassGraphVisitor<ClassGraphFactoryNod
         current.setObject(value);
 
         if (path.hasParent()) {
-            Field field = current.getField();
-            ReflectionUtils.setFieldValue(path.getParent().getCurrent().getObject(), field, value);
+            setFieldValue(path.getParent().getCurrent().getObject(), current.getField(), value);
+        }
+    }
+
+    private void setFieldValue(Object parent, Field field, Object value) {
+        // Accessor has no properties for hidden fields, so field name identifies field.
+        BeanAccessor<Object> accessor = BeanAccessors.find((Class<Object>) parent.getClass());
+        if (accessor != null && accessor.isFieldWritable(field.getName())) {
+            accessor.set(parent, field.getName(), value);
+        }
+        else {
+            ReflectionUtils.setFieldValue(parent, field, value);
         }
     }
 
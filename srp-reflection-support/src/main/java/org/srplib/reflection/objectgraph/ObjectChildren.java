@@ -0,0 +1,181 @@
+package org.srplib.reflection.objectgraph;
+
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.srplib.reflection.ClassMetadata;
+import org.srplib.reflection.FieldMetadata;
+import org.srplib.support.Predicate;
+
+/**
+ * Enumerates children of object graph node: map keys and values, collection and array elements or field values.
+ *
+ * <p>Only non null children accepted by class filter are added to queue.</p>
+ *
+ * <p>
+ *     Primitive arrays have no children and are skipped without looking at their elements, so large numeric payloads
+ *     cost nothing. Reference arrays are walked by index; filter is called once per run of elements of the same
+ *     class, and arrays of final component type rejected by filter are skipped as a whole.
+ * </p>
+ */
+final class ObjectChildren {
+
+    private ObjectChildren() {
+    }
+
+    /**
+     * Adds children of specified object to the end of queue.
+     *
+     * @param object Object parent object
+     * @param depth int depth of children
+     * @param queue ObjectDeque queue
+     * @param filter Predicate class filter
+     */
+    static void enqueue(Object object, int depth, ObjectDeque queue, Predicate<Class<?>> filter) {
+        ClassMetadata metadata = ClassMetadata.of(object.getClass());
+
+        switch (metadata.getKind()) {
+            case MAP:
+                enqueueMap((Map) object, depth, queue, filter);
+                break;
+            case COLLECTION:
+                enqueueCollection((Collection) object, depth, queue, filter);
+                break;
+            case ARRAY:
+                enqueueArray((Object[]) object, depth, queue, filter);
+                break;
+            case PRIMITIVE_ARRAY:
+                break;
+            default:
+                enqueueDeclaredFields(metadata, object, depth, queue, filter);
+        }
+    }
+
+    private static void enqueueMap(Map map, int depth, ObjectDeque queue, Predicate<Class<?>> filter) {
+        for (Object entryObject : map.entrySet()) {
+            Map.Entry entry = (Map.Entry) entryObject;
+            enqueueChild(entry.getKey(), depth, queue, filter);
+            enqueueChild(entry.getValue(), depth, queue, filter);
+        }
+    }
+
+    private static void enqueueCollection(Collection collection, int depth, ObjectDeque queue,
+        Predicate<Class<?>> filter) {
+
+        for (Object valueItem : collection) {
+            enqueueChild(valueItem, depth, queue, filter);
+        }
+    }
+
+    private static void enqueueArray(Object[] array, int depth, ObjectDeque queue, Predicate<Class<?>> filter) {
+        if (isRejectedArray(array, filter)) {
+            return;
+        }
+        Class<?> lastClass = null;
+        boolean accepted = false;
+        for (int i = 0, length = array.length; i < length; i++) {
+            Object element = array[i];
+            if (element == null) {
+                continue;
+            }
+            if (element.getClass() != lastClass) {
+                lastClass = element.getClass();
+                accepted = filter.test(lastClass);
+            }
+            if (accepted) {
+                queue.addLast(element, depth);
+            }
+        }
+    }
+
+    private static void enqueueDeclaredFields(ClassMetadata metadata, Object object, int depth, ObjectDeque queue,
+        Predicate<Class<?>> filter) {
+
+        for (FieldMetadata field : metadata.getFields()) {
+            enqueueChild(field.getValue(object), depth, queue, filter);
+        }
+    }
+
+    private static void enqueueChild(Object object, int depth, ObjectDeque queue, Predicate<Class<?>> filter) {
+        if (isTraversable(object, filter)) {
+            queue.addLast(object, depth);
+        }
+    }
+
+    /**
+     * Adds children of specified node to list.
+     *
+     * @param node ObjectGraphNode parent node
+     * @param children List list to add children to
+     * @param filter Predicate class filter
+     */
+    static void addNodes(ObjectGraphNode node, List<ObjectGraphNode> children, Predicate<Class<?>> filter) {
+        Object object = node.getObject();
+        ClassMetadata metadata = ClassMetadata.of(object.getClass());
+
+        switch (metadata.getKind()) {
+            case MAP:
+                int keyIndex = 0;
+                for (Object entryObject : ((Map) object).entrySet()) {
+                    Map.Entry entry = (Map.Entry) entryObject;
+                    if (isTraversable(entry.getKey(), filter)) {
+                        children.add(node.mapKey(entry.getKey(), keyIndex));
+                    }
+                    if (isTraversable(entry.getValue(), filter)) {
+                        children.add(node.mapValue(entry.getValue(), entry.getKey()));
+                    }
+                    keyIndex++;
+                }
+                break;
+            case COLLECTION:
+                int elementIndex = 0;
+                for (Object element : (Collection) object) {
+                    if (isTraversable(element, filter)) {
+                        children.add(node.element(element, elementIndex));
+                    }
+                    elementIndex++;
+                }
+                break;
+            case ARRAY:
+                Object[] array = (Object[]) object;
+                if (isRejectedArray(array, filter)) {
+                    break;
+                }
+                for (int i = 0, length = array.length; i < length; i++) {
+                    if (isTraversable(array[i], filter)) {
+                        children.add(node.element(array[i], i));
+                    }
+                }
+                break;
+            case PRIMITIVE_ARRAY:
+                break;
+            default:
+                for (FieldMetadata field : metadata.getFields()) {
+                    Object value = field.getValue(object);
+                    if (isTraversable(value, filter)) {
+                        children.add(node.field(value, field.getName()));
+                    }
+                }
+        }
+    }
+
+    /**
+     * Checks if all elements of array are rejected by filter. Elements of array of final class (or of primitive array
+     * class) are instances of component class itself, so it is enough to test component class.
+     */
+    private static boolean isRejectedArray(Object[] array, Predicate<Class<?>> filter) {
+        Class<?> componentType = array.getClass().getComponentType();
+        return array.length == 0 || hasNoSubclasses(componentType) && !filter.test(componentType);
+    }
+
+    private static boolean hasNoSubclasses(Class<?> type) {
+        // Array classes are final, but String[] is a subclass of Object[].
+        return type.isArray() ? type.getComponentType().isPrimitive() : Modifier.isFinal(type.getModifiers());
+    }
+
+    private static boolean isTraversable(Object object, Predicate<Class<?>> filter) {
+        return object != null && filter.test(object.getClass());
+    }
+}
@@ -0,0 +1,122 @@
+package org.srplib.reflection.objectgraph;
+
+import java.util.Arrays;
+
+/**
+ * Growable ring buffer of objects with their depths used as work queue (stack) by {@link ObjectGraph}.
+ *
+ * <p>Depths are stored in parallel primitive array, so no wrapper object is created per queued object.</p>
+ */
+class ObjectDeque {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private Object[] objects = new Object[INITIAL_CAPACITY];
+
+    private int[] depths = new int[INITIAL_CAPACITY];
+
+    private int head;
+
+    private int size;
+
+    private int lastDepth;
+
+    void addLast(Object object, int depth) {
+        if (size == objects.length) {
+            grow();
+        }
+        int index = (head + size) & (objects.length - 1);
+        objects[index] = object;
+        depths[index] = depth;
+        size++;
+    }
+
+    /**
+     * Removes first object. Its depth is available via {@link #getLastDepth()}.
+     */
+    Object pollFirst() {
+        Object object = objects[head];
+        lastDepth = depths[head];
+        objects[head] = null;
+        head = (head + 1) & (objects.length - 1);
+        size--;
+        return object;
+    }
+
+    /**
+     * Removes last object. Its depth is available via {@link #getLastDepth()}.
+     */
+    Object pollLast() {
+        int index = (head + size - 1) & (objects.length - 1);
+        Object object = objects[index];
+        lastDepth = depths[index];
+        objects[index] = null;
+        size--;
+        return object;
+    }
+
+    /**
+     * Returns depth of last polled object.
+     */
+    int getLastDepth() {
+        return lastDepth;
+    }
+
+    /**
+     * Reverses order of specified number of last objects.
+     */
+    void reverseTail(int count) {
+        int mask = objects.length - 1;
+        for (int i = head + size - count, j = head + size - 1; i < j; i++, j--) {
+            int left = i & mask;
+            int right = j & mask;
+
+            Object object = objects[left];
+            objects[left] = objects[right];
+            objects[right] = object;
+
+            int depth = depths[left];
+            depths[left] = depths[right];
+            depths[right] = depth;
+        }
+    }
+
+    /**
+     * Removes specified number of first objects and returns them as new deque.
+     */
+    ObjectDeque splitFirst(int count) {
+        ObjectDeque result = new ObjectDeque();
+        for (int i = 0; i < count; i++) {
+            Object object = pollFirst();
+            result.addLast(object, lastDepth);
+        }
+        return result;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void clear() {
+        Arrays.fill(objects, null);
+        head = 0;
+        size = 0;
+    }
+
+    private void grow() {
+        Object[] newObjects = new Object[objects.length * 2];
+        int[] newDepths = new int[depths.length * 2];
+        for (int i = 0; i < size; i++) {
+            int index = (head + i) & (objects.length - 1);
+            newObjects[i] = objects[index];
+            newDepths[i] = depths[index];
+        }
+        objects = newObjects;
+        depths = newDepths;
+        head = 0;
+    }
+}
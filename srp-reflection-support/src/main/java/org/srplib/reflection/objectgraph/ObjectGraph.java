@@ -1,13 +1,11 @@
 package org.srplib.reflection.objectgraph;
 
-import java.lang.reflect.Field;
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.srplib.contract.Argument;
-import org.srplib.reflection.ReflectionUtils;
+import org.srplib.support.IdentitySet;
 import org.srplib.support.Predicate;
 
 /**
@@ -25,6 +23,15 @@ import org.srplib.support.Predicate;
  *     </li>
  * </ul>
  *
+ * <p>
+ *     Traversal is iterative (uses explicit work queue instead of recursion), so deep structures (long linked lists,
+ *     parent-child chains) don't overflow stack. Order ({@link TraversalOrder}), maximum depth and maximum number of
+ *     visited objects are configurable:
+ * </p>
+ * <pre>
+ *     new ObjectGraph(root).order(TraversalOrder.BREADTH_FIRST).maxDepth(3).maxNodes(10000).accept(visitor);
+ * </pre>
+ *
  * <p>Useful where object graph navigation is required: debugging, logging, conversion, etc.</p>
  *
  * @author Anton Pechinsky
@@ -33,10 +40,21 @@ public class ObjectGraph implements Element {
 
     private Object root;
 
-    private Set<Integer> visitedIdentities = new HashSet<Integer>();
+    private IdentitySet visited = new IdentitySet();
 
     private Predicate<Class<?>> filter;
 
+    private TraversalOrder order = TraversalOrder.DEPTH_FIRST;
+
+    private int maxDepth = Integer.MAX_VALUE;
+
+    private long maxNodes = Long.MAX_VALUE;
+
+    /**
+     * Work queue reused by subsequent traversals.
+     */
+    private final ObjectDeque queue = new ObjectDeque();
+
     /**
      * Creates object graph with specified root and class filter.
      *
@@ -60,89 +78,143 @@ public class ObjectGraph implements Element {
 
     }
 
-    @Override
-    public void accept(Visitor visitor) {
-        traverse(root, visitor);
-    }
+    /**
+     * Sets traversal order. Default is {@link TraversalOrder#DEPTH_FIRST}.
+     *
+     * @param order TraversalOrder traversal order
+     * @return this object graph
+     */
+    public ObjectGraph order(TraversalOrder order) {
+        Argument.checkNotNull(order, "order must not be null!");
 
-    private void traverse(Object object, Visitor visitor) {
-        if (object == null) {
-            return;
-        }
-        if (!isTraversable(object)) {
-            return;
-        }
+        this.order = order;
+        return this;
+    }
 
-        if (isVisited(object)) {
-            return;
-        }
-        rememberVisited(object);
+    /**
+     * Sets maximum depth of visited objects. Root has depth 0, its fields (elements) have depth 1 and so on.
+     *
+     * <p>
+     *     Depth of an object is the length of path it is reached by first. For {@link TraversalOrder#BREADTH_FIRST}
+     *     order it is the shortest path from root.
+     * </p>
+     *
+     * @param maxDepth int maximum depth. Unlimited by default.
+     * @return this object graph
+     */
+    public ObjectGraph maxDepth(int maxDepth) {
+        Argument.checkTrue(maxDepth >= 0, "maxDepth must not be negative!");
 
-        visitor.visit(object);
+        this.maxDepth = maxDepth;
+        return this;
+    }
 
+    /**
+     * Sets maximum number of objects visited by single {@link #accept(Visitor)} call.
+     *
+     * @param maxNodes long maximum number of visited objects. Unlimited by default.
+     * @return this object graph
+     */
+    public ObjectGraph maxNodes(long maxNodes) {
+        Argument.checkTrue(maxNodes >= 0, "maxNodes must not be negative!");
 
-        if (ReflectionUtils.isMap(object.getClass())) {
-            traverseMap((Map) object, visitor);
-        }
-        else if (ReflectionUtils.isCollection(object.getClass())) {
-            traverseCollection((Collection) object, visitor);
-        }
-        else if (ReflectionUtils.isArray(object.getClass())) {
-            traverseArray((Object[]) object, visitor);
-        }
-        else {
-            traverseDeclaredFields(object.getClass(), object, visitor);
-        }
+        this.maxNodes = maxNodes;
+        return this;
     }
 
-    private void rememberVisited(Object object) {
-        int identity = identity(object);
-        visitedIdentities.add(identity);
+    /**
+     * Returns lazy spliterator over objects reachable from root (including root).
+     *
+     * <p>
+     *     Objects are traversed as consumer requests them in the same order as by {@link #accept(Visitor)}. Order and
+     *     maximum depth are honored, maximum number of nodes is not (use {@link Stream#limit(long)}). Each spliterator
+     *     tracks visited objects independently of this object graph and other spliterators.
+     * </p>
+     *
+     * @return Spliterator sequential (not splittable) spliterator
+     */
+    public Spliterator<ObjectGraphNode> spliterator() {
+        return new ObjectGraphSpliterator(root, filter, order, maxDepth, false);
     }
 
-    private boolean isVisited(Object object) {
-        int identity = identity(object);
-        return visitedIdentities.contains(identity);
+    /**
+     * Returns lazy sequential stream of objects reachable from root (including root) with their paths.
+     *
+     * <p>Short-circuiting operations stop traversal:</p>
+     * <pre>
+     *     Optional&lt;ObjectGraphNode&gt; invalid = new ObjectGraph(root).stream()
+     *         .filter(node -&gt; node.getObject() instanceof Invalid)
+     *         .findFirst();
+     * </pre>
+     *
+     * @return Stream stream of nodes
+     * @see #spliterator()
+     */
+    public Stream<ObjectGraphNode> stream() {
+        return StreamSupport.stream(spliterator(), false);
     }
 
-    private int identity(Object object) {
-        return System.identityHashCode(object);
+    /**
+     * Returns lazy parallel stream of objects reachable from root (including root) with their paths.
+     *
+     * <p>
+     *     Spliterator of the stream splits its work queue, so subgraphs are traversed concurrently. Encounter order is
+     *     not defined and order setting is ignored. Maximum depth is honored.
+     * </p>
+     *
+     * @return Stream parallel stream of nodes
+     */
+    public Stream<ObjectGraphNode> parallelStream() {
+        return StreamSupport.stream(new ObjectGraphSpliterator(root, filter, order, maxDepth, true), true);
     }
 
-    private void traverseMap(Map map, Visitor visitor) {
-        for (Object entryObject : map.entrySet()) {
-            Map.Entry entry = (Map.Entry) entryObject;
-            traverse(entry.getKey(), visitor);
-            traverse(entry.getValue(), visitor);
+    @Override
+    public void accept(Visitor visitor) {
+        try {
+            traverse(visitor);
         }
-    }
-
-    private void traverseCollection(Collection collection, Visitor visitor) {
-        for (Object valueItem : collection) {
-            traverse(valueItem, visitor);
+        finally {
+            queue.clear();
         }
     }
 
-    private void traverseArray(Object[] array, Visitor visitor) {
-        for (Object valueItem : array) {
-            traverse(valueItem, visitor);
-        }
-    }
+    private void traverse(Visitor visitor) {
+        boolean depthFirst = order == TraversalOrder.DEPTH_FIRST;
 
-    private void traverseDeclaredFields(Class objectClass, Object object, Visitor visitor) {
-        if (objectClass == Object.class) {
-            return;
-        }
+        enqueue(root, 0);
+
+        long count = 0;
+        while (!queue.isEmpty() && count < maxNodes) {
+            Object object = depthFirst ? queue.pollLast() : queue.pollFirst();
+            int depth = queue.getLastDepth();
 
-        for (Field field : objectClass.getDeclaredFields()) {
-            if (ReflectionUtils.isSyntheticName(field.getName())) {
+            // The same object may be queued several times before it is visited.
+            if (!rememberVisited(object)) {
                 continue;
             }
-            Object fieldValue = ReflectionUtils.getFieldValue(object, field);
-            traverse(fieldValue, visitor);
+
+            visitor.visit(object);
+            count++;
+
+            if (depth < maxDepth) {
+                int size = queue.size();
+                ObjectChildren.enqueue(object, depth + 1, queue, filter);
+                if (depthFirst) {
+                    // Stack pops last child first. Reverse children to visit them in order of fields (elements).
+                    queue.reverseTail(queue.size() - size);
+                }
+            }
         }
+    }
+
+    private void enqueue(Object object, int depth) {
+        if (isTraversable(object)) {
+            queue.addLast(object, depth);
+        }
+    }
 
-        traverseDeclaredFields(objectClass.getSuperclass(), object, visitor);
+    private boolean rememberVisited(Object object) {
+        return visited.add(object);
     }
 
     private boolean isTraversable(Object object) {
@@ -0,0 +1,166 @@
+package org.srplib.reflection.objectgraph;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.srplib.support.Path;
+
+/**
+ * Object reachable from object graph root along with the path it was reached by.
+ *
+ * <p>
+ *     Path segments are field names, indexes of array, list (or other collection) elements ("[2]"), keys of map values
+ *     ("[key]") and indexes of map keys ("keys[2]"). Segments are built on demand, so node costs nothing but itself if
+ *     path is not requested.
+ * </p>
+ *
+ * @see ObjectGraph#stream()
+ */
+public final class ObjectGraphNode {
+
+    private static final byte ROOT = 0;
+
+    private static final byte FIELD = 1;
+
+    private static final byte ELEMENT = 2;
+
+    private static final byte MAP_KEY = 3;
+
+    private static final byte MAP_VALUE = 4;
+
+    private final Object object;
+
+    private final ObjectGraphNode parent;
+
+    private final int depth;
+
+    private final byte kind;
+
+    /**
+     * Field name or map key depending on node kind.
+     */
+    private final Object name;
+
+    private final int index;
+
+    private ObjectGraphNode(Object object, ObjectGraphNode parent, byte kind, Object name, int index) {
+        this.object = object;
+        this.parent = parent;
+        this.depth = parent == null ? 0 : parent.depth + 1;
+        this.kind = kind;
+        this.name = name;
+        this.index = index;
+    }
+
+    static ObjectGraphNode root(Object object) {
+        return new ObjectGraphNode(object, null, ROOT, null, -1);
+    }
+
+    ObjectGraphNode field(Object child, String field) {
+        return new ObjectGraphNode(child, this, FIELD, field, -1);
+    }
+
+    ObjectGraphNode element(Object child, int index) {
+        return new ObjectGraphNode(child, this, ELEMENT, null, index);
+    }
+
+    ObjectGraphNode mapKey(Object key, int index) {
+        return new ObjectGraphNode(key, this, MAP_KEY, null, index);
+    }
+
+    ObjectGraphNode mapValue(Object value, Object key) {
+        return new ObjectGraphNode(value, this, MAP_VALUE, key, -1);
+    }
+
+    /**
+     * Returns reached object.
+     *
+     * @return Object reached object
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getObject() {
+        return (T) object;
+    }
+
+    /**
+     * Returns node of object this one was reached from.
+     *
+     * @return ObjectGraphNode parent node or {@code null} for root
+     */
+    public ObjectGraphNode getParent() {
+        return parent;
+    }
+
+    /**
+     * Returns distance from root (root has depth 0).
+     *
+     * @return int depth
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    public boolean isRoot() {
+        return parent == null;
+    }
+
+    /**
+     * Checks if reached object is an array.
+     *
+     * @return boolean {@code true} if object is an array
+     */
+    public boolean isArray() {
+        return object.getClass().isArray();
+    }
+
+    /**
+     * Returns length of array. Primitive arrays are not traversed, so length is the only information about their
+     * elements available without reading them.
+     *
+     * @return int array length or -1 if object is not an array
+     */
+    public int getArrayLength() {
+        return isArray() ? Array.getLength(object) : -1;
+    }
+
+    /**
+     * Returns last segment of path.
+     *
+     * @return String field name, "[index]", "[key]" or "keys[index]". {@code null} for root.
+     */
+    public String getName() {
+        switch (kind) {
+            case FIELD:
+                return (String) name;
+            case ELEMENT:
+                return "[" + index + "]";
+            case MAP_KEY:
+                return "keys[" + index + "]";
+            case MAP_VALUE:
+                return "[" + name + "]";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns path from root to this object.
+     *
+     * @return Path path (empty for root)
+     */
+    public Path getPath() {
+        List<String> segments = new ArrayList<>(depth);
+        for (ObjectGraphNode node = this; !node.isRoot(); node = node.parent) {
+            segments.add(node.getName());
+        }
+        Collections.reverse(segments);
+        return new Path(segments);
+    }
+
+    @Override
+    public String toString() {
+        return "ObjectGraphNode{path=" + getPath() + ", class=" + object.getClass().getName() + "}";
+    }
+}
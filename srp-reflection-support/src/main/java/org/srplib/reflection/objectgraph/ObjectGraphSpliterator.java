@@ -0,0 +1,170 @@
+package org.srplib.reflection.objectgraph;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import org.srplib.support.ConcurrentIdentitySet;
+import org.srplib.support.IdentitySet;
+import org.srplib.support.Predicate;
+
+/**
+ * Lazy {@link Spliterator} over nodes of object graph.
+ *
+ * <p>
+ *     Sequential spliterator visits objects in the same order as {@link ObjectGraph#accept(Visitor)} and is
+ *     {@link #ORDERED}. Concurrent spliterator shares {@link ConcurrentIdentitySet} of visited objects with
+ *     spliterators split from it and hands part of its work queue over on {@link #trySplit()}. Encounter order of
+ *     concurrent spliterator is not defined.
+ * </p>
+ */
+class ObjectGraphSpliterator implements Spliterator<ObjectGraphNode> {
+
+    /**
+     * Maximum number of nodes expanded ahead of consumer to get enough work for split.
+     */
+    private static final int MAX_PENDING = 64;
+
+    private final Predicate<Class<?>> filter;
+
+    private final TraversalOrder order;
+
+    private final int maxDepth;
+
+    /**
+     * Visited objects of sequential spliterator.
+     */
+    private final IdentitySet visited;
+
+    /**
+     * Visited objects shared by concurrent spliterators.
+     */
+    private final ConcurrentIdentitySet concurrentVisited;
+
+    private final Deque<ObjectGraphNode> queue;
+
+    /**
+     * Nodes already marked as visited (and expanded) by {@link #trySplit()} but not yet passed to consumer.
+     */
+    private final Deque<ObjectGraphNode> pending = new ArrayDeque<>();
+
+    private final List<ObjectGraphNode> children = new ArrayList<>();
+
+    /**
+     * Creates spliterator over graph of specified root.
+     *
+     * @param root Object root object
+     * @param filter Predicate class filter
+     * @param order TraversalOrder traversal order (ignored by concurrent spliterator)
+     * @param maxDepth int maximum depth
+     * @param concurrent boolean true to create spliterator supporting split
+     */
+    ObjectGraphSpliterator(Object root, Predicate<Class<?>> filter, TraversalOrder order, int maxDepth,
+        boolean concurrent) {
+
+        this(filter, concurrent ? TraversalOrder.DEPTH_FIRST : order, maxDepth,
+            concurrent ? null : new IdentitySet(), concurrent ? new ConcurrentIdentitySet() : null,
+            new ArrayDeque<ObjectGraphNode>());
+
+        if (root != null && filter.test(root.getClass())) {
+            queue.add(ObjectGraphNode.root(root));
+        }
+    }
+
+    private ObjectGraphSpliterator(Predicate<Class<?>> filter, TraversalOrder order, int maxDepth,
+        IdentitySet visited, ConcurrentIdentitySet concurrentVisited, Deque<ObjectGraphNode> queue) {
+
+        this.filter = filter;
+        this.order = order;
+        this.maxDepth = maxDepth;
+        this.visited = visited;
+        this.concurrentVisited = concurrentVisited;
+        this.queue = queue;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super ObjectGraphNode> action) {
+        ObjectGraphNode node = pending.isEmpty() ? next() : pending.pollFirst();
+        if (node == null) {
+            return false;
+        }
+        action.accept(node);
+        return true;
+    }
+
+    @Override
+    public Spliterator<ObjectGraphNode> trySplit() {
+        if (concurrentVisited == null) {
+            return null;
+        }
+
+        // Expand nodes ahead (e.g. root) until there is something to hand over.
+        while (queue.size() < 2 && pending.size() < MAX_PENDING) {
+            ObjectGraphNode node = next();
+            if (node == null) {
+                break;
+            }
+            pending.addLast(node);
+        }
+        if (queue.size() < 2) {
+            return null;
+        }
+
+        // Nodes at the bottom of stack are closer to root and likely have larger subgraphs.
+        Deque<ObjectGraphNode> half = new ArrayDeque<>();
+        for (int i = queue.size() / 2; i > 0; i--) {
+            half.addLast(queue.pollFirst());
+        }
+        return new ObjectGraphSpliterator(filter, order, maxDepth, null, concurrentVisited, half);
+    }
+
+    @Override
+    public long estimateSize() {
+        return queue.isEmpty() && pending.isEmpty() ? 0 : Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return concurrentVisited == null ? NONNULL | ORDERED : NONNULL;
+    }
+
+    /**
+     * Takes next not visited node from queue, marks it visited and queues its children.
+     *
+     * @return ObjectGraphNode next node or {@code null} if there are no more nodes
+     */
+    private ObjectGraphNode next() {
+        boolean depthFirst = order == TraversalOrder.DEPTH_FIRST;
+
+        while (!queue.isEmpty()) {
+            ObjectGraphNode node = depthFirst ? queue.pollLast() : queue.pollFirst();
+
+            if (!markVisited(node.getObject())) {
+                continue;
+            }
+
+            if (node.getDepth() < maxDepth) {
+                ObjectChildren.addNodes(node, children, filter);
+                if (depthFirst) {
+                    // Stack pops last child first. Push in reverse order to visit children in order of fields.
+                    for (int i = children.size() - 1; i >= 0; i--) {
+                        queue.addLast(children.get(i));
+                    }
+                }
+                else {
+                    queue.addAll(children);
+                }
+                children.clear();
+            }
+            return node;
+        }
+        return null;
+    }
+
+    private boolean markVisited(Object object) {
+        return concurrentVisited != null ? concurrentVisited.add(object) : visited.add(object);
+    }
+}
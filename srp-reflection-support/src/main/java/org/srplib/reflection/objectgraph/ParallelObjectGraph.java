@@ -0,0 +1,224 @@
+package org.srplib.reflection.objectgraph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.srplib.contract.Argument;
+import org.srplib.support.ConcurrentIdentitySet;
+import org.srplib.support.Predicate;
+
+/**
+ * Parallel version of {@link ObjectGraph} traversing large object graphs by {@link ForkJoinPool} workers.
+ *
+ * <p>
+ *     Each task walks its own work queue depth first. When queue grows (e.g. after elements of large collection or
+ *     array are queued) and worker has no queued tasks, older half of queue is forked as a new task which idle
+ *     workers may steal. Visited objects are tracked by shared {@link ConcurrentIdentitySet}, so each object is
+ *     visited once.
+ * </p>
+ *
+ * <p>Visited objects are passed to a {@link Consumer}. Order of visits is not defined. Consumers are used in one
+ * of two ways:</p>
+ * <ul>
+ *     <li>{@link #accept(Consumer)}: single consumer called concurrently. Consumer must be thread safe.</li>
+ *
+ *     <li>{@link #accept(Supplier, BinaryOperator)}: each worker thread gets own consumer, consumers are combined when
+ *     traversal is complete. Consumers need not be thread safe.</li>
+ * </ul>
+ *
+ * <pre>
+ *     SizeCounter total = new ParallelObjectGraph(cache).accept(SizeCounter::new, SizeCounter::combine);
+ * </pre>
+ *
+ * <p>Instance is thread safe and may be reused. Each call traverses graph from scratch.</p>
+ */
+public class ParallelObjectGraph {
+
+    /**
+     * Minimum size of task queue which is split.
+     */
+    private static final int SPLIT_THRESHOLD = 16;
+
+    /**
+     * Queue is split only if current worker has less queued (not stolen) tasks.
+     */
+    private static final int MAX_SURPLUS_TASKS = 2;
+
+    private final Object root;
+
+    private final Predicate<Class<?>> filter;
+
+    private final ForkJoinPool pool;
+
+    private final int maxDepth;
+
+    /**
+     * Creates parallel object graph.
+     *
+     * @param root Object root object
+     * @param filter a predicate defining should or not implementation examine class internals
+     * @param pool ForkJoinPool pool to run traversal in
+     * @param maxDepth int maximum depth of visited objects (root has depth 0), see {@link ObjectGraph#maxDepth(int)}
+     */
+    public ParallelObjectGraph(Object root, Predicate<Class<?>> filter, ForkJoinPool pool, int maxDepth) {
+        Argument.checkNotNull(root, "root must not be null!");
+        Argument.checkNotNull(filter, "filter must not be null!");
+        Argument.checkNotNull(pool, "pool must not be null!");
+        Argument.checkTrue(maxDepth >= 0, "maxDepth must not be negative!");
+
+        this.root = root;
+        this.filter = filter;
+        this.pool = pool;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Creates parallel object graph traversed in common pool.
+     *
+     * @param root Object root object
+     * @param filter a predicate defining should or not implementation examine class internals
+     */
+    public ParallelObjectGraph(Object root, Predicate<Class<?>> filter) {
+        this(root, filter, ForkJoinPool.commonPool(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates parallel object graph with standard class filter traversed in common pool.
+     *
+     * @param root Object root object
+     */
+    public ParallelObjectGraph(Object root) {
+        this(root, new StandardTraversableClassesFilter());
+    }
+
+    /**
+     * Traverses graph calling specified consumer concurrently.
+     *
+     * @param consumer Consumer thread safe consumer of visited objects
+     */
+    public void accept(final Consumer<Object> consumer) {
+        Argument.checkNotNull(consumer, "consumer must not be null!");
+
+        accept(new Supplier<Consumer<Object>>() {
+            @Override
+            public Consumer<Object> get() {
+                return consumer;
+            }
+        }, new BinaryOperator<Consumer<Object>>() {
+            @Override
+            public Consumer<Object> apply(Consumer<Object> consumer1, Consumer<Object> consumer2) {
+                return consumer1;
+            }
+        });
+    }
+
+    /**
+     * Traverses graph using consumer per worker thread.
+     *
+     * @param consumerFactory Supplier creates consumer for worker thread
+     * @param combiner BinaryOperator combines consumers of worker threads
+     * @return combined consumer (consumer created by factory if no worker visited objects)
+     */
+    public <C extends Consumer<Object>> C accept(Supplier<C> consumerFactory, BinaryOperator<C> combiner) {
+        Argument.checkNotNull(consumerFactory, "consumerFactory must not be null!");
+        Argument.checkNotNull(combiner, "combiner must not be null!");
+
+        Traversal<C> traversal = new Traversal<>(consumerFactory);
+
+        ObjectDeque queue = new ObjectDeque();
+        if (filter.test(root.getClass())) {
+            queue.addLast(root, 0);
+        }
+        pool.invoke(new TraversalTask<>(traversal, queue));
+
+        C result = null;
+        for (C consumer : traversal.consumers.values()) {
+            result = result == null ? consumer : combiner.apply(result, consumer);
+        }
+        return result != null ? result : consumerFactory.get();
+    }
+
+    /**
+     * State shared by tasks of single traversal.
+     */
+    private static final class Traversal<C extends Consumer<Object>> {
+
+        private final ConcurrentIdentitySet visited = new ConcurrentIdentitySet();
+
+        private final ConcurrentMap<Thread, C> consumers = new ConcurrentHashMap<>();
+
+        private final Supplier<C> consumerFactory;
+
+        private Traversal(Supplier<C> consumerFactory) {
+            this.consumerFactory = consumerFactory;
+        }
+
+        /**
+         * Returns consumer of current thread. Thread executes one task at a time (a task joining forked task may
+         * execute it, but is suspended meanwhile), so consumer is not used concurrently.
+         */
+        private C getConsumer() {
+            Thread thread = Thread.currentThread();
+
+            C consumer = consumers.get(thread);
+            if (consumer == null) {
+                consumer = consumerFactory.get();
+                consumers.put(thread, consumer);
+            }
+            return consumer;
+        }
+    }
+
+    private final class TraversalTask<C extends Consumer<Object>> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Traversal<C> traversal;
+
+        private final ObjectDeque queue;
+
+        private TraversalTask(Traversal<C> traversal, ObjectDeque queue) {
+            this.traversal = traversal;
+            this.queue = queue;
+        }
+
+        @Override
+        protected void compute() {
+            List<TraversalTask<C>> forked = new ArrayList<>();
+            C consumer = traversal.getConsumer();
+
+            while (!queue.isEmpty()) {
+                if (queue.size() >= SPLIT_THRESHOLD && getSurplusQueuedTaskCount() < MAX_SURPLUS_TASKS) {
+                    // Older objects are closer to root and likely have larger subgraphs.
+                    TraversalTask<C> task = new TraversalTask<>(traversal, queue.splitFirst(queue.size() / 2));
+                    task.fork();
+                    forked.add(task);
+                }
+
+                Object object = queue.pollLast();
+                int depth = queue.getLastDepth();
+
+                if (!traversal.visited.add(object)) {
+                    continue;
+                }
+
+                consumer.accept(object);
+
+                if (depth < maxDepth) {
+                    ObjectChildren.enqueue(object, depth + 1, queue, filter);
+                }
+            }
+
+            for (TraversalTask<C> task : forked) {
+                task.join();
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.srplib.reflection.objectgraph;
+
+/**
+ * Order in which {@link ObjectGraph} visits objects.
+ */
+public enum TraversalOrder {
+
+    /**
+     * Object is visited before its children, children are visited in order of fields (elements). Default order.
+     */
+    DEPTH_FIRST,
+
+    /**
+     * Objects are visited level by level: all objects at distance N from root before objects at distance N + 1.
+     */
+    BREADTH_FIRST
+
+}
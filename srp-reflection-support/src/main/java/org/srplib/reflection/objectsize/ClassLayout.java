@@ -0,0 +1,73 @@
+package org.srplib.reflection.objectsize;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.srplib.reflection.FieldAccessor;
+import org.srplib.reflection.FieldAccessors;
+
+/**
+ * Size and reference fields of instances of a class computed for specific {@link MemoryLayout}.
+ */
+final class ClassLayout {
+
+    private static final FieldAccessor[] NO_ACCESSORS = new FieldAccessor[0];
+
+    private final long instanceSize;
+
+    /**
+     * Accessors of instance reference fields (including synthetic ones) or {@code null} if some of them is not
+     * accessible (e.g. fields of JDK classes on Java 9+).
+     */
+    private final FieldAccessor[] references;
+
+    ClassLayout(Class<?> type, MemoryLayout layout) {
+        long size = layout.getObjectHeaderSize();
+        List<Field> referenceFields = new ArrayList<>();
+
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    size += layout.getFieldSize(field.getType());
+                    if (!field.getType().isPrimitive()) {
+                        referenceFields.add(field);
+                    }
+                }
+            }
+        }
+
+        this.instanceSize = layout.align(size);
+        this.references = getAccessors(referenceFields);
+    }
+
+    long getInstanceSize() {
+        return instanceSize;
+    }
+
+    boolean isAccessible() {
+        return references != null;
+    }
+
+    FieldAccessor[] getReferences() {
+        return references;
+    }
+
+    private static FieldAccessor[] getAccessors(List<Field> fields) {
+        if (fields.isEmpty()) {
+            return NO_ACCESSORS;
+        }
+        FieldAccessor[] accessors = new FieldAccessor[fields.size()];
+        try {
+            for (int i = 0; i < accessors.length; i++) {
+                accessors[i] = FieldAccessors.get(fields.get(i));
+            }
+        }
+        catch (RuntimeException e) {
+            // Field can't be made accessible (module encapsulation).
+            return null;
+        }
+        return accessors;
+    }
+}
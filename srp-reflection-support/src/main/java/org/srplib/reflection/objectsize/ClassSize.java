@@ -0,0 +1,49 @@
+package org.srplib.reflection.objectsize;
+
+/**
+ * Number and total size of instances of a class found by {@link DeepSizeEstimator}.
+ */
+public final class ClassSize {
+
+    private final Class<?> type;
+
+    private long count;
+
+    private long bytes;
+
+    ClassSize(Class<?> type) {
+        this.type = type;
+    }
+
+    void add(long size) {
+        count++;
+        bytes += size;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Returns number of instances.
+     *
+     * @return long number of instances
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns total size of instances (including estimated internals of opaque containers).
+     *
+     * @return long size in bytes
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d instances, %d bytes", type.getName(), count, bytes);
+    }
+}
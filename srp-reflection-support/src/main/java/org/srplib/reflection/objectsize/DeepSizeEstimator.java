@@ -0,0 +1,286 @@
+package org.srplib.reflection.objectsize;
+
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+import org.srplib.contract.Argument;
+import org.srplib.reflection.FieldAccessor;
+import org.srplib.support.IdentitySet;
+import org.srplib.support.Predicate;
+
+/**
+ * Estimates memory retained by object graph: total size of objects reachable from root.
+ *
+ * <p>
+ *     Shallow sizes are computed from field layouts of classes ({@link MemoryLayout}). Each object is counted once
+ *     (objects are tracked by reference), graph is walked iteratively. Objects rejected by class filter
+ *     ({@link NonSharedClassesFilter} by default) are neither counted nor examined.
+ * </p>
+ *
+ * <p>
+ *     If fields of a class are not accessible (JDK classes on Java 9+ without {@code --add-opens}) its internals
+ *     are estimated: elements of collections and keys and values of maps are examined and size of internal
+ *     structure is added to size of container (reference array for random access lists and deques, hash table
+ *     and entries for maps and sets, node per element for other collections); value array of string is estimated
+ *     by string length.
+ * </p>
+ *
+ * <pre>
+ *     SizeReport report = new DeepSizeEstimator().maxBytes(64 * 1024 * 1024).estimate(cachedValue);
+ *     long bytes = report.getBytes();
+ * </pre>
+ *
+ * <p>Estimator is thread safe if it is not reconfigured concurrently.</p>
+ */
+public class DeepSizeEstimator {
+
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private static final boolean COMPACT_STRINGS = hasField(String.class, "coder");
+
+    private final MemoryLayout layout;
+
+    private Predicate<Class<?>> filter = new NonSharedClassesFilter();
+
+    private long maxBytes = Long.MAX_VALUE;
+
+    private long maxObjects = Long.MAX_VALUE;
+
+    /**
+     * Creates estimator for specified memory layout.
+     *
+     * @param layout MemoryLayout memory layout
+     */
+    public DeepSizeEstimator(MemoryLayout layout) {
+        Argument.checkNotNull(layout, "layout must not be null!");
+
+        this.layout = layout;
+    }
+
+    /**
+     * Creates estimator for memory layout of current JVM.
+     */
+    public DeepSizeEstimator() {
+        this(MemoryLayout.current());
+    }
+
+    /**
+     * Sets class filter. Instances of rejected classes are neither counted nor examined.
+     *
+     * @param filter Predicate class filter
+     * @return this estimator
+     */
+    public DeepSizeEstimator filter(Predicate<Class<?>> filter) {
+        Argument.checkNotNull(filter, "filter must not be null!");
+
+        this.filter = filter;
+        return this;
+    }
+
+    /**
+     * Sets byte budget. Estimation stops as soon as counted size reaches budget.
+     *
+     * @param maxBytes long maximum number of bytes to count. Unlimited by default.
+     * @return this estimator
+     */
+    public DeepSizeEstimator maxBytes(long maxBytes) {
+        Argument.checkTrue(maxBytes >= 0, "maxBytes must not be negative!");
+
+        this.maxBytes = maxBytes;
+        return this;
+    }
+
+    /**
+     * Sets object budget. Estimation stops as soon as specified number of objects is counted.
+     *
+     * @param maxObjects long maximum number of objects to count. Unlimited by default.
+     * @return this estimator
+     */
+    public DeepSizeEstimator maxObjects(long maxObjects) {
+        Argument.checkTrue(maxObjects >= 0, "maxObjects must not be negative!");
+
+        this.maxObjects = maxObjects;
+        return this;
+    }
+
+    /**
+     * Estimates size of objects reachable from specified root.
+     *
+     * @param root Object root object
+     * @return SizeReport estimation report
+     */
+    public SizeReport estimate(Object root) {
+        Argument.checkNotNull(root, "root must not be null!");
+
+        return new Estimation().run(root);
+    }
+
+    /**
+     * Estimates size of objects reachable from specified root.
+     *
+     * @param root Object root object
+     * @return long size in bytes
+     */
+    public long sizeOf(Object root) {
+        return estimate(root).getBytes();
+    }
+
+    /**
+     * State of single estimation.
+     */
+    private final class Estimation {
+
+        private final IdentitySet visited = new IdentitySet();
+
+        private final ArrayDeque<Object> stack = new ArrayDeque<>();
+
+        private final Map<Class<?>, ClassSize> histogram = new HashMap<>();
+
+        private long bytes;
+
+        private long count;
+
+        private SizeReport run(Object root) {
+            boolean truncated = false;
+
+            push(root);
+            while (!stack.isEmpty()) {
+                Object object = stack.pollLast();
+                if (!visited.add(object)) {
+                    continue;
+                }
+
+                long size = measure(object);
+                getClassSize(object.getClass()).add(size);
+                bytes += size;
+                count++;
+
+                if ((bytes >= maxBytes || count >= maxObjects) && !stack.isEmpty()) {
+                    truncated = true;
+                    break;
+                }
+            }
+            return new SizeReport(bytes, count, truncated, histogram.values());
+        }
+
+        /**
+         * Returns size of object and pushes objects referenced by it.
+         */
+        private long measure(Object object) {
+            Class<?> type = object.getClass();
+
+            if (type.isArray()) {
+                Class<?> componentType = type.getComponentType();
+                if (componentType.isPrimitive()) {
+                    return layout.getArraySize(componentType, Array.getLength(object));
+                }
+                Object[] array = (Object[]) object;
+                for (int i = 0; i < array.length; i++) {
+                    push(array[i]);
+                }
+                return layout.getArraySize(componentType, array.length);
+            }
+
+            ClassLayout classLayout = layout.getClassLayout(type);
+            if (classLayout.isAccessible()) {
+                for (FieldAccessor accessor : classLayout.getReferences()) {
+                    push(accessor.get(object));
+                }
+                return classLayout.getInstanceSize();
+            }
+            return classLayout.getInstanceSize() + measureInternals(object);
+        }
+
+        /**
+         * Pushes content of object which fields are not accessible and returns estimated size of its internals.
+         */
+        private long measureInternals(Object object) {
+            if (object instanceof String) {
+                return getStringValueSize((String) object);
+            }
+            if (object instanceof Map) {
+                Map<?, ?> map = (Map<?, ?>) object;
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    push(entry.getKey());
+                    push(entry.getValue());
+                }
+                return getHashTableSize(map.size());
+            }
+            if (object instanceof Collection) {
+                Collection<?> collection = (Collection<?>) object;
+                for (Object element : collection) {
+                    push(element);
+                }
+                return getCollectionInternalsSize(collection);
+            }
+            return 0;
+        }
+
+        private void push(Object object) {
+            if (object != null && filter.test(object.getClass()) && !visited.contains(object)) {
+                stack.addLast(object);
+            }
+        }
+
+        private ClassSize getClassSize(Class<?> type) {
+            ClassSize size = histogram.get(type);
+            if (size == null) {
+                size = new ClassSize(type);
+                histogram.put(type, size);
+            }
+            return size;
+        }
+    }
+
+    private long getStringValueSize(String string) {
+        int length = string.length();
+        if (!COMPACT_STRINGS) {
+            return layout.getArraySize(char.class, length);
+        }
+        for (int i = 0; i < length; i++) {
+            if (string.charAt(i) > 0xFF) {
+                return layout.getArraySize(byte.class, length * 2);
+            }
+        }
+        return layout.getArraySize(byte.class, length);
+    }
+
+    private long getCollectionInternalsSize(Collection<?> collection) {
+        int size = collection.size();
+        if (collection instanceof Set) {
+            // Sets are usually backed by maps.
+            return layout.getInstanceSize(HashMap.class) + getHashTableSize(size);
+        }
+        if (collection instanceof RandomAccess || collection instanceof ArrayDeque) {
+            return layout.getArraySize(Object.class, size);
+        }
+        // Linked node per element: item, next and previous references.
+        return size * layout.align(layout.getObjectHeaderSize() + 3L * layout.getReferenceSize());
+    }
+
+    /**
+     * Returns size of hash table and entries (hash, key, value and next references) of map of specified size.
+     */
+    private long getHashTableSize(int size) {
+        if (size == 0) {
+            return 0;
+        }
+        int capacity = Integer.highestOneBit(Math.max(1, (int) (size / LOAD_FACTOR)) * 2 - 1);
+        long entry = layout.align(layout.getObjectHeaderSize() + 4L + 3L * layout.getReferenceSize());
+        return layout.getArraySize(Object.class, capacity) + size * entry;
+    }
+
+    private static boolean hasField(Class<?> type, String name) {
+        for (java.lang.reflect.Field field : type.getDeclaredFields()) {
+            if (field.getName().equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
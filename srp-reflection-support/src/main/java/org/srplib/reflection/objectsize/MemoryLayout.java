@@ -0,0 +1,212 @@
+package org.srplib.reflection.objectsize;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+
+import org.srplib.contract.Argument;
+
+/**
+ * Memory layout parameters of JVM heap objects used to estimate object sizes.
+ *
+ * <p>
+ *     Instance size is object header plus sizes of instance fields (including fields of superclasses) rounded up to
+ *     alignment. Array size is array header (including length) plus element sizes rounded up to alignment. Layouts of
+ *     classes are computed once and cached per memory layout.
+ * </p>
+ */
+public final class MemoryLayout {
+
+    /**
+     * 64 bit JVM with compressed references (default for heaps below 32 GB).
+     */
+    public static final MemoryLayout COMPRESSED_OOPS = new MemoryLayout(12, 16, 4, 8);
+
+    /**
+     * 64 bit JVM without compressed references.
+     */
+    public static final MemoryLayout UNCOMPRESSED_OOPS = new MemoryLayout(16, 24, 8, 8);
+
+    /**
+     * 32 bit JVM.
+     */
+    public static final MemoryLayout BITS_32 = new MemoryLayout(8, 12, 4, 8);
+
+    private static final long COMPRESSED_OOPS_HEAP_LIMIT = 32L * 1024 * 1024 * 1024;
+
+    private static final MemoryLayout CURRENT = detect();
+
+    private final int objectHeaderSize;
+
+    private final int arrayHeaderSize;
+
+    private final int referenceSize;
+
+    private final int alignment;
+
+    private final ClassValue<ClassLayout> layouts = new ClassValue<ClassLayout>() {
+        @Override
+        protected ClassLayout computeValue(Class<?> type) {
+            return new ClassLayout(type, MemoryLayout.this);
+        }
+    };
+
+    /**
+     * Creates memory layout.
+     *
+     * @param objectHeaderSize int size of object header in bytes
+     * @param arrayHeaderSize int size of array header (including length) in bytes
+     * @param referenceSize int size of reference in bytes
+     * @param alignment int object alignment in bytes (power of two)
+     */
+    public MemoryLayout(int objectHeaderSize, int arrayHeaderSize, int referenceSize, int alignment) {
+        Argument.checkTrue(objectHeaderSize > 0, "objectHeaderSize must be positive!");
+        Argument.checkTrue(arrayHeaderSize > 0, "arrayHeaderSize must be positive!");
+        Argument.checkTrue(referenceSize == 4 || referenceSize == 8, "referenceSize must be 4 or 8!");
+        Argument.checkTrue(alignment > 0 && Integer.bitCount(alignment) == 1, "alignment must be power of two!");
+
+        this.objectHeaderSize = objectHeaderSize;
+        this.arrayHeaderSize = arrayHeaderSize;
+        this.referenceSize = referenceSize;
+        this.alignment = alignment;
+    }
+
+    /**
+     * Returns layout of current JVM.
+     *
+     * <p>
+     *     Compressed references are detected by {@code UseCompressedOops} VM option if HotSpot diagnostic bean is
+     *     available, otherwise by maximum heap size.
+     * </p>
+     *
+     * @return MemoryLayout layout of current JVM
+     */
+    public static MemoryLayout current() {
+        return CURRENT;
+    }
+
+    public int getObjectHeaderSize() {
+        return objectHeaderSize;
+    }
+
+    public int getArrayHeaderSize() {
+        return arrayHeaderSize;
+    }
+
+    public int getReferenceSize() {
+        return referenceSize;
+    }
+
+    public int getAlignment() {
+        return alignment;
+    }
+
+    /**
+     * Returns size of field (array element) of specified type.
+     *
+     * @param type Class field type
+     * @return int size in bytes
+     */
+    public int getFieldSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        if (type == byte.class || type == boolean.class) {
+            return 1;
+        }
+        return referenceSize;
+    }
+
+    /**
+     * Returns size of instance of specified (not array) class.
+     *
+     * @param type Class a class
+     * @return long shallow size in bytes
+     */
+    public long getInstanceSize(Class<?> type) {
+        Argument.checkNotNull(type, "type must not be null!");
+        Argument.checkFalse(type.isArray(), "Use getArraySize() for arrays.");
+
+        return getClassLayout(type).getInstanceSize();
+    }
+
+    /**
+     * Returns size of array.
+     *
+     * @param componentType Class array component type
+     * @param length int array length
+     * @return long size in bytes
+     */
+    public long getArraySize(Class<?> componentType, int length) {
+        return align(arrayHeaderSize + (long) length * getFieldSize(componentType));
+    }
+
+    /**
+     * Returns shallow size of object (object itself without referenced objects).
+     *
+     * @param object Object an object
+     * @return long size in bytes
+     */
+    public long getShallowSize(Object object) {
+        Argument.checkNotNull(object, "object must not be null!");
+
+        Class<?> type = object.getClass();
+        return type.isArray()
+            ? getArraySize(type.getComponentType(), Array.getLength(object))
+            : getInstanceSize(type);
+    }
+
+    /**
+     * Rounds size up to alignment.
+     *
+     * @param size long size in bytes
+     * @return long aligned size
+     */
+    public long align(long size) {
+        return (size + alignment - 1) & -alignment;
+    }
+
+    ClassLayout getClassLayout(Class<?> type) {
+        return layouts.get(type);
+    }
+
+    private static MemoryLayout detect() {
+        if ("32".equals(System.getProperty("sun.arch.data.model"))) {
+            return BITS_32;
+        }
+        Boolean compressed = getCompressedOopsOption();
+        if (compressed == null) {
+            compressed = Runtime.getRuntime().maxMemory() < COMPRESSED_OOPS_HEAP_LIMIT;
+        }
+        return compressed ? COMPRESSED_OOPS : UNCOMPRESSED_OOPS;
+    }
+
+    /**
+     * Returns value of {@code UseCompressedOops} option or {@code null} if it is not available (not HotSpot JVM).
+     */
+    @SuppressWarnings("unchecked")
+    private static Boolean getCompressedOopsOption() {
+        try {
+            Class beanClass = Class.forName("com.sun.management.HotSpotDiagnosticMXBean");
+            Object bean = ManagementFactory.getPlatformMXBean(beanClass);
+            Object option = beanClass.getMethod("getVMOption", String.class).invoke(bean, "UseCompressedOops");
+            Method getValue = option.getClass().getMethod("getValue");
+            return Boolean.valueOf((String) getValue.invoke(option));
+        }
+        catch (Exception | LinkageError e) {
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MemoryLayout{objectHeader=%d, arrayHeader=%d, reference=%d, alignment=%d}",
+            objectHeaderSize, arrayHeaderSize, referenceSize, alignment);
+    }
+}
@@ -0,0 +1,28 @@
+package org.srplib.reflection.objectsize;
+
+import org.srplib.support.Predicate;
+
+/**
+ * A predicate for checking should or not {@link DeepSizeEstimator} count (and examine) instances of particular class.
+ *
+ * <p>
+ *     Rejects classes of objects shared by the whole application rather than retained by particular object graph:
+ *     {@link Class}, {@link ClassLoader}, {@link Thread} and enums.
+ * </p>
+ */
+public class NonSharedClassesFilter implements Predicate<Class<?>> {
+
+    @Override
+    public boolean test(Class<?> value) {
+        return !isShared(value);
+    }
+
+    private boolean isShared(Class<?> type) {
+        return
+            type == Class.class ||
+                ClassLoader.class.isAssignableFrom(type) ||
+                Thread.class.isAssignableFrom(type) ||
+                Enum.class.isAssignableFrom(type);
+    }
+
+}
@@ -0,0 +1,92 @@
+package org.srplib.reflection.objectsize;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Result of deep size estimation: total size, number of objects and per class histogram.
+ */
+public final class SizeReport {
+
+    private final long bytes;
+
+    private final long count;
+
+    private final boolean truncated;
+
+    private final List<ClassSize> histogram;
+
+    SizeReport(long bytes, long count, boolean truncated, Collection<ClassSize> classes) {
+        this.bytes = bytes;
+        this.count = count;
+        this.truncated = truncated;
+
+        List<ClassSize> sorted = new ArrayList<>(classes);
+        Collections.sort(sorted, new Comparator<ClassSize>() {
+            @Override
+            public int compare(ClassSize size1, ClassSize size2) {
+                return Long.compare(size2.getBytes(), size1.getBytes());
+            }
+        });
+        this.histogram = Collections.unmodifiableList(sorted);
+    }
+
+    /**
+     * Returns estimated total size of reachable objects.
+     *
+     * @return long size in bytes (lower bound if report is truncated)
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Returns number of counted objects.
+     *
+     * @return long number of objects
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Tests if estimation stopped because byte or object budget was exceeded.
+     *
+     * @return true if not all reachable objects are counted
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * Returns per class statistics sorted by size (largest first).
+     *
+     * @return unmodifiable list of class statistics
+     */
+    public List<ClassSize> getHistogram() {
+        return histogram;
+    }
+
+    /**
+     * Returns statistics of specified class.
+     *
+     * @param type Class a class
+     * @return ClassSize statistics or {@code null} if there are no instances of the class
+     */
+    public ClassSize get(Class<?> type) {
+        for (ClassSize size : histogram) {
+            if (size.getType() == type) {
+                return size;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SizeReport{bytes=%d, count=%d, truncated=%s}", bytes, count, truncated);
+    }
+}
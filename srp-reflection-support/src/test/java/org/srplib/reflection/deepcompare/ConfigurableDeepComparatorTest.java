@@ -77,6 +77,16 @@ public class ConfigurableDeepComparatorTest {
         assertThat(person1, deepCompare(person2));
     }
 
+    @Test
+    public void comparatorIsReusable() throws Exception {
+        Person expected = new Person("name", "surname", 23, Arrays.<Person>asList());
+        Person actual = new Person("name", "other", 23, Arrays.<Person>asList());
+
+        assertThat(comparator.compare(expected, actual), Matchers.hasSize(1));
+        // The same pair compared again must not be skipped as already processed.
+        assertThat(comparator.compare(expected, actual), Matchers.hasSize(1));
+    }
+
     @Test
     public void rememberProcessedShouldHandleInternedStrings() throws Exception {
         TwoStrings expected = new TwoStrings("s1", "s1");
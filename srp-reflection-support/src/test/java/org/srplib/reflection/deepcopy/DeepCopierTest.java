@@ -0,0 +1,389 @@
+package org.srplib.reflection.deepcopy;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.srplib.reflection.ReflectionException;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Test for {@link DeepCopier}.
+ */
+public class DeepCopierTest {
+
+    private final DeepCopier copier = new DeepCopier();
+
+    @Test
+    public void copyFields() throws Exception {
+        Item item = new Item("root", 5);
+        item.weight = 2.5;
+        item.active = true;
+        item.code = 'x';
+        item.next = new Item("next", 6);
+
+        Item copy = copier.copy(item);
+
+        Assert.assertThat(copy, not(sameInstance(item)));
+        Assert.assertThat(copy.name, sameInstance(item.name));
+        Assert.assertThat(copy.value, is(5));
+        Assert.assertThat(copy.weight, is(2.5));
+        Assert.assertThat(copy.active, is(true));
+        Assert.assertThat(copy.code, is('x'));
+        Assert.assertThat(copy.next, not(sameInstance(item.next)));
+        Assert.assertThat(copy.next.name, is("next"));
+        Assert.assertThat(copy.next.value, is(6));
+    }
+
+    @Test
+    public void sharedReferencesAndCycles() throws Exception {
+        Item first = new Item("first", 1);
+        Item second = new Item("second", 2);
+        first.next = second;
+        second.next = first;
+        first.children.add(second);
+        first.children.add(second);
+
+        Item copy = copier.copy(first);
+
+        Assert.assertThat(copy.next.next, sameInstance(copy));
+        Assert.assertThat(copy.children.get(0), sameInstance(copy.next));
+        Assert.assertThat(copy.children.get(1), sameInstance(copy.next));
+    }
+
+    @Test
+    public void hashedContainersAreFilledByCompleteCopies() throws Exception {
+        Item key = new Item("key", 1);
+        Map<Item, Item> map = new HashMap<>();
+        map.put(key, new Item("value", 2));
+        Set<Set<Item>> sets = new HashSet<>();
+        sets.add(new HashSet<>(Arrays.asList(key)));
+        key.attributes = map;
+
+        Holder holder = new Holder(key, sets);
+
+        Holder copy = copier.copy(holder);
+
+        Item keyCopy = (Item) copy.first;
+        Assert.assertThat(keyCopy, not(sameInstance(key)));
+        Assert.assertThat(keyCopy.attributes.get(keyCopy).name, is("value"));
+        Assert.assertThat(((Set<?>) copy.second).contains(Collections.singleton(keyCopy)), is(true));
+    }
+
+    @Test
+    public void sortedMapKeepsComparator() throws Exception {
+        Map<String, Item> map = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        map.put("b", new Item("b", 2));
+        map.put("A", new Item("a", 1));
+
+        Map<String, Item> copy = copier.copy(map);
+
+        Assert.assertThat(copy instanceof TreeMap, is(true));
+        Assert.assertThat(new ArrayList<>(copy.keySet()), is(Arrays.asList("A", "b")));
+        Assert.assertThat(copy.get("a").name, is("a"));
+        Assert.assertThat(copy.get("a"), not(sameInstance(map.get("a"))));
+    }
+
+    @Test
+    public void orderOfLinkedMapIsPreserved() throws Exception {
+        Map<String, Integer> map = new LinkedHashMap<>();
+        map.put("z", 1);
+        map.put("a", 2);
+
+        Map<String, Integer> copy = copier.copy(map);
+
+        Assert.assertThat(copy, is(map));
+        Assert.assertThat(new ArrayList<>(copy.keySet()), is(Arrays.asList("z", "a")));
+    }
+
+    @Test
+    public void arrays() throws Exception {
+        int[] ints = {1, 2, 3};
+        String[] strings = {"a", "b"};
+        Item[] items = {new Item("a", 1), null};
+
+        Holder copy = copier.copy(new Holder(ints, new Object[] {strings, items}));
+
+        int[] intsCopy = (int[]) copy.first;
+        Object[] arrays = (Object[]) copy.second;
+        Item[] itemsCopy = (Item[]) arrays[1];
+
+        Assert.assertThat(intsCopy, not(sameInstance(ints)));
+        Assert.assertThat(Arrays.equals(intsCopy, ints), is(true));
+        Assert.assertThat(Arrays.equals((String[]) arrays[0], strings), is(true));
+        Assert.assertThat(itemsCopy[0], not(sameInstance(items[0])));
+        Assert.assertThat(itemsCopy[0].name, is("a"));
+        Assert.assertThat(itemsCopy[1], nullValue());
+    }
+
+    @Test
+    public void immutableObjectsAreShared() throws Exception {
+        LocalDate date = LocalDate.of(2020, 1, 1);
+        Holder holder = new Holder(date, TimeUnit.SECONDS);
+
+        Holder copy = copier.copy(holder);
+
+        Assert.assertThat(copy.first, sameInstance((Object) date));
+        Assert.assertThat(copy.second, sameInstance((Object) TimeUnit.SECONDS));
+        Assert.assertThat(copier.copy("string"), is("string"));
+        Assert.assertThat(copier.copy(null), nullValue());
+    }
+
+    @Test
+    public void customImmutableClass() throws Exception {
+        Item item = new Item("item", 1);
+
+        Assert.assertThat(copier.immutable(Item.class).copy(new Holder(item, null)).first, sameInstance((Object) item));
+        Assert.assertThat(copier.isImmutable(Item.class), is(true));
+    }
+
+    @Test
+    public void jdkClassesWithoutAccessibleFields() throws Exception {
+        Date date = new Date(1000);
+        Set<TimeUnit> units = EnumSet.of(TimeUnit.SECONDS);
+
+        Holder copy = copier.copy(new Holder(date, units));
+
+        Assert.assertThat(copy.first, is((Object) date));
+        Assert.assertThat(copy.first, not(sameInstance((Object) date)));
+        Assert.assertThat(copy.second, is((Object) units));
+        Assert.assertThat(copy.second, not(sameInstance((Object) units)));
+    }
+
+    @Test
+    public void nonPublicCollectionClass() throws Exception {
+        Object key = new Object();
+        ItemMap map = new ItemMap();
+        map.put(key, new Item("value", 1));
+
+        Holder copy = copier.copy(new Holder(key, map));
+
+        Assert.assertThat(copy.second.getClass(), is((Object) ItemMap.class));
+        Assert.assertThat(copy.first, not(sameInstance(key)));
+        // Hash of copied key differs from hash of original one.
+        Assert.assertThat(((ItemMap) copy.second).get(copy.first).name, is("value"));
+    }
+
+    @Test(expected = ReflectionException.class)
+    public void collectionWhichCantBeInstantiated() throws Exception {
+        copier.copy(new Holder(new FixedList("item"), null));
+    }
+
+    @Test
+    public void arrayBackedList() throws Exception {
+        Item item = new Item("item", 1);
+        List<Item> list = Arrays.asList(item, item);
+
+        List<Item> copy = copier.copy(list);
+
+        Assert.assertThat(copy.getClass(), is((Object) list.getClass()));
+        Assert.assertThat(copy, is(list));
+        Assert.assertThat(copy.get(0), not(sameInstance(item)));
+        Assert.assertThat(copy.get(1), sameInstance(copy.get(0)));
+    }
+
+    @Test
+    public void emptyCollectionsAreShared() throws Exception {
+        Holder copy = copier.copy(new Holder(Collections.emptyList(), Collections.emptyMap()));
+
+        Assert.assertThat(copy.first, sameInstance((Object) Collections.emptyList()));
+        Assert.assertThat(copy.second, sameInstance((Object) Collections.emptyMap()));
+        Assert.assertThat(copier.copy(Collections.emptySet()), sameInstance(Collections.emptySet()));
+        Assert.assertThat(copier.copy(Collections.emptySortedSet()), sameInstance(Collections.emptySortedSet()));
+    }
+
+    @Test
+    public void singletonCollections() throws Exception {
+        Item item = new Item("item", 1);
+        List<String> immutable = Collections.singletonList("string");
+
+        List<Item> list = copier.copy(Collections.singletonList(item));
+        Set<Item> set = copier.copy(Collections.singleton(item));
+        Map<String, Item> map = copier.copy(Collections.singletonMap("key", item));
+
+        Assert.assertThat(list.getClass(), is((Object) Collections.singletonList(item).getClass()));
+        Assert.assertThat(list.get(0), not(sameInstance(item)));
+        Assert.assertThat(list.get(0), is(item));
+        Assert.assertThat(set.getClass(), is((Object) Collections.singleton(item).getClass()));
+        Assert.assertThat(set.iterator().next(), not(sameInstance(item)));
+        Assert.assertThat(map.getClass(), is((Object) Collections.singletonMap("key", item).getClass()));
+        Assert.assertThat(map.get("key"), not(sameInstance(item)));
+        Assert.assertThat(copier.copy(immutable), sameInstance(immutable));
+    }
+
+    @Test
+    public void unmodifiableWrappers() throws Exception {
+        Item item = new Item("item", 1);
+        List<Item> list = Collections.unmodifiableList(new ArrayList<>(Arrays.asList(item)));
+        Set<Item> set = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(item)));
+        Map<String, Item> map =
+            Collections.unmodifiableSortedMap(new TreeMap<String, Item>(String.CASE_INSENSITIVE_ORDER));
+        Collection<Item> collection = Collections.unmodifiableCollection(new ArrayList<>(Arrays.asList(item)));
+
+        Holder first = copier.copy(new Holder(list, set));
+        Holder second = copier.copy(new Holder(map, collection));
+
+        Assert.assertThat(first.first.getClass(), is((Object) list.getClass()));
+        Assert.assertThat(((List<?>) first.first).get(0), not(sameInstance((Object) item)));
+        Assert.assertThat(first.first, is((Object) list));
+        Assert.assertThat(first.second.getClass(), is((Object) set.getClass()));
+        Assert.assertThat(first.second, is((Object) set));
+        Assert.assertThat(second.first.getClass(), is((Object) map.getClass()));
+        Assert.assertThat(((SortedMap<?, ?>) second.first).comparator(), is((Object) String.CASE_INSENSITIVE_ORDER));
+        Assert.assertThat(second.second.getClass(), is((Object) collection.getClass()));
+        Assert.assertThat(((Collection<?>) second.second).iterator().next(), not(sameInstance((Object) item)));
+        try {
+            ((List<Item>) first.first).add(item);
+            Assert.fail("UnsupportedOperationException expected");
+        }
+        catch (UnsupportedOperationException e) {
+            // copy is unmodifiable
+        }
+    }
+
+    @Test
+    public void synchronizedWrappers() throws Exception {
+        Item item = new Item("item", 1);
+        List<Item> list = Collections.synchronizedList(new ArrayList<>(Arrays.asList(item)));
+        Map<Item, Item> map = Collections.synchronizedMap(new HashMap<Item, Item>());
+        map.put(item, item);
+
+        Holder copy = copier.copy(new Holder(list, map));
+
+        Map<?, ?> mapCopy = (Map<?, ?>) copy.second;
+        Assert.assertThat(copy.first.getClass(), is((Object) list.getClass()));
+        Assert.assertThat(((List<?>) copy.first).get(0), not(sameInstance((Object) item)));
+        Assert.assertThat(mapCopy.getClass(), is((Object) map.getClass()));
+        Assert.assertThat(mapCopy.get(((List<?>) copy.first).get(0)), sameInstance(((List<?>) copy.first).get(0)));
+    }
+
+    @Test
+    public void keySetOfMap() throws Exception {
+        Map<Item, String> map = new HashMap<>();
+        map.put(new Item("item", 1), "value");
+        Set<String> sorted = new TreeMap<String, Object>(String.CASE_INSENSITIVE_ORDER).keySet();
+
+        Set<Item> copy = copier.copy(map.keySet());
+        Set<String> sortedCopy = copier.copy(sorted);
+
+        Assert.assertThat(copy.getClass(), is((Object) map.keySet().getClass()));
+        Assert.assertThat(copy, is(map.keySet()));
+        Assert.assertThat(copy.iterator().next(), not(sameInstance(map.keySet().iterator().next())));
+        Assert.assertThat(sortedCopy.getClass(), is((Object) sorted.getClass()));
+        Assert.assertThat(((SortedSet<String>) sortedCopy).comparator(), is((Object) String.CASE_INSENSITIVE_ORDER));
+    }
+
+    @Test
+    public void cycleThroughUnmodifiableWrapper() throws Exception {
+        Item item = new Item("item", 1);
+        item.children = Collections.unmodifiableList(new ArrayList<>(Arrays.asList(item)));
+
+        Item copy = copier.copy(item);
+
+        Assert.assertThat(copy.children.get(0), sameInstance(copy));
+    }
+
+    @Test
+    public void collectionRegisteredAsImmutable() throws Exception {
+        List<Object> list = Collections.unmodifiableList(new ArrayList<>());
+
+        Holder copy = copier.immutable(list.getClass()).copy(new Holder(list, null));
+
+        Assert.assertThat(copy.first, sameInstance((Object) list));
+    }
+
+    @Test
+    public void deepGraph() throws Exception {
+        Item root = new Item("0", 0);
+        Item last = root;
+        for (int i = 1; i < 200000; i++) {
+            last.next = new Item(String.valueOf(i), i);
+            last = last.next;
+        }
+
+        Item copy = copier.copy(root);
+
+        int count = 0;
+        for (Item item = copy; item != null; item = item.next) {
+            count++;
+        }
+        Assert.assertThat(count, is(200000));
+    }
+
+    private static class Item {
+
+        private final String name;
+
+        private final int value;
+
+        private double weight;
+
+        private boolean active;
+
+        private char code;
+
+        private Item next;
+
+        private List<Item> children = new ArrayList<>();
+
+        private Map<Item, Item> attributes;
+
+        Item(String name, int value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Item && ((Item) o).name.equals(name) && ((Item) o).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode() * 31 + value;
+        }
+    }
+
+    static class ItemMap extends HashMap<Object, Item> {
+    }
+
+    private static class FixedList extends ArrayList<Object> {
+
+        FixedList(Object element) {
+            add(element);
+        }
+    }
+
+    private static class Holder {
+
+        private Object first;
+
+        private Object second;
+
+        Holder(Object first, Object second) {
+            this.first = first;
+            this.second = second;
+        }
+    }
+
+}
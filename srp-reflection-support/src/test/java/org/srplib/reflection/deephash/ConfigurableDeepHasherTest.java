@@ -0,0 +1,256 @@
+package org.srplib.reflection.deephash;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+/**
+ * Test for {@link ConfigurableDeepHasher}, {@link Fingerprint} and {@link ChangeDetector}.
+ */
+public class ConfigurableDeepHasherTest {
+
+    private final ConfigurableDeepHasher hasher = new ConfigurableDeepHasher();
+
+    @Test
+    public void equalGraphsHaveEqualFingerprints() throws Exception {
+        Assert.assertThat(hasher.fingerprint(newOrder()), is(hasher.fingerprint(newOrder())));
+        Assert.assertThat(hasher.hash(newOrder()), is(hasher.hash(newOrder())));
+    }
+
+    @Test
+    public void nestedChangeChangesFingerprint() throws Exception {
+        Order order = newOrder();
+        Fingerprint before = hasher.fingerprint(order);
+
+        order.lines.get(1).quantity++;
+
+        Assert.assertThat(hasher.fingerprint(order), not(before));
+    }
+
+    @Test
+    public void fingerprintIsStable() throws Exception {
+        // Digest depends on values only, so it must never change between runs.
+        Assert.assertThat(hasher.fingerprint("abc").toString(), is(hasher.fingerprint(new String("abc")).toString()));
+        Assert.assertThat(hasher.fingerprint(Arrays.asList(1, "a")).toString(), is("5e14f3947778c587c8708cef814f9c80"));
+    }
+
+    @Test
+    public void valuesOfDifferentClassesDiffer() throws Exception {
+        Assert.assertThat(hasher.fingerprint(1), not(hasher.fingerprint(1L)));
+        Assert.assertThat(hasher.fingerprint(new BigDecimal("1.0")), is(hasher.fingerprint(new BigDecimal("1.0"))));
+        Assert.assertThat(hasher.fingerprint(null), not(hasher.fingerprint(0)));
+    }
+
+    @Test
+    public void standardImmutableClassesAreHashedByValue() throws Exception {
+        UUID uuid = UUID.randomUUID();
+        List<Object> values = Arrays.asList(LocalDate.of(2020, 1, 1), uuid, String.class, new AtomicBoolean(true),
+            Duration.ofSeconds(5), Locale.US, Pattern.compile("a+"));
+        List<Object> copies = Arrays.asList(LocalDate.of(2020, 1, 1), UUID.fromString(uuid.toString()), String.class,
+            new AtomicBoolean(true), Duration.ofSeconds(5), new Locale("en", "US"), Pattern.compile("a+"));
+
+        Assert.assertThat(hasher.fingerprint(values), is(hasher.fingerprint(copies)));
+        Assert.assertThat(hasher.fingerprint(String.class), not(hasher.fingerprint(Integer.class)));
+        Assert.assertThat(hasher.fingerprint(LocalDate.of(2020, 1, 1)),
+            not(hasher.fingerprint(LocalDate.of(2020, 1, 2))));
+        Assert.assertThat(hasher.fingerprint(new AtomicBoolean(true)),
+            not(hasher.fingerprint(new AtomicBoolean(false))));
+    }
+
+    @Test
+    public void fieldValuesAreNotInterchangeable() throws Exception {
+        Assert.assertThat(hasher.fingerprint(new Line("a", "b", 1)), not(hasher.fingerprint(new Line("b", "a", 1))));
+    }
+
+    @Test
+    public void setsAndMapsDontDependOnOrder() throws Exception {
+        Set<Object> set1 = new LinkedHashSet<Object>(Arrays.asList("a", new Line("x", "y", 1), 3));
+        Set<Object> set2 = new LinkedHashSet<Object>(Arrays.asList(3, new Line("x", "y", 1), "a"));
+        Map<String, Object> map1 = new LinkedHashMap<>();
+        map1.put("a", 1);
+        map1.put("b", new Line("x", "y", 1));
+        Map<String, Object> map2 = new HashMap<>();
+        map2.put("b", new Line("x", "y", 1));
+        map2.put("a", 1);
+
+        Assert.assertThat(hasher.fingerprint(set1), is(hasher.fingerprint(set2)));
+        Assert.assertThat(hasher.fingerprint(map1), is(hasher.fingerprint(map2)));
+
+        map2.put("a", 2);
+        Assert.assertThat(hasher.fingerprint(map1), not(hasher.fingerprint(map2)));
+    }
+
+    @Test
+    public void listsDependOnOrder() throws Exception {
+        Assert.assertThat(hasher.fingerprint(Arrays.asList(1, 2)), not(hasher.fingerprint(Arrays.asList(2, 1))));
+    }
+
+    @Test
+    public void cycles() throws Exception {
+        Order order1 = newOrder();
+        Order order2 = newOrder();
+        order1.parent = order1;
+        order2.parent = order2;
+
+        Assert.assertThat(hasher.fingerprint(order1), is(hasher.fingerprint(order2)));
+        Assert.assertThat(hasher.fingerprint(order1), not(hasher.fingerprint(newOrder())));
+    }
+
+    @Test
+    public void cyclesInUnorderedContainers() throws Exception {
+        Set<Fingerprint> fingerprints = new HashSet<>();
+        for (int i = 0; i < 50; i++) {
+            Peer first = new Peer("first");
+            Peer second = new Peer("second");
+            first.peer = second;
+            second.peer = first;
+            // Iteration order of set depends on identity hash codes of peers.
+            fingerprints.add(hasher.fingerprint(new HashSet<>(Arrays.asList(first, second))));
+        }
+
+        Assert.assertThat(fingerprints.size(), is(1));
+    }
+
+    @Test(timeout = 10000)
+    public void denselyCyclicGraph() throws Exception {
+        // Every person is a friend of every other one: number of paths through graph is factorial.
+        List<Person> first = newFriends(100);
+        List<Person> second = newFriends(100);
+        Collections.reverse(second);
+
+        Assert.assertThat(hasher.fingerprint(new HashSet<>(first)), is(hasher.fingerprint(new HashSet<>(second))));
+        Assert.assertThat(hasher.fingerprint(first.get(0)), is(hasher.fingerprint(second.get(99))));
+        Assert.assertThat(hasher.fingerprint(first.get(0)), not(hasher.fingerprint(first.get(1))));
+
+        second.get(50).friends.remove(second.get(51));
+        Assert.assertThat(hasher.fingerprint(new HashSet<>(first)), not(hasher.fingerprint(new HashSet<>(second))));
+    }
+
+    @Test
+    public void primitiveArrays() throws Exception {
+        Assert.assertThat(hasher.fingerprint(new long[] {1, 2}), is(hasher.fingerprint(new long[] {1, 2})));
+        Assert.assertThat(hasher.fingerprint(new long[] {1, 2}), not(hasher.fingerprint(new long[] {2, 1})));
+        Assert.assertThat(hasher.fingerprint(new int[] {1, 2}), not(hasher.fingerprint(new long[] {1, 2})));
+        Assert.assertThat(hasher.fingerprint(new char[] {'a'}), is(hasher.fingerprint(new char[] {'a'})));
+    }
+
+    @Test
+    public void parse() throws Exception {
+        Fingerprint fingerprint = hasher.fingerprint(newOrder());
+
+        Assert.assertThat(Fingerprint.parse(fingerprint.toString()), is(fingerprint));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parseInvalid() throws Exception {
+        Fingerprint.parse("abc");
+    }
+
+    @Test
+    public void changeDetector() throws Exception {
+        ChangeDetector<Integer> detector = new ChangeDetector<>();
+        Order order = newOrder();
+
+        Assert.assertThat(detector.update(1, order), is(true));
+        Assert.assertThat(detector.update(1, newOrder()), is(false));
+
+        order.lines.add(new Line("c", "d", 3));
+        Assert.assertThat(detector.update(1, order), is(true));
+        Assert.assertThat(detector.get(1), is(hasher.fingerprint(order)));
+        Assert.assertThat(detector.size(), is(1));
+    }
+
+    private static Order newOrder() {
+        Order order = new Order();
+        order.number = "A-1";
+        order.lines.add(new Line("apple", "fruit", 2));
+        order.lines.add(new Line("pear", "fruit", 1));
+        order.tags.add("new");
+        order.tags.add("paid");
+        return order;
+    }
+
+    private static class Order {
+
+        private String number;
+
+        private Order parent;
+
+        private List<Line> lines = new ArrayList<>();
+
+        private Set<String> tags = new HashSet<>();
+    }
+
+    private static List<Person> newFriends(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new Person("person" + i));
+        }
+        for (Person person : persons) {
+            for (Person friend : persons) {
+                if (friend != person) {
+                    person.friends.add(friend);
+                }
+            }
+        }
+        return persons;
+    }
+
+    private static class Person {
+
+        private String name;
+
+        private Set<Person> friends = new HashSet<>();
+
+        Person(String name) {
+            this.name = name;
+        }
+    }
+
+    private static class Peer {
+
+        private String name;
+
+        private Peer peer;
+
+        Peer(String name) {
+            this.name = name;
+        }
+    }
+
+    private static class Line {
+
+        private String name;
+
+        private String category;
+
+        private int quantity;
+
+        Line(String name, String category, int quantity) {
+            this.name = name;
+            this.category = category;
+            this.quantity = quantity;
+        }
+    }
+
+}
@@ -0,0 +1,201 @@
+package org.srplib.reflection.nativeimage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.srplib.reflection.objectfactory.ClassGraphFactory;
+import org.srplib.reflection.objectfactory.ConfigurableNodeValueFactory;
+import org.srplib.reflection.objectgraph.ObjectGraph;
+import org.srplib.reflection.objectgraph.Visitor;
+import org.srplib.reflection.support.TestEnum;
+import org.srplib.reflection.valuefactory.NonDefaultValueFactory;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+/**
+ * Test for {@link ReachabilityMetadataCollector} and {@link ReachabilityMetadata}.
+ */
+public class ReachabilityMetadataCollectorTest {
+
+    @Test
+    public void beanClasses() throws Exception {
+        ReachabilityMetadata metadata = ReachabilityMetadataGenerator.generate(Order.class);
+
+        Assert.assertThat(metadata.find(Order.class).isAllDeclaredFields(), is(true));
+        Assert.assertThat(metadata.find(Order.class).isUnsafeAllocated(), is(true));
+        Assert.assertThat(metadata.find(Order.class).hasConstructor(), is(true));
+        Assert.assertThat(metadata.find(Document.class).isAllDeclaredFields(), is(true));
+        Assert.assertThat(metadata.find(Document.class).isUnsafeAllocated(), is(false));
+        Assert.assertThat(metadata.find(Customer.class).isUnsafeAllocated(), is(true));
+        // Customer has no no-arg constructor.
+        Assert.assertThat(metadata.find(Customer.class).hasConstructor(), is(false));
+    }
+
+    @Test
+    public void arraysEnumsAndCollections() throws Exception {
+        ReachabilityMetadata metadata = ReachabilityMetadataGenerator.generate(Order.class, Tagged.class);
+
+        Assert.assertThat(metadata.find(Item[].class), notNullValue());
+        Assert.assertThat(metadata.find(Item.class).isAllDeclaredFields(), is(true));
+        Assert.assertThat(metadata.find(String[].class), notNullValue());
+        Assert.assertThat(metadata.find(TestEnum.class).hasMethod("values"), is(true));
+        Assert.assertThat(metadata.find(ArrayList.class).hasConstructor(), is(true));
+        // Interface fields are examined by ClassGraph, but interface can't be instantiated.
+        Assert.assertThat(metadata.find(List.class).isUnsafeAllocated(), is(false));
+        Assert.assertThat(metadata.find(Object.class).isUnsafeAllocated(), is(true));
+    }
+
+    @Test
+    public void leafAndStaticFieldsAreNotRegistered() throws Exception {
+        ReachabilityMetadata metadata = ReachabilityMetadataGenerator.generate(Order.class, Tagged.class);
+
+        Assert.assertThat(metadata.find(String.class), nullValue());
+        Assert.assertThat(metadata.find(Date.class), nullValue());
+        Assert.assertThat(metadata.find(Integer.class), nullValue());
+        Assert.assertThat(metadata.find(Registry.class), nullValue());
+    }
+
+    @Test
+    public void cyclicGraph() throws Exception {
+        ReachabilityMetadata metadata = ReachabilityMetadataGenerator.generate(Node.class);
+
+        Assert.assertThat(metadata.find(Node.class).isAllDeclaredFields(), is(true));
+        Assert.assertThat(metadata.find(Node[].class), notNullValue());
+    }
+
+    /**
+     * Creates object graph by walking class graph and checks that each reflectively accessed class is registered.
+     */
+    @Test
+    public void metadataCoversCreatedObjectGraph() throws Exception {
+        final ReachabilityMetadata metadata = ReachabilityMetadataGenerator.generate(Order.class);
+
+        Order order = ClassGraphFactory.newInstance(Order.class,
+            new ConfigurableNodeValueFactory(new NonDefaultValueFactory()));
+
+        final List<Class<?>> visited = new ArrayList<>();
+        new ObjectGraph(order).accept(new Visitor() {
+            @Override
+            public void visit(Object object) {
+                visited.add(object.getClass());
+                assertRegistered(metadata, object.getClass());
+            }
+        });
+
+        Assert.assertThat(visited.contains(Customer.class), is(true));
+        Assert.assertThat(visited.contains(Item.class), is(true));
+    }
+
+    @Test
+    public void json() throws Exception {
+        ReachabilityMetadata metadata = new ReachabilityMetadata();
+        metadata.register(Item.class).allDeclaredFields().unsafeAllocated().constructor();
+        metadata.register(TestEnum.class).method("values");
+        metadata.register(Item[].class);
+
+        String expected = "[\n"
+            + "  {\n"
+            + "    \"name\": \"[Lorg.srplib.reflection.nativeimage.ReachabilityMetadataCollectorTest$Item;\"\n"
+            + "  },\n"
+            + "  {\n"
+            + "    \"name\": \"org.srplib.reflection.nativeimage.ReachabilityMetadataCollectorTest$Item\",\n"
+            + "    \"allDeclaredFields\": true,\n"
+            + "    \"unsafeAllocated\": true,\n"
+            + "    \"methods\": [\n"
+            + "      {\"name\": \"<init>\", \"parameterTypes\": []}\n"
+            + "    ]\n"
+            + "  },\n"
+            + "  {\n"
+            + "    \"name\": \"org.srplib.reflection.support.TestEnum\",\n"
+            + "    \"methods\": [\n"
+            + "      {\"name\": \"values\", \"parameterTypes\": []}\n"
+            + "    ]\n"
+            + "  }\n"
+            + "]\n";
+
+        Assert.assertThat(metadata.toJson(), is(expected));
+    }
+
+    private static void assertRegistered(ReachabilityMetadata metadata, Class<?> type) {
+        ReflectionEntry entry = metadata.find(type);
+        Assert.assertThat("Not registered: " + type, entry, notNullValue());
+
+        if (Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)) {
+            Assert.assertThat("No constructor: " + type, entry.hasConstructor(), is(true));
+        }
+        else if (!type.isArray()) {
+            Assert.assertThat("Not allocatable: " + type, entry.isUnsafeAllocated(), is(true));
+            for (Class<?> current = type; current != Object.class; current = current.getSuperclass()) {
+                Assert.assertThat("No fields: " + current, metadata.find(current).isAllDeclaredFields(), is(true));
+            }
+        }
+    }
+
+    public abstract static class Document {
+
+        private String number;
+
+        private Date date;
+    }
+
+    public static class Order extends Document {
+
+        private static Registry registry;
+
+        private int count;
+
+        private Integer amount;
+
+        private Customer customer;
+
+        private Item[] items;
+
+        private String[] notes;
+
+        private TestEnum status;
+
+        private Object attachment;
+    }
+
+    public static class Customer {
+
+        private String name;
+
+        public Customer(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class Item {
+
+        private String product;
+
+        private long quantity;
+    }
+
+    public static class Tagged {
+
+        private ArrayList<String> tags;
+
+        private List<String> labels;
+    }
+
+    public static class Registry {
+
+        private Map<String, Object> values;
+    }
+
+    public static class Node {
+
+        private Node next;
+
+        private Node[] children;
+    }
+}
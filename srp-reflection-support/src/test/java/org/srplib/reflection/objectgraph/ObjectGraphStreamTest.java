@@ -0,0 +1,169 @@
+package org.srplib.reflection.objectgraph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.srplib.support.Predicate;
+import static org.hamcrest.core.Is.is;
+
+/**
+ * Test for {@link ObjectGraph#stream()} and {@link ObjectGraph#parallelStream()}.
+ */
+public class ObjectGraphStreamTest {
+
+    @Test
+    public void streamOrderIsVisitOrder() throws Exception {
+        Item root = newTree();
+
+        final List<Object> visited = new ArrayList<>();
+        new ObjectGraph(root).accept(new Visitor() {
+            @Override
+            public void visit(Object object) {
+                visited.add(object);
+            }
+        });
+
+        List<Object> streamed = new ObjectGraph(root).stream().map(ObjectGraphNode::getObject)
+            .collect(Collectors.toList());
+
+        Assert.assertThat(streamed, is(visited));
+    }
+
+    @Test
+    public void paths() throws Exception {
+        Item root = newTree();
+
+        Map<String, Object> objects = new LinkedHashMap<>();
+        new ObjectGraph(root).stream().forEach(node -> objects.put(node.getPath().toString(), node.getObject()));
+
+        Assert.assertThat(new ArrayList<>(objects.keySet()), is(Arrays.asList(
+            "", "next", "next.children", "children", "children.[0]", "children.[0].children", "children.[1]",
+            "children.[1].children", "attributes", "attributes.keys[0]", "attributes.[size]",
+            "attributes.[size].children")));
+        Assert.assertThat(objects.get("children.[1]"), is((Object) root.children.get(1)));
+    }
+
+    @Test
+    public void depth() throws Exception {
+        Item root = newTree();
+
+        List<Integer> depths = new ObjectGraph(root).maxDepth(1).stream().map(ObjectGraphNode::getDepth)
+            .collect(Collectors.toList());
+
+        Assert.assertThat(depths, is(Arrays.asList(0, 1, 1, 1)));
+    }
+
+    @Test
+    public void findFirstStopsTraversal() throws Exception {
+        Item first = new Item("0");
+        Item last = first;
+        for (int i = 1; i < 100000; i++) {
+            last.next = new Item(String.valueOf(i));
+            last = last.next;
+        }
+
+        final int[] tested = new int[1];
+        Predicate<Class<?>> filter = new Predicate<Class<?>>() {
+            @Override
+            public boolean test(Class<?> value) {
+                tested[0]++;
+                return new StandardTraversableClassesFilter().test(value);
+            }
+        };
+
+        ObjectGraphNode found = new ObjectGraph(first, filter).stream()
+            .filter(node -> node.getDepth() == 5)
+            .findFirst()
+            .get();
+
+        Assert.assertThat(found.getPath().toString(), is("next.next.next.next.next"));
+        Assert.assertThat(tested[0] < 100, is(true));
+    }
+
+    @Test
+    public void parallelStreamVisitsEachObjectOnce() throws Exception {
+        Item root = new Item("root");
+        for (int i = 0; i < 10000; i++) {
+            Item child = new Item(String.valueOf(i));
+            child.next = root;
+            child.children.add(new Item("leaf"));
+            root.children.add(child);
+        }
+
+        List<Object> objects = new ObjectGraph(root).parallelStream().map(ObjectGraphNode::getObject)
+            .collect(Collectors.toList());
+
+        Map<Object, Boolean> distinct = new IdentityHashMap<>();
+        for (Object object : objects) {
+            distinct.put(object, true);
+        }
+        Assert.assertThat(distinct.size(), is(objects.size()));
+        Assert.assertThat((long) objects.size(), is(new ObjectGraph(root).stream().count()));
+    }
+
+    @Test
+    public void arrayLength() throws Exception {
+        Object[] root = {new double[1000], new Item("item")};
+        Predicate<Class<?>> filter = new Predicate<Class<?>>() {
+            @Override
+            public boolean test(Class<?> value) {
+                return value == double[].class || new StandardTraversableClassesFilter().test(value);
+            }
+        };
+
+        List<Integer> lengths = new ObjectGraph(root, filter).stream().filter(ObjectGraphNode::isArray)
+            .map(ObjectGraphNode::getArrayLength).collect(Collectors.toList());
+
+        Assert.assertThat(lengths, is(Arrays.asList(2, 1000)));
+        Assert.assertThat(ObjectGraphNode.root(root.getClass()).getArrayLength(), is(-1));
+    }
+
+    /**
+     * root -> next, children [a, b], attributes {key -> size}
+     */
+    private static Item newTree() {
+        Item root = new Item("root");
+        root.next = new Item("next");
+        root.children.add(new Item("a"));
+        root.children.add(new Item("b"));
+        root.attributes = new LinkedHashMap<>();
+        root.attributes.put(new Key("size"), new Item("value"));
+        return root;
+    }
+
+    private static class Item {
+
+        private String name;
+
+        private Item next;
+
+        private List<Item> children = new ArrayList<>();
+
+        private Map<Key, Item> attributes;
+
+        private Item(String name) {
+            this.name = name;
+        }
+    }
+
+    private static class Key {
+
+        private String name;
+
+        private Key(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
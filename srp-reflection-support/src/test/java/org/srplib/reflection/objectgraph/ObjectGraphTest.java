@@ -1,12 +1,15 @@
 package org.srplib.reflection.objectgraph;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.srplib.support.Predicate;
 import static org.hamcrest.core.Is.is;
 
 /**
@@ -46,6 +49,130 @@ public class ObjectGraphTest {
         objectGraph.accept(new ObjectTrackerVisitor());
     }
 
+    /**
+     * Identity hash codes of that many objects collide, but distinct objects must not be skipped.
+     */
+    @Test
+    public void testLargeGraphVisitsEachObject() throws Exception {
+        Person[] persons = new Person[200000];
+        for (int i = 0; i < persons.length; i++) {
+            persons[i] = new Person();
+        }
+
+        final int[] count = new int[1];
+        new ObjectGraph(persons).accept(new Visitor() {
+            @Override
+            public void visit(Object object) {
+                count[0]++;
+            }
+        });
+
+        Assert.assertThat(count[0], is(persons.length + 1));
+    }
+
+
+    @Test
+    public void testDeepChainDoesNotOverflowStack() throws Exception {
+        Person first = new Person();
+        Person last = first;
+        for (int i = 0; i < 1000000; i++) {
+            last.friend = new Person();
+            last = last.friend;
+        }
+
+        Assert.assertThat(collect(new ObjectGraph(first)).size(), is(1000001));
+    }
+
+    @Test
+    public void testDepthFirstOrder() throws Exception {
+        Tree c = new Tree(null, null);
+        Tree a = new Tree(c, null);
+        Tree b = new Tree(null, null);
+        Tree root = new Tree(a, b);
+
+        Assert.assertThat(collect(new ObjectGraph(root)), is(Arrays.<Object>asList(root, a, c, b)));
+    }
+
+    @Test
+    public void testBreadthFirstOrder() throws Exception {
+        Tree c = new Tree(null, null);
+        Tree a = new Tree(c, null);
+        Tree b = new Tree(null, null);
+        Tree root = new Tree(a, b);
+
+        ObjectGraph graph = new ObjectGraph(root).order(TraversalOrder.BREADTH_FIRST);
+
+        Assert.assertThat(collect(graph), is(Arrays.<Object>asList(root, a, b, c)));
+    }
+
+    @Test
+    public void testMaxDepth() throws Exception {
+        Tree c = new Tree(null, null);
+        Tree a = new Tree(c, null);
+        Tree b = new Tree(null, null);
+        Tree root = new Tree(a, b);
+
+        Assert.assertThat(collect(new ObjectGraph(root).maxDepth(1)), is(Arrays.<Object>asList(root, a, b)));
+        Assert.assertThat(collect(new ObjectGraph(root).maxDepth(0)), is(Arrays.<Object>asList((Object) root)));
+    }
+
+    @Test
+    public void testMaxNodes() throws Exception {
+        Tree c = new Tree(null, null);
+        Tree a = new Tree(c, null);
+        Tree b = new Tree(null, null);
+        Tree root = new Tree(a, b);
+
+        Assert.assertThat(collect(new ObjectGraph(root).maxNodes(2)), is(Arrays.<Object>asList(root, a)));
+    }
+
+    @Test
+    public void testPrimitiveArraysAcceptedByFilter() throws Exception {
+        int[] ints = new int[3];
+        long[] longs = new long[2];
+        long[][] matrix = {longs};
+        Tree tree = new Tree(null, null);
+        Object[] root = {ints, null, matrix, tree};
+
+        ObjectGraph graph = new ObjectGraph(root, new Predicate<Class<?>>() {
+            @Override
+            public boolean test(Class<?> value) {
+                return true;
+            }
+        });
+
+        Assert.assertThat(collect(graph), is(Arrays.<Object>asList(root, ints, matrix, longs, tree)));
+    }
+
+    @Test
+    public void testArrayOfRejectedFinalClass() throws Exception {
+        String[] root = {"a", "b"};
+
+        Assert.assertThat(collect(new ObjectGraph(root)), is(Arrays.<Object>asList((Object) root)));
+    }
+
+    private static List<Object> collect(ObjectGraph graph) {
+        final List<Object> objects = new ArrayList<>();
+        graph.accept(new Visitor() {
+            @Override
+            public void visit(Object object) {
+                objects.add(object);
+            }
+        });
+        return objects;
+    }
+
+    private static class Tree {
+
+        private Tree left;
+
+        private Tree right;
+
+        private Tree(Tree left, Tree right) {
+            this.left = left;
+            this.right = right;
+        }
+    }
 
     private class Person {
 
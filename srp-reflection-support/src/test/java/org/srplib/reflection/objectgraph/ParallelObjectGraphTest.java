@@ -0,0 +1,131 @@
+package org.srplib.reflection.objectgraph;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.junit.Assert;
+import org.junit.Test;
+import static org.hamcrest.core.Is.is;
+
+/**
+ * Test for {@link ParallelObjectGraph}.
+ */
+public class ParallelObjectGraphTest {
+
+    @Test
+    public void visitsEachObjectOnce() throws Exception {
+        Node root = newGraph(20000);
+
+        final Set<Object> objects = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+        final AtomicInteger count = new AtomicInteger();
+
+        new ParallelObjectGraph(root).accept(new Consumer<Object>() {
+            @Override
+            public void accept(Object object) {
+                synchronized (objects) {
+                    objects.add(object);
+                }
+                count.incrementAndGet();
+            }
+        });
+
+        Assert.assertThat(count.get(), is(countSequentially(root)));
+        Assert.assertThat(objects.size(), is(count.get()));
+    }
+
+    @Test
+    public void visitorPerThread() throws Exception {
+        Node root = newGraph(20000);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            CountingVisitor visitor = new ParallelObjectGraph(root, new StandardTraversableClassesFilter(), pool,
+                Integer.MAX_VALUE).accept(new Supplier<CountingVisitor>() {
+                    @Override
+                    public CountingVisitor get() {
+                        return new CountingVisitor();
+                    }
+                }, new BinaryOperator<CountingVisitor>() {
+                    @Override
+                    public CountingVisitor apply(CountingVisitor visitor1, CountingVisitor visitor2) {
+                        visitor1.count += visitor2.count;
+                        return visitor1;
+                    }
+                });
+
+            Assert.assertThat(visitor.count, is(countSequentially(root)));
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void maxDepth() throws Exception {
+        Node root = newGraph(100);
+
+        CountingVisitor visitor = new CountingVisitor();
+        new ParallelObjectGraph(root, new StandardTraversableClassesFilter(), ForkJoinPool.commonPool(), 0)
+            .accept(visitor);
+
+        Assert.assertThat(visitor.count, is(1));
+    }
+
+    @Test
+    public void nonTraversableRoot() throws Exception {
+        CountingVisitor visitor = new CountingVisitor();
+        new ParallelObjectGraph("string").accept(visitor);
+
+        Assert.assertThat(visitor.count, is(0));
+    }
+
+    /**
+     * Creates graph: root node has list of children, each child has array of leaves and references root and
+     * neighbour.
+     */
+    private static Node newGraph(int size) {
+        Node root = new Node();
+        Node previous = null;
+        for (int i = 0; i < size; i++) {
+            Node child = new Node();
+            child.parent = root;
+            child.neighbour = previous;
+            child.leaves = new Node[] {new Node(), new Node()};
+            root.children.add(child);
+            previous = child;
+        }
+        return root;
+    }
+
+    private static int countSequentially(Object root) {
+        return (int) new ObjectGraph(root).stream().count();
+    }
+
+    private static class CountingVisitor implements Consumer<Object> {
+
+        private int count;
+
+        @Override
+        public synchronized void accept(Object object) {
+            count++;
+        }
+    }
+
+    private static class Node {
+
+        private Node parent;
+
+        private Node neighbour;
+
+        private Node[] leaves;
+
+        private List<Node> children = new ArrayList<>();
+    }
+}
@@ -0,0 +1,148 @@
+package org.srplib.reflection.objectsize;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.srplib.support.Predicate;
+
+import static org.hamcrest.core.Is.is;
+
+/**
+ * Test for {@link DeepSizeEstimator}. Sizes are computed for 64-bit JVM with compressed oops.
+ */
+public class DeepSizeEstimatorTest {
+
+    private final DeepSizeEstimator estimator = new DeepSizeEstimator(MemoryLayout.COMPRESSED_OOPS);
+
+    @Test
+    public void instanceSize() throws Exception {
+        // header 12 + int 4 + reference 4 = 20, aligned to 24
+        Assert.assertThat(estimator.sizeOf(new Node(1)), is(24L));
+    }
+
+    @Test
+    public void primitiveArraySize() throws Exception {
+        // array header 16 + 10 * 8
+        Assert.assertThat(estimator.sizeOf(new long[10]), is(96L));
+    }
+
+    @Test
+    public void cyclicReferences() throws Exception {
+        Node first = new Node(1);
+        Node second = new Node(2);
+        first.next = second;
+        second.next = first;
+
+        SizeReport report = estimator.estimate(first);
+
+        Assert.assertThat(report.getBytes(), is(48L));
+        Assert.assertThat(report.getCount(), is(2L));
+        Assert.assertThat(report.isTruncated(), is(false));
+        Assert.assertThat(report.get(Node.class).getCount(), is(2L));
+    }
+
+    @Test
+    public void sharedObjectIsCountedOnce() throws Exception {
+        long[] array = new long[10];
+
+        SizeReport report = estimator.estimate(new Holder(array, array));
+
+        Assert.assertThat(report.getBytes(), is(24L + 96L));
+        Assert.assertThat(report.getCount(), is(2L));
+    }
+
+    @Test
+    public void enumsAreNotCounted() throws Exception {
+        Assert.assertThat(estimator.sizeOf(new Holder(Color.RED, Holder.class)), is(24L));
+    }
+
+    @Test
+    public void customFilter() throws Exception {
+        estimator.filter(new Predicate<Class<?>>() {
+            @Override
+            public boolean test(Class<?> value) {
+                return value != long[].class;
+            }
+        });
+
+        Assert.assertThat(estimator.sizeOf(new Holder(new long[10], new Node(1))), is(48L));
+    }
+
+    @Test
+    public void string() throws Exception {
+        // String instance 24 + 3 bytes (latin1) or 3 chars value array 24
+        Assert.assertThat(estimator.sizeOf("abc"), is(48L));
+    }
+
+    @Test
+    public void arrayList() throws Exception {
+        List<Node> list = new ArrayList<>(Arrays.asList(new Node(1), new Node(2), new Node(3)));
+
+        SizeReport report = estimator.estimate(list);
+
+        // list 24 + reference array of 3 elements 32 + 3 nodes
+        Assert.assertThat(report.getBytes(), is(24L + 32L + 3 * 24L));
+        Assert.assertThat(report.get(Node.class).getBytes(), is(3 * 24L));
+    }
+
+    @Test
+    public void objectBudget() throws Exception {
+        Node first = new Node(1);
+        first.next = new Node(2);
+        first.next.next = new Node(3);
+
+        SizeReport report = estimator.maxObjects(2).estimate(first);
+
+        Assert.assertThat(report.getCount(), is(2L));
+        Assert.assertThat(report.isTruncated(), is(true));
+    }
+
+    @Test
+    public void byteBudget() throws Exception {
+        Holder holder = new Holder(new long[10], new long[10]);
+
+        SizeReport report = estimator.maxBytes(100).estimate(holder);
+
+        Assert.assertThat(report.getBytes(), is(24L + 96L));
+        Assert.assertThat(report.isTruncated(), is(true));
+    }
+
+    @Test
+    public void histogramIsSortedBySize() throws Exception {
+        SizeReport report = estimator.estimate(new Holder(new long[10], new Node(1)));
+
+        Assert.assertThat(report.getHistogram().get(0).getType(), is((Object) long[].class));
+        Assert.assertThat(report.getHistogram().size(), is(3));
+    }
+
+    private enum Color {
+        RED
+    }
+
+    private static class Node {
+
+        private int value;
+
+        private Node next;
+
+        Node(int value) {
+            this.value = value;
+        }
+    }
+
+    private static class Holder {
+
+        private Object first;
+
+        private Object second;
+
+        Holder(Object first, Object second) {
+            this.first = first;
+            this.second = second;
+        }
+    }
+
+}
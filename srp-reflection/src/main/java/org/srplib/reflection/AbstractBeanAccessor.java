@@ -0,0 +1,122 @@
+package org.srplib.reflection;
+
+import org.srplib.contract.Assert;
+
+/**
+ * Base class of generated {@link BeanAccessor}s.
+ *
+ * <p>Keeps bean class and provides helpers used by generated code.</p>
+ */
+public abstract class AbstractBeanAccessor<T> implements BeanAccessor<T> {
+
+    private final Class<T> beanClass;
+
+    /**
+     * Creates accessor of beans of specified class.
+     *
+     * @param beanClass Class bean class
+     */
+    protected AbstractBeanAccessor(Class<T> beanClass) {
+        this.beanClass = beanClass;
+    }
+
+    @Override
+    public Class<T> getBeanClass() {
+        return beanClass;
+    }
+
+    @Override
+    public boolean isInstantiable() {
+        return false;
+    }
+
+    @Override
+    public T newInstance() {
+        Assert.fail("Can't create instance of class '%s'. No accessible no-arg constructor.", beanClass.getName());
+        return null;
+    }
+
+    /**
+     * Converts value to be assigned to property of specified type as {@link java.lang.reflect.Field#set} does.
+     *
+     * @param value Object a value
+     * @param type Class property type
+     * @param property String property name (used in error message)
+     * @return value or its widened wrapper if property is primitive
+     * @throws IllegalArgumentException if value can't be assigned to property
+     */
+    @SuppressWarnings("unchecked")
+    protected <V> V cast(Object value, Class<V> type, String property) {
+        if (value == null) {
+            if (type.isPrimitive()) {
+                throw new IllegalArgumentException(
+                    String.format("Can't set null value to primitive property '%s' of %s.", property, beanClass));
+            }
+            return null;
+        }
+        if (!type.isPrimitive()) {
+            if (!type.isInstance(value)) {
+                throw illegalValue(value, property);
+            }
+            return (V) value;
+        }
+
+        Class<?> valueType = Types.getPrimitive(value.getClass());
+        if (valueType == type) {
+            return (V) value;
+        }
+        if (valueType == null || !Types.isWidening(valueType, type)) {
+            throw illegalValue(value, property);
+        }
+        return (V) widen(value, type);
+    }
+
+    /**
+     * Returns exception to be thrown if property isn't readable.
+     *
+     * @param property String property name
+     * @return IllegalArgumentException exception
+     */
+    protected IllegalArgumentException notReadable(String property) {
+        return new IllegalArgumentException(String.format("No readable property '%s' in %s.", property, beanClass));
+    }
+
+    /**
+     * Returns exception to be thrown if property isn't writable.
+     *
+     * @param property String property name
+     * @return IllegalArgumentException exception
+     */
+    protected IllegalArgumentException notWritable(String property) {
+        return new IllegalArgumentException(String.format("No writable property '%s' in %s.", property, beanClass));
+    }
+
+    private IllegalArgumentException illegalValue(Object value, String property) {
+        return new IllegalArgumentException(String.format("Can't set value '%s' of %s to property '%s' of %s.",
+            value, value.getClass(), property, beanClass));
+    }
+
+    private static Object widen(Object value, Class<?> type) {
+        Number number = value instanceof Character ? (int) (Character) value : (Number) value;
+
+        if (type == short.class) {
+            return number.shortValue();
+        }
+        if (type == int.class) {
+            return number.intValue();
+        }
+        if (type == long.class) {
+            return number.longValue();
+        }
+        if (type == float.class) {
+            return number.floatValue();
+        }
+        return number.doubleValue();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" + beanClass.getName() + "}";
+    }
+
+}
@@ -0,0 +1,86 @@
+package org.srplib.reflection;
+
+import java.util.Arrays;
+
+import org.srplib.contract.Argument;
+
+/**
+ * Defines how {@link FieldAccessor}s and {@link MethodInvoker}s get access to non-public members.
+ *
+ * <p>
+ *     In both modes access is obtained once, when accessor (invoker) is created and put into cache. Accessible flag
+ *     of {@link java.lang.reflect.Field} or {@link java.lang.reflect.Method} instances owned by client code is never
+ *     changed.
+ * </p>
+ *
+ * <p>
+ *     Mode is specified by {@value #PROPERTY} system property and is read once on first use of accessors. Default
+ *     mode is {@link #SET_ACCESSIBLE}. Property value must be a name of mode, otherwise creation of accessors fails
+ *     with {@link IllegalArgumentException} naming the property.
+ * </p>
+ *
+ * <pre>
+ *     java -Dorg.srplib.reflection.accessMode=PRIVATE_LOOKUP ...
+ * </pre>
+ */
+public enum AccessMode {
+
+    /**
+     * Private copy of member is made accessible by {@code setAccessible(true)}.
+     */
+    SET_ACCESSIBLE,
+
+    /**
+     * Members are accessed with full privilege lookup of declaring class created by
+     * {@code MethodHandles.privateLookupIn} (Java 9+). Lookup respects module boundaries: it succeeds if declaring
+     * module opens package to srplib. Members are made accessible as in {@link #SET_ACCESSIBLE} mode if private
+     * lookup isn't available (Java 8, package isn't opened) or if it can't provide required access (setting of final
+     * fields).
+     */
+    PRIVATE_LOOKUP;
+
+    /**
+     * Name of system property specifying access mode.
+     */
+    public static final String PROPERTY = "org.srplib.reflection.accessMode";
+
+    /**
+     * Returns access mode specified by system property.
+     *
+     * @return AccessMode current access mode
+     * @throws IllegalArgumentException if property value isn't a name of mode
+     */
+    public static AccessMode getCurrent() {
+        return MemberLookup.getMode();
+    }
+
+    /**
+     * Parses value of {@link #PROPERTY} system property.
+     *
+     * @param value String property value (nullable)
+     * @return AccessMode specified mode or {@link #SET_ACCESSIBLE} if value is {@code null} or blank
+     * @throws IllegalArgumentException if value isn't a name of mode
+     */
+    static AccessMode parse(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return SET_ACCESSIBLE;
+        }
+        for (AccessMode mode : values()) {
+            if (mode.name().equals(value.trim())) {
+                return mode;
+            }
+        }
+        Argument.fail("Invalid value '%s' of system property '%s'. Expected one of %s.", value, PROPERTY,
+            Arrays.toString(values()));
+        return null;
+    }
+
+    /**
+     * Tests if private lookup is supported by running JVM.
+     *
+     * @return true if {@code MethodHandles.privateLookupIn} is available
+     */
+    public static boolean isPrivateLookupSupported() {
+        return MemberLookup.isPrivateLookupSupported();
+    }
+}
@@ -0,0 +1,107 @@
+package org.srplib.reflection;
+
+/**
+ * Plain java (reflection free) accessor of bean properties.
+ *
+ * <p>
+ *     Property is a non-static field of bean class or its superclasses identified by field name (as in
+ *     {@link ReflectionUtils#getFieldValue(Object, String)}). Property is readable (writable) if accessor can access
+ *     it without reflection: directly or through getter (setter). Fields hidden by fields of subclasses are not
+ *     properties.
+ * </p>
+ *
+ * <p>
+ *     Implementations are generated for classes annotated with {@link SrpBean} by {@code srp-reflection-processor}
+ *     and found by {@link BeanAccessors}. Implementations are stateless and thread safe.
+ * </p>
+ */
+public interface BeanAccessor<T> {
+
+    /**
+     * Returns class of beans this accessor is generated for.
+     *
+     * @return Class bean class
+     */
+    Class<T> getBeanClass();
+
+    /**
+     * Returns declared type of property.
+     *
+     * @param property String property name
+     * @return Class property type or {@code null} if there is no such property
+     */
+    Class<?> getPropertyType(String property);
+
+    /**
+     * Tests if property may be read by this accessor.
+     *
+     * @param property String property name
+     * @return true if property is readable
+     */
+    boolean isReadable(String property);
+
+    /**
+     * Tests if property may be written by this accessor.
+     *
+     * @param property String property name
+     * @return true if property is writable
+     */
+    boolean isWritable(String property);
+
+    /**
+     * Tests if property is read by this accessor directly from field, without calling getter.
+     *
+     * <p>Field level methods (e.g. {@link ReflectionUtils#getFieldValue(Object, String)}) use accessor for such
+     * properties only, so getter logic isn't run where field value is expected.</p>
+     *
+     * @param property String property name
+     * @return true if property is readable through field access
+     */
+    boolean isFieldReadable(String property);
+
+    /**
+     * Tests if property is written by this accessor directly to field, without calling setter.
+     *
+     * @param property String property name
+     * @return true if property is writable through field access
+     * @see #isFieldReadable(String)
+     */
+    boolean isFieldWritable(String property);
+
+    /**
+     * Returns value of property. Primitive values are boxed.
+     *
+     * @param bean Object a bean
+     * @param property String property name
+     * @return property value
+     * @throws IllegalArgumentException if property isn't readable
+     */
+    Object get(T bean, String property);
+
+    /**
+     * Sets value of property. Values of primitive properties are unboxed and widened as {@link java.lang.reflect.Field}
+     * does.
+     *
+     * @param bean Object a bean
+     * @param property String property name
+     * @param value Object new value
+     * @throws IllegalArgumentException if property isn't writable or value can't be assigned to property
+     */
+    void set(T bean, String property, Object value);
+
+    /**
+     * Tests if accessor can create bean instances.
+     *
+     * @return true if bean class is concrete and has accessible no-arg constructor
+     */
+    boolean isInstantiable();
+
+    /**
+     * Creates bean instance using no-arg constructor.
+     *
+     * @return new bean
+     * @throws IllegalStateException if bean isn't instantiable
+     */
+    T newInstance();
+
+}
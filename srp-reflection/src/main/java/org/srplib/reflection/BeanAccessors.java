@@ -0,0 +1,95 @@
+package org.srplib.reflection;
+
+import org.srplib.contract.Argument;
+
+/**
+ * Finds {@link BeanAccessor}s generated at build time.
+ *
+ * <p>
+ *     Accessor of class {@code com.example.Outer$Person} is a class named {@code com.example.Outer_Person_SrpAccessor}
+ *     (see {@link #getAccessorClassName(Class)}) loaded by class loader of bean class. Lookup result (including missing
+ *     accessor) is cached in {@link ClassValue}, so there is no need to cache accessors by clients.
+ * </p>
+ *
+ * <p>
+ *     Reflection based utilities ({@link ReflectionUtils} field access and instance creation and others) use
+ *     accessors if they are present and fall back to reflection otherwise.
+ * </p>
+ */
+public final class BeanAccessors {
+
+    /**
+     * Suffix of generated accessor class name.
+     */
+    public static final String SUFFIX = "_SrpAccessor";
+
+    /**
+     * Marker of missing accessor.
+     */
+    private static final Object NOT_FOUND = new Object();
+
+    private static final ClassValue<Object> ACCESSORS = new ClassValue<Object>() {
+        @Override
+        protected Object computeValue(Class<?> type) {
+            BeanAccessor<?> accessor = load(type);
+            return accessor == null ? NOT_FOUND : accessor;
+        }
+    };
+
+    private BeanAccessors() {
+    }
+
+    /**
+     * Returns generated accessor of specified class.
+     *
+     * @param type Class bean class
+     * @return BeanAccessor accessor or {@code null} if there is no generated accessor for class
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> BeanAccessor<T> find(Class<T> type) {
+        Argument.checkNotNull(type, "type must not be null!");
+
+        Object accessor = ACCESSORS.get(type);
+        return accessor == NOT_FOUND ? null : (BeanAccessor<T>) accessor;
+    }
+
+    /**
+     * Returns name of accessor class of specified bean class.
+     *
+     * <p>Accessor is placed into package of bean. Its simple name is binary name of bean class (without package) where
+     * '$' is replaced with '_' followed by {@link #SUFFIX}.</p>
+     *
+     * @param type Class bean class
+     * @return String full name of accessor class
+     */
+    public static String getAccessorClassName(Class<?> type) {
+        Argument.checkNotNull(type, "type must not be null!");
+
+        return type.getName().replace('$', '_') + SUFFIX;
+    }
+
+    private static BeanAccessor<?> load(Class<?> type) {
+        ClassLoader classLoader = type.getClassLoader();
+        // Accessors are generated for application classes only.
+        if (classLoader == null || type.isArray() || type.isPrimitive()) {
+            return null;
+        }
+
+        Class<?> accessorClass;
+        try {
+            accessorClass = Class.forName(getAccessorClassName(type), true, classLoader);
+        }
+        catch (ClassNotFoundException e) {
+            return null;
+        }
+
+        if (!BeanAccessor.class.isAssignableFrom(accessorClass)) {
+            return null;
+        }
+        BeanAccessor<?> accessor = (BeanAccessor<?>) ReflectionInvoker.newInstance(accessorClass,
+            ReflectionUtils.EMPTY_TYPES, ReflectionUtils.EMPTY_ARGUMENTS);
+
+        return accessor.getBeanClass() == type ? accessor : null;
+    }
+
+}
@@ -0,0 +1,130 @@
+package org.srplib.reflection;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.srplib.contract.Argument;
+
+/**
+ * Cached reflective information about a class.
+ *
+ * <p>
+ *     Scanning declared fields of class and its superclasses is expensive: every call to
+ *     {@link Class#getDeclaredFields()} copies {@link Field} objects. Object graph walkers (deep comparison, object
+ *     and class graph traversal) do it for every visited object, so metadata is computed once per class and stored
+ *     in {@link ClassValue}.
+ * </p>
+ *
+ * <p>
+ *     Fields are listed in the same order as {@link ReflectionUtils#getFieldsRecursively(Class)} returns them: fields
+ *     of class itself, then fields of superclasses. Fields with synthetic names (see
+ *     {@link ReflectionUtils#isSyntheticName(String)}) are excluded.
+ * </p>
+ *
+ * <pre>
+ *     for (FieldMetadata field : ClassMetadata.of(object.getClass()).getInstanceFields()) {
+ *         Object value = field.getValue(object);
+ *     }
+ * </pre>
+ */
+public final class ClassMetadata {
+
+    private static final ClassValue<ClassMetadata> METADATA = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    private final Class<?> type;
+
+    private final TypeKind kind;
+
+    private final List<FieldMetadata> fields;
+
+    private final List<FieldMetadata> instanceFields;
+
+    private ClassMetadata(Class<?> type) {
+        this.type = type;
+        this.kind = TypeKind.of(type);
+
+        List<FieldMetadata> all = new ArrayList<>();
+        List<FieldMetadata> instance = new ArrayList<>();
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (ReflectionUtils.isSyntheticName(field.getName())) {
+                    continue;
+                }
+                FieldMetadata metadata = new FieldMetadata(field);
+                all.add(metadata);
+                if (!metadata.isStatic()) {
+                    instance.add(metadata);
+                }
+            }
+        }
+        this.fields = toList(all);
+        this.instanceFields = all.size() == instance.size() ? fields : toList(instance);
+    }
+
+    /**
+     * Returns metadata of specified class.
+     *
+     * @param type Class a class
+     * @return ClassMetadata cached metadata
+     * @throws IllegalArgumentException if class is null
+     */
+    public static ClassMetadata of(Class<?> type) {
+        Argument.checkNotNull(type, "Can't get metadata of null class.");
+
+        return METADATA.get(type);
+    }
+
+    /**
+     * Returns class.
+     *
+     * @return Class class
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Returns kind of class.
+     *
+     * @return TypeKind kind of class
+     */
+    public TypeKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns all (including static) fields of class and its superclasses.
+     *
+     * @return unmodifiable List of FieldMetadata
+     */
+    public List<FieldMetadata> getFields() {
+        return fields;
+    }
+
+    /**
+     * Returns non-static fields of class and its superclasses.
+     *
+     * @return unmodifiable List of FieldMetadata
+     */
+    public List<FieldMetadata> getInstanceFields() {
+        return instanceFields;
+    }
+
+    private static List<FieldMetadata> toList(List<FieldMetadata> fields) {
+        return Collections.unmodifiableList(Arrays.asList(fields.toArray(new FieldMetadata[fields.size()])));
+    }
+
+    @Override
+    public String toString() {
+        return "ClassMetadata{" + type.getName() + "}";
+    }
+
+}
@@ -0,0 +1,399 @@
+package org.srplib.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import org.srplib.contract.Argument;
+
+import static org.srplib.reflection.Types.isWidening;
+
+/**
+ * Pre-resolved accessor of a field.
+ *
+ * <p>
+ *     Accessor gets access to field once (see {@link AccessMode}) and accesses it through {@link MethodHandle}s
+ *     instead of reflective {@link Field#get(Object)}/{@link Field#set(Object, Object)}. Primitive specialized
+ *     methods ({@link #getInt(Object)}, {@link #setInt(Object, int)} and so on) don't box values.
+ * </p>
+ *
+ * <p>
+ *     Accessors are immutable and thread safe. Use {@link FieldAccessors} to get cached accessor instead of creating
+ *     new one.
+ * </p>
+ *
+ * <p>Semantics of methods is the same as semantics of corresponding {@link Field} methods.</p>
+ */
+public final class FieldAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+
+    private final MethodHandle getter;
+
+    /**
+     * Setter is {@code null} if field is not writable (static final field, final field of record or hidden class).
+     */
+    private final MethodHandle setter;
+
+    private final MethodHandle intGetter;
+
+    private final MethodHandle longGetter;
+
+    private final MethodHandle doubleGetter;
+
+    private final MethodHandle booleanGetter;
+
+    private final MethodHandle intSetter;
+
+    private final MethodHandle longSetter;
+
+    private final MethodHandle doubleSetter;
+
+    private final MethodHandle booleanSetter;
+
+    /**
+     * Creates accessor for specified field.
+     *
+     * @param field Field a field
+     * @throws ReflectionException if field can't be made accessible
+     */
+    public FieldAccessor(Field field) {
+        Argument.checkNotNull(field, "field must not be null!");
+
+        this.field = field;
+
+        MethodHandle rawGetter = unreflectGetter(field);
+        MethodHandle rawSetter = unreflectSetter(field);
+
+        Class<?> type = field.getType();
+
+        getter = rawGetter.asType(GETTER_TYPE);
+        setter = rawSetter == null ? null : rawSetter.asType(SETTER_TYPE);
+
+        intGetter = isWidening(type, int.class) ? rawGetter.asType(getterType(int.class)) : null;
+        longGetter = isWidening(type, long.class) ? rawGetter.asType(getterType(long.class)) : null;
+        doubleGetter = isWidening(type, double.class) ? rawGetter.asType(getterType(double.class)) : null;
+        booleanGetter = type == boolean.class ? rawGetter.asType(getterType(boolean.class)) : null;
+
+        boolean writable = rawSetter != null;
+        intSetter = writable && isWidening(int.class, type) ? rawSetter.asType(setterType(int.class)) : null;
+        longSetter = writable && isWidening(long.class, type) ? rawSetter.asType(setterType(long.class)) : null;
+        doubleSetter = writable && isWidening(double.class, type) ? rawSetter.asType(setterType(double.class)) : null;
+        booleanSetter = writable && type == boolean.class ? rawSetter.asType(setterType(boolean.class)) : null;
+    }
+
+    /**
+     * Returns accessed field.
+     *
+     * @return Field field
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * Returns field type.
+     *
+     * @return Class field type
+     */
+    public Class<?> getType() {
+        return field.getType();
+    }
+
+    /**
+     * Returns value of field of specified object. Primitive values are boxed.
+     *
+     * @param target Object an object (ignored for static fields)
+     * @return Object field value
+     * @throws IllegalArgumentException if target is not an instance of field's declaring class
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object target) {
+        try {
+            return (T) getter.invokeExact(target);
+        }
+        catch (ClassCastException e) {
+            throw illegalTarget(target, e);
+        }
+        catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Returns value of {@code int} field (or field of narrower primitive type) without boxing.
+     *
+     * @param target Object an object (ignored for static fields)
+     * @return int field value
+     * @throws IllegalArgumentException if field type can't be widened to {@code int} or target is not an instance
+     * of field's declaring class
+     */
+    public int getInt(Object target) {
+        checkSupported(intGetter, int.class);
+        try {
+            return (int) intGetter.invokeExact(target);
+        }
+        catch (ClassCastException e) {
+            throw illegalTarget(target, e);
+        }
+        catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Returns value of {@code long} field (or field of narrower primitive type) without boxing.
+     *
+     * @param target Object an object (ignored for static fields)
+     * @return long field value
+     * @throws IllegalArgumentException if field type can't be widened to {@code long} or target is not an instance
+     * of field's declaring class
+     */
+    public long getLong(Object target) {
+        checkSupported(longGetter, long.class);
+        try {
+            return (long) longGetter.invokeExact(target);
+        }
+        catch (ClassCastException e) {
+            throw illegalTarget(target, e);
+        }
+        catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Returns value of {@code double} field (or field of narrower primitive type) without boxing.
+     *
+     * @param target Object an object (ignored for static fields)
+     * @return double field value
+     * @throws IllegalArgumentException if field type can't be widened to {@code double} or target is not an instance
+     * of field's declaring class
+     */
+    public double getDouble(Object target) {
+        checkSupported(doubleGetter, double.class);
+        try {
+            return (double) doubleGetter.invokeExact(target);
+        }
+        catch (ClassCastException e) {
+            throw illegalTarget(target, e);
+        }
+        catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Returns value of {@code boolean} field without boxing.
+     *
+     * @param target Object an object (ignored for static fields)
+     * @return boolean field value
+     * @throws IllegalArgumentException if field is not {@code boolean} or target is not an instance of field's
+     * declaring class
+     */
+    public boolean getBoolean(Object target) {
+        checkSupported(booleanGetter, boolean.class);
+        try {
+            return (boolean) booleanGetter.invokeExact(target);
+        }
+        catch (ClassCastException e) {
+            throw illegalTarget(target, e);
+        }
+        catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Sets value of field of specified object. Values of primitive fields are unboxed.
+     *
+     * @param target Object an object (ignored for static fields)
+     * @param value Object new value
+     * @throws IllegalArgumentException if value is not assignable to field or target is not an instance of field's
+     * declaring class
+     * @throws ReflectionException if field is not writable (e.g. static final)
+     */
+    public void set(Object target, Object value) {
+        checkWritable();
+        if (value == null && field.getType().isPrimitive()) {
+            throw new IllegalArgumentException(String.format("Can't set null value to primitive field '%s'.", field));
+        }
+        try {
+            setter.invokeExact(target, value);
+        }
+        catch (ClassCastException e) {
+            throw new IllegalArgumentException(
+                String.format("Can't set value '%s' to field '%s' of object '%s'.", value, field, target), e);
+        }
+        catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Sets {@code int} value to {@code int} field (or field of wider primitive type) without boxing.
+     *
+     * @param target Object an object (ignored for static fields)
+     * @param value int new value
+     * @throws IllegalArgumentException if {@code int} can't be widened to field type or target is not an instance
+     * of field's declaring class
+     * @throws ReflectionException if field is not writable (e.g. static final)
+     */
+    public void setInt(Object target, int value) {
+        checkWritable();
+        checkSupported(intSetter, int.class);
+        try {
+            intSetter.invokeExact(target, value);
+        }
+        catch (ClassCastException e) {
+            throw illegalTarget(target, e);
+        }
+        catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Sets {@code long} value to {@code long} field (or field of wider primitive type) without boxing.
+     *
+     * @param target Object an object (ignored for static fields)
+     * @param value long new value
+     * @throws IllegalArgumentException if {@code long} can't be widened to field type or target is not an instance
+     * of field's declaring class
+     * @throws ReflectionException if field is not writable (e.g. static final)
+     */
+    public void setLong(Object target, long value) {
+        checkWritable();
+        checkSupported(longSetter, long.class);
+        try {
+            longSetter.invokeExact(target, value);
+        }
+        catch (ClassCastException e) {
+            throw illegalTarget(target, e);
+        }
+        catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Sets {@code double} value to {@code double} field without boxing.
+     *
+     * @param target Object an object (ignored for static fields)
+     * @param value double new value
+     * @throws IllegalArgumentException if field is not {@code double} or target is not an instance of field's
+     * declaring class
+     * @throws ReflectionException if field is not writable (e.g. static final)
+     */
+    public void setDouble(Object target, double value) {
+        checkWritable();
+        checkSupported(doubleSetter, double.class);
+        try {
+            doubleSetter.invokeExact(target, value);
+        }
+        catch (ClassCastException e) {
+            throw illegalTarget(target, e);
+        }
+        catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * Sets {@code boolean} value to {@code boolean} field without boxing.
+     *
+     * @param target Object an object (ignored for static fields)
+     * @param value boolean new value
+     * @throws IllegalArgumentException if field is not {@code boolean} or target is not an instance of field's
+     * declaring class
+     * @throws ReflectionException if field is not writable (e.g. static final)
+     */
+    public void setBoolean(Object target, boolean value) {
+        checkWritable();
+        checkSupported(booleanSetter, boolean.class);
+        try {
+            booleanSetter.invokeExact(target, value);
+        }
+        catch (ClassCastException e) {
+            throw illegalTarget(target, e);
+        }
+        catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FieldAccessor{" + field + "}";
+    }
+
+    private void checkWritable() {
+        if (setter == null) {
+            throw new ReflectionException("Can't set value to field '" + field + "'. Field is not writable.");
+        }
+    }
+
+    private void checkSupported(MethodHandle handle, Class<?> type) {
+        if (handle == null) {
+            throw new IllegalArgumentException(
+                String.format("Can't access field '%s' of type '%s' as %s.", field, field.getType(), type));
+        }
+    }
+
+    private IllegalArgumentException illegalTarget(Object target, ClassCastException cause) {
+        return new IllegalArgumentException(String.format("Can't access field '%s' of object of class '%s'.",
+            field, target == null ? null : target.getClass().getName()), cause);
+    }
+
+    private static MethodHandle unreflectGetter(Field field) {
+        try {
+            MethodHandle getter = MemberLookup.unreflectGetter(field);
+            return isStatic(field) ? MethodHandles.dropArguments(getter, 0, Object.class) : getter;
+        }
+        catch (IllegalAccessException e) {
+            throw new ReflectionException(String.format("Can't get value of field '%s'.", field), e);
+        }
+    }
+
+    private static MethodHandle unreflectSetter(Field field) {
+        if (isStatic(field) && Modifier.isFinal(field.getModifiers())) {
+            return null;
+        }
+        try {
+            MethodHandle setter = MemberLookup.unreflectSetter(field);
+            return isStatic(field) ? MethodHandles.dropArguments(setter, 0, Object.class) : setter;
+        }
+        catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static boolean isStatic(Field field) {
+        return Modifier.isStatic(field.getModifiers());
+    }
+
+    private static MethodType getterType(Class<?> type) {
+        return MethodType.methodType(type, Object.class);
+    }
+
+    private static MethodType setterType(Class<?> type) {
+        return MethodType.methodType(void.class, Object.class, type);
+    }
+
+    private static RuntimeException rethrow(Throwable e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return new ReflectionException(e.getMessage(), e);
+    }
+
+}
@@ -0,0 +1,99 @@
+package org.srplib.reflection;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.srplib.contract.Argument;
+
+/**
+ * Per class cache of {@link FieldAccessor}s.
+ *
+ * <p>
+ *     Accessors are stored in {@link ClassValue}, so lookup doesn't hold strong references to classes (they may be
+ *     unloaded) and doesn't require a key object. Fields are searched in the same way
+ *     {@link ReflectionUtils#findFieldRecursively(Class, String)} does: in class itself, then in superclasses.
+ *     Missing fields are cached too.
+ * </p>
+ */
+public final class FieldAccessors {
+
+    /**
+     * Marker of missing field.
+     */
+    private static final Object NOT_FOUND = new Object();
+
+    private static final ClassValue<Map<String, Object>> ACCESSORS = new ClassValue<Map<String, Object>>() {
+        @Override
+        protected Map<String, Object> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private FieldAccessors() {
+    }
+
+    /**
+     * Returns accessor of field with specified name declared in specified class or its superclasses.
+     *
+     * @param clazz Class class to start search from
+     * @param fieldName String simple field name (not path)
+     * @return FieldAccessor accessor or {@code null} if no such field
+     */
+    public static FieldAccessor find(Class<?> clazz, String fieldName) {
+        Argument.checkNotNull(clazz, "Can't get field from null class.");
+        Argument.checkNotNull(fieldName, "Can't get field with null name.");
+
+        Map<String, Object> accessors = ACCESSORS.get(clazz);
+
+        Object accessor = accessors.get(fieldName);
+        if (accessor == null) {
+            Field field = findFieldRecursively(clazz, fieldName);
+            accessor = field == null ? NOT_FOUND : new FieldAccessor(field);
+            accessors.putIfAbsent(fieldName, accessor);
+        }
+
+        return accessor == NOT_FOUND ? null : (FieldAccessor) accessor;
+    }
+
+    /**
+     * Returns accessor of field with specified name declared in specified class or its superclasses.
+     *
+     * @param clazz Class class to start search from
+     * @param fieldName String simple field name (not path)
+     * @return FieldAccessor accessor
+     * @throws ReflectionException if no such field
+     */
+    public static FieldAccessor get(Class<?> clazz, String fieldName) {
+        FieldAccessor accessor = find(clazz, fieldName);
+        if (accessor == null) {
+            throw new ReflectionException(String.format(
+                "No declared field '%s' in class '%s' or its superclasses.", fieldName, clazz.getName()));
+        }
+        return accessor;
+    }
+
+    /**
+     * Returns accessor of specified field.
+     *
+     * @param field Field a field
+     * @return FieldAccessor accessor
+     */
+    public static FieldAccessor get(Field field) {
+        Argument.checkNotNull(field, "field must not be null!");
+
+        // Search from declaring class always finds field itself.
+        return get(field.getDeclaringClass(), field.getName());
+    }
+
+    private static Field findFieldRecursively(Class<?> clazz, String fieldName) {
+        for (Class<?> type = clazz; type != null; type = type.getSuperclass()) {
+            Field field = ReflectionUtils.findField(type, fieldName);
+            if (field != null) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+}
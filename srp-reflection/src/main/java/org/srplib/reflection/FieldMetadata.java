@@ -0,0 +1,104 @@
+package org.srplib.reflection;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Cached information about a field: the field itself, kind of its declared type and its accessor.
+ *
+ * <p>Instances are created by {@link ClassMetadata}, immutable and thread safe.</p>
+ */
+public final class FieldMetadata {
+
+    private final Field field;
+
+    private final TypeKind kind;
+
+    /**
+     * Accessor is created on first access because not all fields are accessible (e.g. fields of JDK classes).
+     */
+    private volatile FieldAccessor accessor;
+
+    FieldMetadata(Field field) {
+        this.field = field;
+        this.kind = TypeKind.of(field.getType());
+    }
+
+    /**
+     * Returns field.
+     *
+     * <p>Field instance is shared, so don't change its accessibility.</p>
+     *
+     * @return Field field
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * Returns field name.
+     *
+     * @return String field name
+     */
+    public String getName() {
+        return field.getName();
+    }
+
+    /**
+     * Returns declared type of field.
+     *
+     * @return Class field type
+     */
+    public Class<?> getType() {
+        return field.getType();
+    }
+
+    /**
+     * Returns kind of declared type of field.
+     *
+     * @return TypeKind kind of field type
+     */
+    public TypeKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Tests if field is static.
+     *
+     * @return true if field is static
+     */
+    public boolean isStatic() {
+        return Modifier.isStatic(field.getModifiers());
+    }
+
+    /**
+     * Returns accessor of field.
+     *
+     * @return FieldAccessor accessor
+     * @throws ReflectionException if field can't be made accessible
+     */
+    public FieldAccessor getAccessor() {
+        FieldAccessor result = accessor;
+        if (result == null) {
+            result = FieldAccessors.get(field);
+            accessor = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns value of field of specified object.
+     *
+     * @param target Object target object ({@code null} for static field)
+     * @return field value
+     */
+    public Object getValue(Object target) {
+        return getAccessor().get(target);
+    }
+
+    @Override
+    public String toString() {
+        return field.toString();
+    }
+
+}
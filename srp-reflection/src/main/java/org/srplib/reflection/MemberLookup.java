@@ -0,0 +1,176 @@
+package org.srplib.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Converts reflective members into method handles according to {@link AccessMode}.
+ *
+ * <p>
+ *     Members passed to methods are not modified: {@code setAccessible(true)} is called on private copies of them.
+ *     {@code MethodHandles.privateLookupIn} is called reflectively, so the class works on Java 8.
+ * </p>
+ *
+ * <p>
+ *     Access mode is read from system property on first use (see {@link AccessMode}). Invalid property value isn't
+ *     remembered: each attempt to create accessor fails with {@link IllegalArgumentException} until it is fixed.
+ * </p>
+ */
+final class MemberLookup {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * {@code MethodHandles.privateLookupIn(Class, Lookup)} or {@code null} on Java 8.
+     */
+    private static final Method PRIVATE_LOOKUP_IN = findPrivateLookupIn();
+
+    /**
+     * Private lookups of classes. {@link #LOOKUP} marks classes private lookup can't be created for.
+     */
+    private static final ClassValue<MethodHandles.Lookup> PRIVATE_LOOKUPS = new ClassValue<MethodHandles.Lookup>() {
+        @Override
+        protected MethodHandles.Lookup computeValue(Class<?> type) {
+            try {
+                return (MethodHandles.Lookup) PRIVATE_LOOKUP_IN.invoke(null, type, LOOKUP);
+            }
+            catch (IllegalAccessException e) {
+                return LOOKUP;
+            }
+            catch (InvocationTargetException e) {
+                // IllegalAccessException if package isn't opened to this module.
+                return LOOKUP;
+            }
+        }
+    };
+
+    /**
+     * Access mode. {@code null} until read from system property.
+     */
+    private static volatile AccessMode mode;
+
+    private MemberLookup() {
+    }
+
+    static boolean isPrivateLookupSupported() {
+        return PRIVATE_LOOKUP_IN != null;
+    }
+
+    /**
+     * Returns access mode specified by system property.
+     *
+     * @throws IllegalArgumentException if property value is invalid
+     */
+    static AccessMode getMode() {
+        AccessMode result = mode;
+        if (result == null) {
+            result = AccessMode.parse(System.getProperty(AccessMode.PROPERTY));
+            mode = result;
+        }
+        return result;
+    }
+
+    static MethodHandle unreflectGetter(Field field) throws IllegalAccessException {
+        return unreflectGetter(field, getMode());
+    }
+
+    static MethodHandle unreflectGetter(Field field, AccessMode accessMode) throws IllegalAccessException {
+        MethodHandles.Lookup lookup = privateLookup(field.getDeclaringClass(), accessMode);
+
+        return lookup != null ? lookup.unreflectGetter(field) : LOOKUP.unreflectGetter(accessibleCopy(field));
+    }
+
+    static MethodHandle unreflectSetter(Field field) throws IllegalAccessException {
+        return unreflectSetter(field, getMode());
+    }
+
+    static MethodHandle unreflectSetter(Field field, AccessMode accessMode) throws IllegalAccessException {
+        // Lookup never grants write access to final fields, only accessible Field does (for non-static ones).
+        MethodHandles.Lookup lookup = Modifier.isFinal(field.getModifiers())
+            ? null
+            : privateLookup(field.getDeclaringClass(), accessMode);
+
+        return lookup != null ? lookup.unreflectSetter(field) : LOOKUP.unreflectSetter(accessibleCopy(field));
+    }
+
+    static MethodHandle unreflect(Method method) throws IllegalAccessException {
+        return unreflect(method, getMode());
+    }
+
+    static MethodHandle unreflect(Method method, AccessMode accessMode) throws IllegalAccessException {
+        MethodHandles.Lookup lookup = privateLookup(method.getDeclaringClass(), accessMode);
+
+        return lookup != null ? lookup.unreflect(method) : LOOKUP.unreflect(accessibleCopy(method));
+    }
+
+    static MethodHandle unreflectConstructor(Constructor<?> constructor) throws IllegalAccessException {
+        return unreflectConstructor(constructor, getMode());
+    }
+
+    static MethodHandle unreflectConstructor(Constructor<?> constructor, AccessMode accessMode)
+        throws IllegalAccessException {
+
+        MethodHandles.Lookup lookup = privateLookup(constructor.getDeclaringClass(), accessMode);
+
+        return lookup != null
+            ? lookup.unreflectConstructor(constructor)
+            : LOOKUP.unreflectConstructor(accessibleCopy(constructor));
+    }
+
+    /**
+     * Returns private lookup of specified class or {@code null} if members should be made accessible.
+     */
+    private static MethodHandles.Lookup privateLookup(Class<?> type, AccessMode accessMode) {
+        if (accessMode != AccessMode.PRIVATE_LOOKUP || PRIVATE_LOOKUP_IN == null) {
+            return null;
+        }
+        MethodHandles.Lookup lookup = PRIVATE_LOOKUPS.get(type);
+        return lookup == LOOKUP ? null : lookup;
+    }
+
+    /*
+     * Class.getDeclaredXXX methods return copies of members, so changing accessible flag of copy doesn't affect
+     * caller's instance.
+     */
+
+    private static Field accessibleCopy(Field field) {
+        return makeAccessible(ReflectionUtils.getField(field.getDeclaringClass(), field.getName()));
+    }
+
+    private static Method accessibleCopy(Method method) {
+        return makeAccessible(ReflectionUtils.getMethod(method.getDeclaringClass(), method.getName(),
+            method.getParameterTypes()));
+    }
+
+    private static Constructor<?> accessibleCopy(Constructor<?> constructor) {
+        Class<?> type = constructor.getDeclaringClass();
+        try {
+            return makeAccessible(type.getDeclaredConstructor(constructor.getParameterTypes()));
+        }
+        catch (NoSuchMethodException e) {
+            throw new ReflectionException(
+                "No such constructor " + ToStringHelper.toString(type, null, constructor.getParameterTypes()), e);
+        }
+    }
+
+    private static <T extends AccessibleObject> T makeAccessible(T member) {
+        member.setAccessible(true);
+        return member;
+    }
+
+    private static Method findPrivateLookupIn() {
+        try {
+            return MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class);
+        }
+        catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+}
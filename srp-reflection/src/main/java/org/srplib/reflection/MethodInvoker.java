@@ -0,0 +1,228 @@
+package org.srplib.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.srplib.contract.Argument;
+import org.srplib.contract.Assert;
+import org.srplib.support.ExceptionUtils;
+
+/**
+ * Pre-resolved invoker of a method or constructor.
+ *
+ * <p>
+ *     Invoker gets access to method (constructor) once (see {@link AccessMode}) and invokes it through
+ *     {@link MethodHandle} adapted to {@code (Object target, Object[] arguments)Object} signature instead of
+ *     reflective {@link Method#invoke(Object, Object...)}. Arguments are checked and converted in the same way as
+ *     reflection API does: unboxing and widening primitive conversions are applied, {@code null} can't be passed as
+ *     primitive.
+ * </p>
+ *
+ * <p>
+ *     Invokers are immutable and thread safe. Use {@link MethodInvokers} to get cached invoker instead of creating
+ *     new one.
+ * </p>
+ *
+ * <p>Checked exceptions thrown by method are wrapped into {@link java.lang.reflect.UndeclaredThrowableException}.</p>
+ */
+public final class MethodInvoker {
+
+    /**
+     * A name of constructor method. Used for diagnostic purposes.
+     */
+    private static final String CONSTRUCTOR_NAME = "constructor";
+
+    private final Class<?> declaringClass;
+
+    /**
+     * Method name or {@code null} for constructor.
+     */
+    private final String name;
+
+    private final Class<?>[] parameterTypes;
+
+    private final boolean needsTarget;
+
+    private final MethodHandle handle;
+
+    /**
+     * Creates invoker for specified method.
+     *
+     * @param method Method a method
+     * @throws ReflectionException if method can't be made accessible
+     */
+    public MethodInvoker(Method method) {
+        Argument.checkNotNull(method, "method must not be null!");
+
+        this.declaringClass = method.getDeclaringClass();
+        this.name = method.getName();
+        this.parameterTypes = method.getParameterTypes();
+        this.needsTarget = !Modifier.isStatic(method.getModifiers());
+
+        try {
+            MethodHandle raw = MemberLookup.unreflect(method).asFixedArity();
+            this.handle = adapt(needsTarget ? raw : MethodHandles.dropArguments(raw, 0, Object.class));
+        }
+        catch (IllegalAccessException e) {
+            throw new ReflectionException(getErrorMessage(null), e);
+        }
+    }
+
+    /**
+     * Creates invoker for specified constructor.
+     *
+     * @param constructor Constructor a constructor
+     * @throws ReflectionException if constructor can't be made accessible or class is abstract
+     */
+    public MethodInvoker(Constructor<?> constructor) {
+        Argument.checkNotNull(constructor, "constructor must not be null!");
+
+        this.declaringClass = constructor.getDeclaringClass();
+        this.name = null;
+        this.parameterTypes = constructor.getParameterTypes();
+        this.needsTarget = false;
+
+        if (Modifier.isAbstract(declaringClass.getModifiers())) {
+            throw new ReflectionException(getErrorMessage(null) + " Class is abstract.");
+        }
+        try {
+            MethodHandle raw = MemberLookup.unreflectConstructor(constructor).asFixedArity();
+            this.handle = adapt(MethodHandles.dropArguments(raw, 0, Object.class));
+        }
+        catch (IllegalAccessException e) {
+            throw new ReflectionException(getErrorMessage(null), e);
+        }
+    }
+
+    /**
+     * Returns class declaring method (constructor).
+     *
+     * @return Class declaring class
+     */
+    public Class<?> getDeclaringClass() {
+        return declaringClass;
+    }
+
+    /**
+     * Returns method name.
+     *
+     * @return String method name or {@code null} for constructor
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Tests if invoker invokes constructor.
+     *
+     * @return true if invoker invokes constructor
+     */
+    public boolean isConstructor() {
+        return name == null;
+    }
+
+    /**
+     * Returns parameter types.
+     *
+     * @return Class[] copy of parameter types
+     */
+    public Class<?>[] getParameterTypes() {
+        return parameterTypes.clone();
+    }
+
+    /**
+     * Invokes method of specified target or constructor.
+     *
+     * @param target Object target object (ignored for static methods and constructors)
+     * @param arguments vararg of method arguments
+     * @return method invocation result ({@code null} for void methods) or new instance for constructor
+     * @throws IllegalArgumentException if number or types of arguments don't match parameters or target is not an
+     * instance of declaring class
+     * @throws IllegalStateException if target is null for non-static method
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V invoke(Object target, Object... arguments) {
+        Object[] actual = arguments == null ? ReflectionUtils.EMPTY_ARGUMENTS : arguments;
+
+        checkArguments(target, actual);
+        try {
+            return (V) handle.invokeExact(target, actual);
+        }
+        catch (Throwable e) {
+            throw ExceptionUtils.asUnchecked(e);
+        }
+    }
+
+    /**
+     * Creates new instance using constructor.
+     *
+     * @param arguments vararg of constructor arguments
+     * @return new instance
+     * @throws IllegalArgumentException if number or types of arguments don't match parameters
+     * @throws IllegalStateException if invoker doesn't invoke constructor
+     */
+    public <V> V newInstance(Object... arguments) {
+        Assert.checkTrue(isConstructor(), "Can't create instance with method invoker %s.", this);
+
+        return invoke(null, arguments);
+    }
+
+    private void checkArguments(Object target, Object[] arguments) {
+        if (parameterTypes.length != arguments.length) {
+            Argument.fail(getErrorMessage(arguments) + " Expecting %d arguments but actually got %d.",
+                parameterTypes.length, arguments.length);
+        }
+        if (needsTarget) {
+            Assert.checkTrue(target != null, "Argument 'target' must not be null for non-static method.");
+            if (!declaringClass.isInstance(target)) {
+                Argument.fail(getErrorMessage(arguments) + " Target of class '%s' is not an instance of declaring "
+                    + "class.", target.getClass().getName());
+            }
+        }
+        for (int i = 0; i < arguments.length; i++) {
+            if (!isAssignable(parameterTypes[i], arguments[i])) {
+                Argument.fail(getErrorMessage(arguments) + " Argument %d doesn't match parameter type '%s'.",
+                    i, parameterTypes[i].getName());
+            }
+        }
+    }
+
+    /**
+     * Tests if value may be passed as parameter of specified type (JLS 5.3 as applied by reflection API).
+     */
+    private static boolean isAssignable(Class<?> type, Object value) {
+        if (value == null) {
+            return !type.isPrimitive();
+        }
+        if (!type.isPrimitive()) {
+            return type.isInstance(value);
+        }
+        Class<?> primitive = Types.getPrimitive(value.getClass());
+        return primitive == type || primitive != null && Types.isWidening(primitive, type);
+    }
+
+    private String getErrorMessage(Object[] arguments) {
+        return isConstructor()
+            ? "Instance creation error " + ToStringHelper.toString(declaringClass, CONSTRUCTOR_NAME, parameterTypes,
+                arguments)
+            : "Method invocation error " + ToStringHelper.toString(declaringClass, name, parameterTypes, arguments);
+    }
+
+    private static MethodHandle adapt(MethodHandle handle) {
+        int parameterCount = handle.type().parameterCount() - 1;
+        return handle
+            .asType(MethodType.genericMethodType(parameterCount + 1))
+            .asSpreader(Object[].class, parameterCount);
+    }
+
+    @Override
+    public String toString() {
+        return "MethodInvoker{" + ToStringHelper.toString(declaringClass, isConstructor() ? CONSTRUCTOR_NAME : name,
+            parameterTypes) + "}";
+    }
+
+}
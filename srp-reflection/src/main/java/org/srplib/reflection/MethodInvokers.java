@@ -0,0 +1,183 @@
+package org.srplib.reflection;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.srplib.contract.Argument;
+
+/**
+ * Per class cache of {@link MethodInvoker}s.
+ *
+ * <p>
+ *     Invokers are stored in {@link ClassValue} and keyed by method signature (name and parameter types). Methods are
+ *     searched in the same way {@link ReflectionUtils#findMethodRecursively(Class, String, Class[])} does: in class
+ *     itself, then in superclasses. Constructors are searched in class itself. Missing methods are cached too.
+ * </p>
+ */
+public final class MethodInvokers {
+
+    /**
+     * Marker of missing method.
+     */
+    private static final Object NOT_FOUND = new Object();
+
+    private static final ClassValue<Map<Signature, Object>> INVOKERS = new ClassValue<Map<Signature, Object>>() {
+        @Override
+        protected Map<Signature, Object> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private MethodInvokers() {
+    }
+
+    /**
+     * Returns invoker of method with specified signature declared in specified class or its superclasses.
+     *
+     * @param clazz Class class to start search from
+     * @param methodName String method name
+     * @param parameters vararg of parameter types
+     * @return MethodInvoker invoker or {@code null} if no such method
+     */
+    public static MethodInvoker findMethod(Class<?> clazz, String methodName, Class<?>... parameters) {
+        Argument.checkNotNull(clazz, "'clazz' must not be null!");
+        Argument.checkNotNull(methodName, "'methodName' must not be null!");
+
+        return find(clazz, methodName, parameters);
+    }
+
+    /**
+     * Returns invoker of method with specified signature declared in specified class or its superclasses.
+     *
+     * @param clazz Class class to start search from
+     * @param methodName String method name
+     * @param parameters vararg of parameter types
+     * @return MethodInvoker invoker
+     * @throws ReflectionException if no such method
+     */
+    public static MethodInvoker getMethod(Class<?> clazz, String methodName, Class<?>... parameters) {
+        MethodInvoker invoker = findMethod(clazz, methodName, parameters);
+        if (invoker == null) {
+            throw new ReflectionException("No such method " + ToStringHelper.toString(clazz, methodName, parameters));
+        }
+        return invoker;
+    }
+
+    /**
+     * Returns invoker of specified method.
+     *
+     * @param method Method a method
+     * @return MethodInvoker invoker
+     */
+    public static MethodInvoker get(Method method) {
+        Argument.checkNotNull(method, "method must not be null!");
+
+        // Search from declaring class always finds method itself.
+        return getMethod(method.getDeclaringClass(), method.getName(), method.getParameterTypes());
+    }
+
+    /**
+     * Returns invoker of constructor with specified parameter types declared in specified class.
+     *
+     * @param clazz Class class to create instances of
+     * @param parameters vararg of parameter types
+     * @return MethodInvoker invoker or {@code null} if no such constructor
+     */
+    public static MethodInvoker findConstructor(Class<?> clazz, Class<?>... parameters) {
+        Argument.checkNotNull(clazz, "'clazz' must not be null!");
+
+        return find(clazz, null, parameters);
+    }
+
+    /**
+     * Returns invoker of constructor with specified parameter types declared in specified class.
+     *
+     * @param clazz Class class to create instances of
+     * @param parameters vararg of parameter types
+     * @return MethodInvoker invoker
+     * @throws ReflectionException if no such constructor
+     */
+    public static MethodInvoker getConstructor(Class<?> clazz, Class<?>... parameters) {
+        MethodInvoker invoker = findConstructor(clazz, parameters);
+        if (invoker == null) {
+            throw new ReflectionException("No such constructor " + ToStringHelper.toString(clazz, null, parameters));
+        }
+        return invoker;
+    }
+
+    private static MethodInvoker find(Class<?> clazz, String methodName, Class<?>[] parameters) {
+        Class<?>[] types = parameters == null ? ReflectionUtils.EMPTY_TYPES : parameters;
+
+        Map<Signature, Object> invokers = INVOKERS.get(clazz);
+
+        Signature signature = new Signature(methodName, types);
+        Object invoker = invokers.get(signature);
+        if (invoker == null) {
+            invoker = create(clazz, methodName, types);
+            // Caller may change parameters array later, so key must own its copy.
+            invokers.putIfAbsent(new Signature(methodName, types.clone()), invoker);
+        }
+
+        return invoker == NOT_FOUND ? null : (MethodInvoker) invoker;
+    }
+
+    private static Object create(Class<?> clazz, String methodName, Class<?>[] parameters) {
+        if (methodName == null) {
+            Constructor<?> constructor = lookupConstructor(clazz, parameters);
+            return constructor == null ? NOT_FOUND : new MethodInvoker(constructor);
+        }
+        else {
+            Method method = ReflectionUtils.findMethodRecursively(clazz, methodName, parameters);
+            return method == null ? NOT_FOUND : new MethodInvoker(method);
+        }
+    }
+
+    private static Constructor<?> lookupConstructor(Class<?> clazz, Class<?>[] parameters) {
+        try {
+            return clazz.getDeclaredConstructor(parameters);
+        }
+        catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Method signature. Constructor has {@code null} name.
+     */
+    private static final class Signature {
+
+        private final String name;
+
+        private final Class<?>[] parameters;
+
+        private final int hashCode;
+
+        private Signature(String name, Class<?>[] parameters) {
+            this.name = name;
+            this.parameters = parameters;
+            this.hashCode = 31 * (name == null ? 0 : name.hashCode()) + Arrays.hashCode(parameters);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof Signature)) {
+                return false;
+            }
+            Signature other = (Signature) object;
+            return hashCode == other.hashCode && (name == null ? other.name == null : name.equals(other.name))
+                && Arrays.equals(parameters, other.parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+}
@@ -0,0 +1,255 @@
+package org.srplib.reflection;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.srplib.contract.Argument;
+import org.srplib.support.Path;
+
+/**
+ * Compiled field path (e.g. "address.city") of a class.
+ *
+ * <p>
+ *     Path is parsed and its fields are resolved once (using declared field types) into a chain of
+ *     {@link FieldAccessor}s. Access to field path costs a field read per segment. If runtime class of intermediate
+ *     object differs from declared field type then field is resolved by runtime class (as
+ *     {@link ReflectionUtils#getFieldValue(Object, Path)} does) using {@link FieldAccessors} cache.
+ * </p>
+ *
+ * <p>Compiled paths are immutable and cached by (class, path) pair. Use {@link #compile(Class, String)} to get one.</p>
+ *
+ * <pre>
+ *     PropertyPath city = PropertyPath.compile(Person.class, "address.city");
+ *     String value = city.get(person);
+ *     city.setCreatingIntermediates(person, "Minsk");
+ * </pre>
+ */
+public final class PropertyPath {
+
+    private static final String SEPARATOR = ".";
+
+    private static final ClassValue<Map<String, PropertyPath>> PATHS = new ClassValue<Map<String, PropertyPath>>() {
+        @Override
+        protected Map<String, PropertyPath> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Class<?> rootClass;
+
+    private final Path path;
+
+    private final String[] names;
+
+    /**
+     * Classes used to resolve accessors: root class and declared types of intermediate fields.
+     */
+    private final Class<?>[] types;
+
+    /**
+     * Resolved accessors. An element is {@code null} if field is not found in corresponding type.
+     */
+    private final FieldAccessor[] accessors;
+
+    private PropertyPath(Class<?> rootClass, Path path) {
+        this.rootClass = rootClass;
+        this.path = path;
+        this.names = new String[path.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = path.get(i);
+        }
+        this.types = new Class<?>[names.length];
+        this.accessors = new FieldAccessor[names.length];
+
+        Class<?> type = rootClass;
+        for (int i = 0; i < names.length && type != null; i++) {
+            types[i] = type;
+            accessors[i] = FieldAccessors.find(type, names[i]);
+            type = accessors[i] == null ? null : accessors[i].getType();
+        }
+    }
+
+    /**
+     * Returns compiled path for specified class.
+     *
+     * @param rootClass Class class declaring first field of path
+     * @param path String dot separated field path
+     * @return PropertyPath cached compiled path
+     * @throws IllegalArgumentException if class or path is null
+     */
+    public static PropertyPath compile(Class<?> rootClass, String path) {
+        Argument.checkNotNull(rootClass, "rootClass must not be null!");
+        Argument.checkNotNull(path, "path must not be null.");
+
+        Map<String, PropertyPath> paths = PATHS.get(rootClass);
+
+        PropertyPath result = paths.get(path);
+        if (result == null) {
+            result = new PropertyPath(rootClass, Path.parse(path));
+            paths.putIfAbsent(path, result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns compiled path for specified class.
+     *
+     * @param rootClass Class class declaring first field of path
+     * @param path Path field path
+     * @return PropertyPath cached compiled path
+     * @throws IllegalArgumentException if class or path is null or path is empty
+     */
+    public static PropertyPath compile(Class<?> rootClass, Path path) {
+        Argument.checkNotNull(rootClass, "rootClass must not be null!");
+        Argument.checkNotNull(path, "path must not be null.");
+        Argument.checkFalse(path.isEmpty(), "path must not be empty.");
+
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i < path.size(); i++) {
+            String segment = path.get(i);
+            // Field names can't contain separator, so such segments can't be resolved. Don't cache such paths
+            // because their keys are ambiguous.
+            if (segment.contains(SEPARATOR)) {
+                return new PropertyPath(rootClass, path);
+            }
+            key.append(i == 0 ? "" : SEPARATOR).append(segment);
+        }
+        return compile(rootClass, key.toString());
+    }
+
+    /**
+     * Returns path.
+     *
+     * @return Path field path
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Returns class this path is compiled for.
+     *
+     * @return Class root class
+     */
+    public Class<?> getRootClass() {
+        return rootClass;
+    }
+
+    /**
+     * Returns value of path field of specified object.
+     *
+     * @param target Object target object
+     * @return field value
+     * @throws IllegalArgumentException if target is null
+     * @throws ReflectionException if intermediate object is null or field is not found
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object target) {
+        Argument.checkNotNull(target, "Can't get value of field '%s' of null object.", path);
+
+        Object value = target;
+        for (int i = 0; i < names.length; i++) {
+            if (value == null) {
+                throw new ReflectionException(String.format(
+                    "Can't get value of field '%s'. Object for path '%s' is null.", path, path.subpath(0, i)));
+            }
+            value = getAccessor(i, value, target, "get value of").get(value);
+        }
+        return (T) value;
+    }
+
+    /**
+     * Returns value of path field of specified object or {@code null} if target or any intermediate object is null.
+     *
+     * @param target Object target object (nullable)
+     * @return field value
+     * @throws ReflectionException if field is not found
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getOrNull(Object target) {
+        Object value = target;
+        for (int i = 0; i < names.length && value != null; i++) {
+            value = getAccessor(i, value, target, "get value of").get(value);
+        }
+        return (T) value;
+    }
+
+    /**
+     * Sets value of path field of specified object.
+     *
+     * @param target Object target object
+     * @param value Object new value
+     * @throws IllegalArgumentException if target is null
+     * @throws ReflectionException if intermediate object is null or field is not found
+     */
+    public void set(Object target, Object value) {
+        set(target, value, false);
+    }
+
+    /**
+     * Sets value of path field of specified object creating {@code null} intermediate objects.
+     *
+     * <p>Intermediate objects are created using no-arg constructor of declared field type.</p>
+     *
+     * @param target Object target object
+     * @param value Object new value
+     * @throws IllegalArgumentException if target is null
+     * @throws ReflectionException if field is not found or intermediate object can't be created
+     */
+    public void setCreatingIntermediates(Object target, Object value) {
+        set(target, value, true);
+    }
+
+    private void set(Object target, Object value, boolean createIntermediates) {
+        Argument.checkNotNull(target, "Can't set value to field '%s' of null object.", path);
+
+        Object parent = target;
+        int last = names.length - 1;
+        for (int i = 0; i < last; i++) {
+            FieldAccessor accessor = getAccessor(i, parent, target, "set value to");
+
+            Object child = accessor.get(parent);
+            if (child == null && createIntermediates) {
+                child = ReflectionUtils.newInstance(accessor.getType());
+                accessor.set(parent, child);
+            }
+            if (child == null) {
+                throw new ReflectionException(String.format(i + 1 < last
+                    ? "Can't set value to field '%s'. Object for path '%s' is null."
+                    : "Can't set value to field '%s'. Parent object (%s) is null", path, path.subpath(0, i + 1)));
+            }
+            parent = child;
+        }
+
+        FieldAccessor accessor = findAccessor(last, parent);
+        if (accessor == null) {
+            throw new ReflectionException(
+                String.format("Can't find field path '%s'. No declared field '%s' in class '%s' or its superclasses.",
+                    names[last], names[last], parent.getClass()));
+        }
+        accessor.set(parent, value);
+    }
+
+    private FieldAccessor getAccessor(int index, Object object, Object target, String operation) {
+        FieldAccessor accessor = findAccessor(index, object);
+
+        if (accessor == null) {
+            throw new ReflectionException(
+                String.format("Can't %s field '%s'. No field '%s' (full path '%s') in class '%s'. ",
+                    operation, path, names[index], path.subpath(0, index + 1), target.getClass()));
+        }
+        return accessor;
+    }
+
+    private FieldAccessor findAccessor(int index, Object object) {
+        Class<?> type = object.getClass();
+
+        return type == types[index] ? accessors[index] : FieldAccessors.find(type, names[index]);
+    }
+
+    @Override
+    public String toString() {
+        return rootClass.getName() + ":" + path;
+    }
+
+}
@@ -1,14 +1,9 @@
 package org.srplib.reflection;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
 import java.util.List;
 
 import org.srplib.contract.Argument;
-import org.srplib.contract.Assert;
-import org.srplib.support.ExceptionUtils;
 
 /**
  * Simplifies method invocation via reflection.
@@ -50,8 +45,17 @@ import org.srplib.support.ExceptionUtils;
  *
  *      Person john = invoker.invoke("John", 24);
  *      Person james = invoker.invoke("James", 33);
+ *
+ *      // Get thread safe invoker to share between threads
+ *      MethodInvoker setName = ReflectionInvoker.method(Person.class, "setName").parameters(String.class).compile();
+ *      setName.invoke(person, "John");
  * </pre>
  *
+ * <p>
+ *     Method (constructor) is resolved once on first invocation and invoked through cached {@link MethodInvoker}
+ *     (see {@link MethodInvokers}). Invoker is resolved again only if parameter types are changed.
+ * </p>
+ *
  * @author Anton Pechinsky
  */
 public class ReflectionInvoker<T, V> {
@@ -68,6 +72,10 @@ public class ReflectionInvoker<T, V> {
 
     private Object[] errorMessageParameters;
 
+    /**
+     * Resolved invoker. {@code null} until first invocation.
+     */
+    private MethodInvoker invoker;
 
     /**
      * Create constructor invoker.
@@ -162,6 +170,7 @@ public class ReflectionInvoker<T, V> {
                 "No method " + ToStringHelper.toString(clazz, methodName, parameters));
         }
         this.parameters = parameters;
+        this.invoker = null;
         return this;
     }
 
@@ -192,53 +201,71 @@ public class ReflectionInvoker<T, V> {
      */
     public V invoke(Object... arguments) {
         try {
-            if (isConstructorInvoker()) {
-                return (V) ReflectionUtils.newInstance(clazz, parameters, arguments);
-            }
-            else {
-                // TODO: cache this
-                Method method = ReflectionUtils.getMethodRecursively(clazz, methodName, parameters);
-                return ReflectionUtils.invokeMethod(target, method, arguments);
-            }
-
+            return resolve(arguments).invoke(target, arguments);
         }
         catch (ReflectionException e) {
             throw new ReflectionException(getUserMessage() + " " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Returns resolved invoker of method (constructor) specified by this builder.
+     *
+     * <p>Returned invoker is immutable and thread safe, so it may be shared and used to invoke method of different
+     * targets.</p>
+     *
+     * @return MethodInvoker cached invoker
+     * @throws ReflectionException if method (constructor) is not found
+     */
+    public MethodInvoker compile() {
+        return resolve(null);
+    }
+
+    /**
+     * Returns cached invoker resolving it on first call.
+     *
+     * @param arguments Object[] actual arguments used in error messages or {@code null} if not known yet
+     * @return MethodInvoker resolved invoker
+     */
+    private MethodInvoker resolve(Object[] arguments) {
+        MethodInvoker result = invoker;
+        if (result == null) {
+            result = isConstructorInvoker()
+                ? getConstructor(clazz, parameters, arguments)
+                : MethodInvokers.getMethod(clazz, methodName, parameters);
+            invoker = result;
+        }
+        return result;
+    }
+
     /**
      * Invokes specified method of specified target using reflection.
      *
      * <p>Method wraps all checked exceptions into unchecked exceptions.</p>
      *
+     * <p>
+     *     Method is invoked through cached {@link MethodInvoker} (see {@link MethodInvokers}), so accessible flag of
+     *     method isn't changed.
+     * </p>
+     *
      * @param method Method to invoke
      * @param target Object the target the underlying method is invoked from
      * @param arguments vararg array of method arguments.
      * @return method invocation result
      */
-    @SuppressWarnings("unchecked")
     public static <T> T invokeMethod(Object target, Method method, Object... arguments) {
         Argument.checkNotNull(method, "Argument 'method' must not be null!");
 
-        Assert.checkTrue(Modifier.isStatic(method.getModifiers()) || target != null,
-            "Argument 'target' must not be null for non-static method.");
-
-        boolean accessible = method.isAccessible();
+        MethodInvoker invoker;
         try {
-            method.setAccessible(true);
-            return (T) method.invoke(target, arguments);
+            invoker = MethodInvokers.get(method);
         }
-        catch (IllegalAccessException e) {
+        catch (ReflectionException e) {
+            Class<?> clazz = target != null ? target.getClass() : method.getDeclaringClass();
             throw new ReflectionException(getMethodInvocationErrorMessage(
-                target.getClass(), method.getName(), method.getParameterTypes(), arguments), e);
-        }
-        catch (InvocationTargetException e) {
-            throw ExceptionUtils.asUnchecked(e.getCause());
-        }
-        finally {
-            method.setAccessible(accessible);
+                clazz, method.getName(), method.getParameterTypes(), arguments), e);
         }
+        return invoker.invoke(target, arguments);
     }
 
     private static String getMethodInvocationErrorMessage(Class<?> clazz, String methodName, Class<?>[] parameterTypes,
@@ -259,28 +286,32 @@ public class ReflectionInvoker<T, V> {
      */
     @SuppressWarnings("unchecked")
     public static <T> T newInstance(Class<T> clazz, Class[] parameters, Object[] arguments) {
-        try {
-            if (parameters.length != arguments.length) {
-                Argument.fail(getInstanceCreationErrorMessage(clazz, parameters, arguments) +
-                    " Expecting %d arguments but actually got %d.", parameters.length, arguments.length);
-            }
-
-            Constructor<T> constructor = clazz.getDeclaredConstructor(parameters);
-            constructor.setAccessible(true);
-            return constructor.newInstance(arguments);
-        }
-        catch (InstantiationException e) {
-            throw new ReflectionException(getInstanceCreationErrorMessage(clazz, parameters, arguments), e);
+        return getConstructor(clazz, parameters, arguments).newInstance(arguments);
+    }
+
+    /**
+     * Returns invoker of constructor reporting errors as reflective instance creation does.
+     *
+     * @param arguments Object[] actual arguments used in error messages or {@code null} if not known yet
+     */
+    private static MethodInvoker getConstructor(Class<?> clazz, Class<?>[] parameters, Object[] arguments) {
+        if (arguments != null && parameters.length != arguments.length) {
+            Argument.fail(getInstanceCreationErrorMessage(clazz, parameters, arguments) +
+                " Expecting %d arguments but actually got %d.", parameters.length, arguments.length);
         }
-        catch (IllegalAccessException e) {
-            throw new ReflectionException(getInstanceCreationErrorMessage(clazz, parameters, arguments), e);
+
+        MethodInvoker constructor;
+        try {
+            constructor = MethodInvokers.findConstructor(clazz, parameters);
         }
-        catch (NoSuchMethodException e) {
+        catch (ReflectionException e) {
+            // Abstract class or inaccessible constructor.
             throw new ReflectionException(getInstanceCreationErrorMessage(clazz, parameters, arguments), e);
         }
-        catch (InvocationTargetException e) {
-            throw ExceptionUtils.asUnchecked(e.getCause());
+        if (constructor == null) {
+            throw new ReflectionException(getInstanceCreationErrorMessage(clazz, parameters, arguments));
         }
+        return constructor;
     }
 
     /**
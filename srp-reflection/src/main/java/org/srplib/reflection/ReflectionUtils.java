@@ -374,24 +374,15 @@ public class ReflectionUtils {
      *
      * <p>Method wraps all checked exceptions into unchecked exceptions.</p>
      *
+     * <p>Field is accessed through cached {@link FieldAccessor} (see {@link FieldAccessors}).</p>
+     *
      * @param target Object the object the underlying method is invoked from
      * @param field Field field to set value to.
      * @param value Object value to set to field
      * @throws ReflectionException if can't set field value.
      */
     public static void setFieldValue(Object target, Field field, Object value) {
-        boolean accessible = field.isAccessible();
-        try {
-            field.setAccessible(true);
-            field.set(target, value);
-        }
-        catch (IllegalAccessException e) {
-            throw new ReflectionException("Can't set value to field '" + field + "'", e);
-
-        }
-        finally {
-            field.setAccessible(accessible);
-        }
+        FieldAccessors.get(field).set(target, value);
     }
 
     /**
@@ -399,6 +390,9 @@ public class ReflectionUtils {
      *
      * <p>Method wraps all checked exceptions into unchecked exceptions.</p>
      *
+     * <p>Generated {@link BeanAccessor} is used if class of target has one (see {@link BeanAccessors}) and it writes
+     * field directly (see {@link BeanAccessor#isFieldWritable(String)}).</p>
+     *
      * @param target Object target object
      * @param fieldName String field name to set value to.
      * @param value Object value to set to a field
@@ -408,8 +402,13 @@ public class ReflectionUtils {
         Argument.checkNotNull(target, "'target' must not be null!");
         Argument.checkNotNull(fieldName, "'fieldName' must not be null!");
 
-        Path path = Path.parse(fieldName);
-        setFieldValue(target, path, value);
+        BeanAccessor<Object> accessor = getBeanAccessor(target);
+        if (accessor != null && accessor.isFieldWritable(fieldName)) {
+            accessor.set(target, fieldName, value);
+            return;
+        }
+
+        PropertyPath.compile(target.getClass(), fieldName).set(target, value);
     }
 
     /**
@@ -425,35 +424,7 @@ public class ReflectionUtils {
         Argument.checkNotNull(target, "Can't set value to field '%s' of null object.", path);
         Argument.checkNotNull(path, "path must not be null.");
 
-        Object parentObject = target;
-
-        for (int i = 0; i < path.size() - 1; i++) {
-            String fieldName = path.get(i);
-
-            if (parentObject == null) {
-                throw new ReflectionException(
-                    String.format("Can't set value to field '%s'. Object for path '%s' is null.",
-                        path, path.subpath(0, i)));
-            }
-
-            Field field = findFieldRecursively(parentObject.getClass(), fieldName);
-
-            if (field == null) {
-                throw new ReflectionException(
-                    String.format("Can't set value to field '%s'. No field '%s' (full path '%s') in class '%s'. ",
-                        path, fieldName, path.subpath(0, i + 1), target.getClass()));
-            }
-
-            parentObject = getFieldValue(parentObject, field);
-        }
-
-        if (parentObject == null) {
-            throw new ReflectionException(
-                String.format("Can't set value to field '%s'. Parent object (%s) is null", path, path.parent()));
-        }
-
-        Field field = getFieldRecursively(parentObject.getClass(), path.getLast());
-        setFieldValue(parentObject, field, value);
+        PropertyPath.compile(target.getClass(), path).set(target, value);
     }
 
 
@@ -473,6 +444,8 @@ public class ReflectionUtils {
      *
      * <p>Method wraps all checked exceptions into unchecked exceptions.</p>
      *
+     * <p>Field is accessed through cached {@link FieldAccessor} (see {@link FieldAccessors}).</p>
+     *
      * @param target Object target object
      * @param field Field field to set value to.
      * @return value of field
@@ -480,17 +453,7 @@ public class ReflectionUtils {
      */
     @SuppressWarnings("unchecked")
     public static <T> T getFieldValue(Object target, Field field) {
-        boolean accessible = field.isAccessible();
-        try {
-            field.setAccessible(true);
-            return (T) field.get(target);
-        }
-        catch (IllegalAccessException e) {
-            throw new ReflectionException(String.format("Can't get value of field '%s'.", field), e);
-        }
-        finally {
-            field.setAccessible(accessible);
-        }
+        return FieldAccessors.get(field).get(target);
     }
 
 
@@ -499,6 +462,9 @@ public class ReflectionUtils {
      *
      * <p>Method wraps all checked exceptions into unchecked exceptions.</p>
      *
+     * <p>Generated {@link BeanAccessor} is used if class of target has one (see {@link BeanAccessors}) and it reads
+     * field directly (see {@link BeanAccessor#isFieldReadable(String)}).</p>
+     *
      * @param target Object target object
      * @param fieldName String field name
      * @return value of specified property
@@ -506,13 +472,27 @@ public class ReflectionUtils {
      */
     @SuppressWarnings("unchecked")
     public static <T> T getFieldValue(Object target, String fieldName) {
-        Path path = Path.parse(fieldName);
-        return getFieldValue(target, path);
+        Argument.checkNotNull(target, "Can't get value of field '%s' of null object.", fieldName);
+        Argument.checkNotNull(fieldName, "path must not be null.");
+
+        BeanAccessor<Object> accessor = getBeanAccessor(target);
+        if (accessor != null && accessor.isFieldReadable(fieldName)) {
+            return (T) accessor.get(target, fieldName);
+        }
+
+        return PropertyPath.compile(target.getClass(), fieldName).get(target);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BeanAccessor<Object> getBeanAccessor(Object target) {
+        return BeanAccessors.find((Class<Object>) target.getClass());
     }
 
     /**
      * Returns value of nested field specified as path.
      *
+     * <p>Path is compiled once per (class, path) pair, see {@link PropertyPath}.</p>
+     *
      * @param target Object target object.
      * @param path Path field path
      * @return Object field value
@@ -524,29 +504,7 @@ public class ReflectionUtils {
         Argument.checkNotNull(path, "path must not be null.");
         Argument.checkFalse(path.isEmpty(), "path must not be empty.");
 
-        Object fieldValue = target;
-
-        for (int i = 0; i < path.size(); i++) {
-            String fieldName = path.get(i);
-
-            if (fieldValue == null) {
-                throw new ReflectionException(
-                    String.format("Can't get value of field '%s'. Object for path '%s' is null.",
-                        path, path.subpath(0, i)));
-            }
-
-            Field field = findFieldRecursively(fieldValue.getClass(), fieldName);
-
-            if (field == null) {
-                throw new ReflectionException(
-                    String.format("Can't get value of field '%s'. No field '%s' (full path '%s') in class '%s'. ",
-                        path, fieldName, path.subpath(0, i + 1), target.getClass()));
-            }
-
-            fieldValue = getFieldValue(fieldValue, field);
-        }
-
-        return (T) fieldValue;
+        return PropertyPath.compile(target.getClass(), path).get(target);
     }
 
     /**
@@ -619,11 +577,20 @@ public class ReflectionUtils {
      *
      * <p>Converts checked exceptions to unchecked</p>
      *
+     * <p>Generated {@link BeanAccessor} is used if class has one (see {@link BeanAccessors}).</p>
+     *
      * @param clazz Class a class to create instance
      * @return an instance of specified class
      */
     @SuppressWarnings("unchecked")
     public static <T> T newInstance(Class<T> clazz) {
+        Argument.checkNotNull(clazz, "Can't create object with 'null' class!");
+
+        BeanAccessor<T> accessor = BeanAccessors.find(clazz);
+        if (accessor != null && accessor.isInstantiable()) {
+            return accessor.newInstance();
+        }
+
         return newInstance(clazz, EMPTY_TYPES, EMPTY_ARGUMENTS);
     }
 
@@ -0,0 +1,31 @@
+package org.srplib.reflection;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks class for which {@link BeanAccessor} should be generated at build time.
+ *
+ * <p>
+ *     Accessors are generated by annotation processor from {@code srp-reflection-processor} module. If processor
+ *     isn't configured annotation has no effect and reflection is used.
+ * </p>
+ *
+ * <pre>
+ *     &#64;SrpBean
+ *     public class Person {
+ *         private String name;
+ *         ...
+ *     }
+ * </pre>
+ *
+ * @see BeanAccessors
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface SrpBean {
+}
@@ -0,0 +1,71 @@
+package org.srplib.reflection;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Kind of java type from object graph navigation point of view.
+ */
+public enum TypeKind {
+
+    /**
+     * Primitive type (int, boolean, etc.).
+     */
+    PRIMITIVE,
+
+    /**
+     * Primitive wrapper (Integer, Boolean, etc.).
+     */
+    WRAPPER,
+
+    /**
+     * Array of primitives.
+     */
+    PRIMITIVE_ARRAY,
+
+    /**
+     * Array of objects.
+     */
+    ARRAY,
+
+    /**
+     * Subtype of {@link Collection}.
+     */
+    COLLECTION,
+
+    /**
+     * Subtype of {@link Map}.
+     */
+    MAP,
+
+    /**
+     * Any other type.
+     */
+    OBJECT;
+
+    /**
+     * Returns kind of specified type.
+     *
+     * @param type Class a type
+     * @return TypeKind kind of type
+     */
+    public static TypeKind of(Class<?> type) {
+        if (type.isPrimitive()) {
+            return PRIMITIVE;
+        }
+        if (Types.isWrapper(type)) {
+            return WRAPPER;
+        }
+        if (type.isArray()) {
+            return type.getComponentType().isPrimitive() ? PRIMITIVE_ARRAY : ARRAY;
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return COLLECTION;
+        }
+        if (Map.class.isAssignableFrom(type)) {
+            return MAP;
+        }
+        return OBJECT;
+    }
+
+}
@@ -177,4 +177,46 @@ public class Types {
         return Number.class.isAssignableFrom(type);
     }
 
+    /**
+     * Tests if primitive type {@code from} can be converted to primitive type {@code to} by identity or widening
+     * primitive conversion (JLS 5.1.2).
+     *
+     * @param from Class source type
+     * @param to Class target type
+     * @return true if {@code from} and {@code to} are primitive types and {@code from} is the same as or narrower
+     * than {@code to}
+     */
+    public static boolean isWidening(Class<?> from, Class<?> to) {
+        if (!from.isPrimitive() || !to.isPrimitive() || from == boolean.class || from == void.class
+            || to == boolean.class) {
+            return false;
+        }
+        if (from == to) {
+            return true;
+        }
+        if (from == char.class) {
+            return to == int.class || to == long.class || to == float.class || to == double.class;
+        }
+        return to != char.class && getWidth(from) < getWidth(to);
+    }
+
+    private static int getWidth(Class<?> type) {
+        if (type == byte.class) {
+            return 1;
+        }
+        if (type == short.class) {
+            return 2;
+        }
+        if (type == int.class) {
+            return 3;
+        }
+        if (type == long.class) {
+            return 4;
+        }
+        if (type == float.class) {
+            return 5;
+        }
+        return 6;
+    }
+
 }
@@ -0,0 +1,100 @@
+package org.srplib.reflection;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Test for {@link ClassMetadata}.
+ */
+public class ClassMetadataTest {
+
+    @Test
+    public void fieldsAreListedAsGetFieldsRecursivelyDoes() {
+        List<String> expected = new ArrayList<>();
+        for (Field field : ReflectionUtils.getFieldsRecursively(Child.class)) {
+            expected.add(field.getName());
+        }
+
+        Assert.assertThat(names(ClassMetadata.of(Child.class).getFields()), is(expected));
+    }
+
+    @Test
+    public void instanceFields() {
+        Assert.assertThat(names(ClassMetadata.of(Child.class).getInstanceFields()),
+            is(Arrays.asList("values", "map", "numbers", "name", "count", "boxed")));
+    }
+
+    @Test
+    public void kinds() {
+        List<FieldMetadata> fields = ClassMetadata.of(Child.class).getInstanceFields();
+
+        Assert.assertThat(fields.get(0).getKind(), is(TypeKind.COLLECTION));
+        Assert.assertThat(fields.get(1).getKind(), is(TypeKind.MAP));
+        Assert.assertThat(fields.get(2).getKind(), is(TypeKind.PRIMITIVE_ARRAY));
+        Assert.assertThat(fields.get(3).getKind(), is(TypeKind.OBJECT));
+        Assert.assertThat(fields.get(4).getKind(), is(TypeKind.PRIMITIVE));
+        Assert.assertThat(fields.get(5).getKind(), is(TypeKind.WRAPPER));
+        Assert.assertThat(ClassMetadata.of(String[].class).getKind(), is(TypeKind.ARRAY));
+    }
+
+    @Test
+    public void fieldValue() {
+        Child child = new Child();
+        child.name = "child";
+
+        FieldMetadata name = ClassMetadata.of(Child.class).getInstanceFields().get(3);
+
+        Assert.assertThat(name.getValue(child), is((Object) "child"));
+    }
+
+    @Test
+    public void metadataIsCached() {
+        Assert.assertThat(ClassMetadata.of(Child.class), sameInstance(ClassMetadata.of(Child.class)));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void fieldsAreUnmodifiable() {
+        ClassMetadata.of(Child.class).getFields().clear();
+    }
+
+    private static List<String> names(List<FieldMetadata> fields) {
+        List<String> result = new ArrayList<>();
+        for (FieldMetadata field : fields) {
+            result.add(field.getName());
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Parent {
+
+        private static final int CONSTANT = 1;
+
+        String name;
+
+        private int count;
+
+        private Integer boxed;
+    }
+
+    @SuppressWarnings("unused")
+    private static class Child extends Parent {
+
+        private static String shared;
+
+        private List<String> values;
+
+        private Map<String, String> map;
+
+        private int[] numbers;
+    }
+}
@@ -0,0 +1,140 @@
+package org.srplib.reflection;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Test for {@link FieldAccessor} and {@link FieldAccessors}.
+ */
+public class FieldAccessorTest {
+
+    private static final String CONSTANT = "constant";
+
+    private static String staticField;
+
+    private int intValue;
+
+    private long longValue;
+
+    private short shortValue;
+
+    private double doubleValue;
+
+    private boolean booleanValue;
+
+    private Integer boxed;
+
+    private final String finalField = "final";
+
+    @Test
+    public void getAndSet() {
+        FieldAccessor accessor = FieldAccessors.get(TestBean.class, "param1");
+        TestBean bean = new TestBean("a", "b", 3);
+
+        Assert.assertThat(accessor.get(bean), is((Object) "a"));
+
+        accessor.set(bean, "c");
+        Assert.assertThat(bean.getParam1(), is("c"));
+    }
+
+    @Test
+    public void primitives() {
+        FieldAccessorTest target = new FieldAccessorTest();
+
+        FieldAccessors.get(getClass(), "intValue").setInt(target, 5);
+        FieldAccessors.get(getClass(), "longValue").setInt(target, 6);
+        FieldAccessors.get(getClass(), "doubleValue").setDouble(target, 7.5);
+        FieldAccessors.get(getClass(), "booleanValue").setBoolean(target, true);
+        FieldAccessors.get(getClass(), "shortValue").set(target, (short) 8);
+
+        Assert.assertThat(FieldAccessors.get(getClass(), "intValue").getInt(target), is(5));
+        Assert.assertThat(FieldAccessors.get(getClass(), "intValue").getLong(target), is(5L));
+        Assert.assertThat(FieldAccessors.get(getClass(), "longValue").getLong(target), is(6L));
+        Assert.assertThat(FieldAccessors.get(getClass(), "doubleValue").getDouble(target), is(7.5));
+        Assert.assertThat(FieldAccessors.get(getClass(), "booleanValue").getBoolean(target), is(true));
+        Assert.assertThat(FieldAccessors.get(getClass(), "shortValue").getInt(target), is(8));
+        Assert.assertThat(FieldAccessors.get(getClass(), "intValue").get(target), is((Object) 5));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void narrowingIsNotSupported() {
+        FieldAccessors.get(getClass(), "longValue").getInt(this);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void wrapperIsNotPrimitive() {
+        FieldAccessors.get(getClass(), "boxed").getInt(this);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nullToPrimitive() {
+        FieldAccessors.get(getClass(), "intValue").set(this, null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void valueOfWrongType() {
+        FieldAccessors.get(getClass(), "boxed").set(this, "string");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void targetOfWrongType() {
+        FieldAccessors.get(getClass(), "intValue").get(new TestBean());
+    }
+
+    @Test
+    public void staticField() {
+        FieldAccessor accessor = FieldAccessors.get(getClass(), "staticField");
+
+        accessor.set(null, "value");
+
+        Assert.assertThat(accessor.get(null), is((Object) "value"));
+        Assert.assertThat(FieldAccessors.get(getClass(), "CONSTANT").get(null), is((Object) "constant"));
+    }
+
+    @Test(expected = ReflectionException.class)
+    public void staticFinalFieldIsNotWritable() {
+        FieldAccessors.get(getClass(), "CONSTANT").set(null, "value");
+    }
+
+    @Test
+    public void finalInstanceField() {
+        FieldAccessors.get(getClass(), "finalField").set(this, "changed");
+
+        Assert.assertThat(FieldAccessors.get(getClass(), "finalField").get(this), is((Object) "changed"));
+    }
+
+    @Test
+    public void accessorsAreCached() {
+        Assert.assertThat(FieldAccessors.get(TestBean.class, "param1"),
+            sameInstance(FieldAccessors.get(TestBean.class, "param1")));
+        Assert.assertThat(FieldAccessors.find(TestBean.class, "missing"), nullValue());
+    }
+
+    @Test
+    public void superclassField() {
+        FieldAccessor accessor = FieldAccessors.get(SubBean.class, "param2");
+
+        Assert.assertThat(accessor.getField().getDeclaringClass(), is((Object) TestBean.class));
+        Assert.assertThat(accessor.get(new SubBean()), is((Object) "sub"));
+    }
+
+    @Test
+    public void callerFieldAccessibilityIsNotChanged() throws Exception {
+        java.lang.reflect.Field field = TestBean.class.getDeclaredField("param1");
+
+        ReflectionUtils.getFieldValue(new TestBean(), field);
+
+        Assert.assertThat(field.isAccessible(), is(false));
+    }
+
+    private static class SubBean extends TestBean {
+
+        SubBean() {
+            super(null, "sub", 0);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.srplib.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+
+/**
+ * Test for {@link MemberLookup} and {@link AccessMode}.
+ */
+public class MemberLookupTest {
+
+    @Test
+    public void parseAccessMode() {
+        Assert.assertThat(AccessMode.parse(null), is(AccessMode.SET_ACCESSIBLE));
+        Assert.assertThat(AccessMode.parse(" "), is(AccessMode.SET_ACCESSIBLE));
+        Assert.assertThat(AccessMode.parse(" PRIVATE_LOOKUP "), is(AccessMode.PRIVATE_LOOKUP));
+    }
+
+    @Test
+    public void invalidAccessModeNamesProperty() {
+        try {
+            AccessMode.parse("PRIVATE_LOKUP");
+            Assert.fail("IllegalArgumentException expected");
+        }
+        catch (IllegalArgumentException e) {
+            Assert.assertThat(e.getMessage(), is("Invalid value 'PRIVATE_LOKUP' of system property "
+                + "'org.srplib.reflection.accessMode'. Expected one of [SET_ACCESSIBLE, PRIVATE_LOOKUP]."));
+        }
+    }
+
+    @Test
+    public void privateLookupField() throws Throwable {
+        Field field = Bean.class.getDeclaredField("name");
+        Bean bean = new Bean("john");
+
+        MethodHandle getter = MemberLookup.unreflectGetter(field, AccessMode.PRIVATE_LOOKUP);
+        MethodHandle setter = MemberLookup.unreflectSetter(field, AccessMode.PRIVATE_LOOKUP);
+
+        setter.invokeWithArguments(bean, "james");
+
+        Assert.assertThat(getter.invokeWithArguments(bean), is((Object) "james"));
+        Assert.assertThat(field.isAccessible(), is(false));
+    }
+
+    @Test
+    public void privateLookupFinalField() throws Throwable {
+        Field field = Bean.class.getDeclaredField("id");
+        Bean bean = new Bean("john");
+
+        // Lookup can't write final field, accessible copy of field is used instead.
+        MemberLookup.unreflectSetter(field, AccessMode.PRIVATE_LOOKUP).invokeWithArguments(bean, 7);
+
+        Assert.assertThat(MemberLookup.unreflectGetter(field, AccessMode.PRIVATE_LOOKUP).invokeWithArguments(bean),
+            is((Object) 7));
+        Assert.assertThat(field.isAccessible(), is(false));
+    }
+
+    @Test
+    public void privateLookupMethodAndConstructor() throws Throwable {
+        Constructor<Bean> constructor = Bean.class.getDeclaredConstructor(String.class);
+        Method method = Bean.class.getDeclaredMethod("greet", String.class);
+
+        Object bean = MemberLookup.unreflectConstructor(constructor, AccessMode.PRIVATE_LOOKUP)
+            .invokeWithArguments("john");
+        Object greeting = MemberLookup.unreflect(method, AccessMode.PRIVATE_LOOKUP)
+            .invokeWithArguments(bean, "Hello");
+
+        Assert.assertThat(greeting, is((Object) "Hello, john"));
+        Assert.assertThat(constructor.isAccessible(), is(false));
+        Assert.assertThat(method.isAccessible(), is(false));
+    }
+
+    private static final class Bean {
+
+        private final int id = 0;
+
+        private String name;
+
+        private Bean(String name) {
+            this.name = name;
+        }
+
+        private String greet(String greeting) {
+            return greeting + ", " + name;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.srplib.reflection;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * Test for {@link MethodInvoker} and {@link MethodInvokers}.
+ */
+public class MethodInvokerTest {
+
+    @Test
+    public void method() {
+        TestBean bean = new TestBean("1", "2", 3);
+
+        MethodInvoker setter = MethodInvokers.getMethod(TestBean.class, "setParam1", String.class);
+
+        Assert.assertThat(setter.invoke(bean, "11"), nullValue());
+        Assert.assertThat(MethodInvokers.getMethod(TestBean.class, "getParam1").invoke(bean), is((Object) "11"));
+    }
+
+    @Test
+    public void primitiveArgumentIsWidened() {
+        TestBean bean = new TestBean();
+
+        MethodInvoker setter = MethodInvokers.getMethod(TestBean.class, "setParam3", int.class);
+        setter.invoke(bean, (short) 5);
+
+        Assert.assertThat(bean.getParam3(), is(5));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void primitiveArgumentIsNotNarrowed() {
+        MethodInvokers.getMethod(TestBean.class, "setParam3", int.class).invoke(new TestBean(), 5L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nullToPrimitive() {
+        MethodInvokers.getMethod(TestBean.class, "setParam3", int.class).invoke(new TestBean(), (Object) null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void argumentOfWrongType() {
+        MethodInvokers.getMethod(TestBean.class, "setParam1", String.class).invoke(new TestBean(), 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void targetOfWrongType() {
+        MethodInvokers.getMethod(TestBean.class, "getParam1").invoke("target");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void nullTarget() {
+        MethodInvokers.getMethod(TestBean.class, "getParam1").invoke(null);
+    }
+
+    @Test
+    public void constructor() {
+        TestBean bean = MethodInvokers.getConstructor(TestBean.class, String.class, String.class, int.class)
+            .newInstance("1", "2", 3);
+
+        Assert.assertThat(bean.getParam2(), is("2"));
+    }
+
+    @Test(expected = ReflectionException.class)
+    public void abstractClassConstructor() {
+        MethodInvokers.getConstructor(AbstractBean.class).newInstance();
+    }
+
+    @Test
+    public void invokersAreCached() {
+        Class<?>[] parameters = {String.class};
+        MethodInvoker invoker = MethodInvokers.getMethod(TestBean.class, "setParam2", parameters);
+        parameters[0] = int.class;
+
+        Assert.assertThat(MethodInvokers.getMethod(TestBean.class, "setParam2", String.class), sameInstance(invoker));
+        Assert.assertThat(MethodInvokers.findMethod(TestBean.class, "setParam2", int.class), nullValue());
+        Assert.assertThat(MethodInvokers.findConstructor(TestBean.class, int.class), nullValue());
+    }
+
+    @Test
+    public void varargsMethod() {
+        MethodInvoker format = MethodInvokers.getMethod(String.class, "format", String.class, Object[].class);
+
+        Assert.assertThat(format.invoke(null, "%s-%s", new Object[] {"a", "b"}), is((Object) "a-b"));
+    }
+
+    @Test
+    public void compiledInvokerIsShared() {
+        MethodInvoker invoker = ReflectionInvoker.method(TestBean.class, "getParam1").compile();
+
+        Assert.assertThat(invoker.invoke(new TestBean("a", null, 0)), is((Object) "a"));
+        Assert.assertThat(invoker.invoke(new TestBean("b", null, 0)), is((Object) "b"));
+        Assert.assertThat(invoker, sameInstance(MethodInvokers.getMethod(TestBean.class, "getParam1")));
+    }
+
+    @Test
+    public void callerMethodAccessibilityIsNotChanged() throws Exception {
+        java.lang.reflect.Method method = MethodInvokerTest.class.getDeclaredMethod("twice", int.class);
+
+        Assert.assertThat(ReflectionUtils.invokeMethod((Object) null, method, 2), is((Object) 4));
+        Assert.assertThat(method.isAccessible(), is(false));
+    }
+
+    private static int twice(int value) {
+        return value * 2;
+    }
+
+    private abstract static class AbstractBean {
+    }
+}
@@ -0,0 +1,98 @@
+package org.srplib.reflection;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.srplib.support.Path;
+
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+
+/**
+ * Test for {@link PropertyPath}.
+ */
+public class PropertyPathTest {
+
+    @Test
+    public void getAndSet() {
+        Person person = new Person();
+        person.address = new Address();
+        person.address.city = "Minsk";
+
+        PropertyPath path = PropertyPath.compile(Person.class, "address.city");
+
+        Assert.assertThat(path.get(person), is((Object) "Minsk"));
+
+        path.set(person, "Brest");
+        Assert.assertThat(person.address.city, is("Brest"));
+    }
+
+    @Test
+    public void compiledPathsAreCached() {
+        PropertyPath path = PropertyPath.compile(Person.class, "address.city");
+
+        Assert.assertThat(PropertyPath.compile(Person.class, "address.city"), sameInstance(path));
+        Assert.assertThat(PropertyPath.compile(Person.class, Path.parse("address.city")), sameInstance(path));
+    }
+
+    @Test
+    public void getOrNullIsNullSafe() {
+        PropertyPath path = PropertyPath.compile(Person.class, "address.city");
+
+        Assert.assertThat(path.getOrNull(new Person()), nullValue());
+        Assert.assertThat(path.getOrNull(null), nullValue());
+    }
+
+    @Test(expected = ReflectionException.class)
+    public void getThrowsOnNullIntermediate() {
+        PropertyPath.compile(Person.class, "address.city").get(new Person());
+    }
+
+    @Test(expected = ReflectionException.class)
+    public void setThrowsOnNullIntermediate() {
+        PropertyPath.compile(Person.class, "address.city").set(new Person(), "Minsk");
+    }
+
+    @Test
+    public void setCreatingIntermediates() {
+        Person person = new Person();
+
+        PropertyPath.compile(Person.class, "address.city").setCreatingIntermediates(person, "Minsk");
+
+        Assert.assertThat(person.address.city, is("Minsk"));
+    }
+
+    @Test
+    public void fieldOfRuntimeSubclass() {
+        Person person = new Person();
+        person.address = new PostalAddress();
+
+        PropertyPath path = PropertyPath.compile(Person.class, "address.zip");
+
+        path.set(person, "220000");
+        Assert.assertThat(path.get(person), is((Object) "220000"));
+    }
+
+    @Test(expected = ReflectionException.class)
+    public void missingField() {
+        Person person = new Person();
+        person.address = new Address();
+
+        PropertyPath.compile(Person.class, "address.zip").get(person);
+    }
+
+    public static class Person {
+
+        private Address address;
+    }
+
+    public static class Address {
+
+        private String city;
+    }
+
+    public static class PostalAddress extends Address {
+
+        private String zip;
+    }
+}
@@ -1,6 +1,7 @@
 package org.srplib.reflection;
 
 import java.lang.reflect.UndeclaredThrowableException;
+import java.util.AbstractList;
 
 import org.hamcrest.CoreMatchers;
 import org.junit.Assert;
@@ -59,6 +60,76 @@ public class ReflectionInvokerTest {
         Assert.assertThat(bean, instanceOf(TestBean.class));
     }
 
+    @Test
+    public void constructorArgumentCountErrorMessage() throws Exception {
+        try {
+            ReflectionInvoker.constructor(TestBean.class).parameters().invoke("redundant argument");
+            Assert.fail("IllegalArgumentException expected");
+        }
+        catch (IllegalArgumentException e) {
+            Assert.assertThat(e.getMessage(), is("Instance creation error org.srplib.reflection.TestBean.constructor() "
+                + "arguments: [redundant argument] Number of arguments doesn't match number of parameters. "
+                + "Expecting 0 arguments but actually got 1."));
+        }
+    }
+
+    @Test
+    public void missingConstructorErrorMessage() throws Exception {
+        try {
+            ReflectionInvoker.constructor(Integer.class).errorMessage("Can't create %s.", "number").invoke();
+            Assert.fail("ReflectionException expected");
+        }
+        catch (ReflectionException e) {
+            Assert.assertThat(e.getMessage(),
+                is("Can't create number. Instance creation error java.lang.Integer.constructor() arguments: []"));
+        }
+    }
+
+    @Test
+    public void missingConstructorCompileErrorMessage() throws Exception {
+        try {
+            ReflectionInvoker.constructor(Integer.class).compile();
+            Assert.fail("ReflectionException expected");
+        }
+        catch (ReflectionException e) {
+            Assert.assertThat(e.getMessage(), is("Instance creation error java.lang.Integer.constructor()"));
+        }
+    }
+
+    @Test
+    public void abstractClassErrorMessage() throws Exception {
+        try {
+            ReflectionInvoker.newInstance(AbstractList.class, new Class[0], new Object[0]);
+            Assert.fail("ReflectionException expected");
+        }
+        catch (ReflectionException e) {
+            Assert.assertThat(e.getMessage(),
+                is("Instance creation error java.util.AbstractList.constructor() arguments: []"));
+        }
+    }
+
+    @Test
+    public void missingMethodErrorMessage() throws Exception {
+        try {
+            new ReflectionInvoker<>(TestBean.class, "noSuchMethod").target(new TestBean()).invoke();
+            Assert.fail("ReflectionException expected");
+        }
+        catch (ReflectionException e) {
+            Assert.assertThat(e.getMessage(), is(" No such method org.srplib.reflection.TestBean.noSuchMethod()"));
+        }
+    }
+
+    @Test
+    public void nullTargetErrorMessage() throws Exception {
+        try {
+            ReflectionInvoker.invokeMethod(null, TestBean.class.getMethod("getParam1"));
+            Assert.fail("IllegalStateException expected");
+        }
+        catch (IllegalStateException e) {
+            Assert.assertThat(e.getMessage(), is("Argument 'target' must not be null for non-static method."));
+        }
+    }
+
     @Test
     public void testMethodWithoutParameters() throws Exception {
         TestBean testBean = new TestBean("1", "2", 3);
@@ -0,0 +1,107 @@
+package org.srplib.support;
+
+import org.srplib.contract.Argument;
+
+/**
+ * Thread safe set of objects compared by reference ({@code ==}).
+ *
+ * <p>
+ *     Set consists of fixed number of {@link IdentitySet} segments guarded by own locks. Segment is selected by high
+ *     bits of spread identity hash code, so threads adding different objects rarely contend. {@code null} is a valid
+ *     element.
+ * </p>
+ */
+public final class ConcurrentIdentitySet {
+
+    private static final int SEGMENT_BITS = 6;
+
+    private static final int SEGMENTS = 1 << SEGMENT_BITS;
+
+    private final IdentitySet[] segments = new IdentitySet[SEGMENTS];
+
+    /**
+     * Creates set with default capacity.
+     */
+    public ConcurrentIdentitySet() {
+        this(0);
+    }
+
+    /**
+     * Creates set able to hold specified number of (evenly distributed) elements without resizing.
+     *
+     * @param expectedSize int expected number of elements
+     * @throws IllegalArgumentException if expected size is negative
+     */
+    public ConcurrentIdentitySet(int expectedSize) {
+        Argument.checkTrue(expectedSize >= 0, "expectedSize must not be negative!");
+
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new IdentitySet(expectedSize / SEGMENTS);
+        }
+    }
+
+    /**
+     * Adds object to set.
+     *
+     * @param object Object an object (nullable)
+     * @return true if set didn't contain the object
+     */
+    public boolean add(Object object) {
+        IdentitySet segment = getSegment(object);
+        synchronized (segment) {
+            return segment.add(object);
+        }
+    }
+
+    /**
+     * Tests if set contains object.
+     *
+     * @param object Object an object (nullable)
+     * @return true if set contains the object
+     */
+    public boolean contains(Object object) {
+        IdentitySet segment = getSegment(object);
+        synchronized (segment) {
+            return segment.contains(object);
+        }
+    }
+
+    /**
+     * Returns number of elements. The result is not consistent snapshot if set is modified concurrently.
+     *
+     * @return int number of elements
+     */
+    public int size() {
+        int size = 0;
+        for (IdentitySet segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Removes all elements.
+     */
+    public void clear() {
+        for (IdentitySet segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    private IdentitySet getSegment(Object object) {
+        return segments[IdentitySet.hash(IdentitySet.mask(object)) >>> (Integer.SIZE - SEGMENT_BITS)];
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentIdentitySet{size=" + size() + "}";
+    }
+}
@@ -0,0 +1,146 @@
+package org.srplib.support;
+
+import java.util.Arrays;
+
+import org.srplib.contract.Argument;
+
+/**
+ * Set of object pairs compared by reference ({@code ==}). Pair (a, b) differs from pair (b, a).
+ *
+ * <p>
+ *     Used to remember pairs of already processed objects (e.g. by deep comparison) without creating key object per
+ *     pair. Implemented like {@link IdentitySet}: open addressing table storing both references of a pair in adjacent
+ *     slots. {@code null} is a valid pair component.
+ * </p>
+ *
+ * <p>Set is not thread safe.</p>
+ */
+public final class IdentityPairSet {
+
+    /**
+     * Table of pairs: first object at even index, second one at next index.
+     */
+    private Object[] table;
+
+    private int size;
+
+    /**
+     * Creates set with default capacity.
+     */
+    public IdentityPairSet() {
+        this(0);
+    }
+
+    /**
+     * Creates set able to hold specified number of pairs without resizing.
+     *
+     * @param expectedSize int expected number of pairs
+     * @throws IllegalArgumentException if expected size is negative
+     */
+    public IdentityPairSet(int expectedSize) {
+        Argument.checkTrue(expectedSize >= 0, "expectedSize must not be negative!");
+
+        this.table = new Object[IdentitySet.capacity(expectedSize) * 2];
+    }
+
+    /**
+     * Adds pair to set.
+     *
+     * @param first Object first object of pair (nullable)
+     * @param second Object second object of pair (nullable)
+     * @return true if set didn't contain the pair
+     */
+    public boolean add(Object first, Object second) {
+        Object element1 = IdentitySet.mask(first);
+        Object element2 = IdentitySet.mask(second);
+        Object[] elements = table;
+
+        int index = indexOf(elements, element1, element2);
+        if (elements[index] != null) {
+            return false;
+        }
+
+        elements[index] = element1;
+        elements[index + 1] = element2;
+        if (++size > elements.length / 4) {
+            resize();
+        }
+        return true;
+    }
+
+    /**
+     * Tests if set contains pair.
+     *
+     * @param first Object first object of pair (nullable)
+     * @param second Object second object of pair (nullable)
+     * @return true if set contains the pair
+     */
+    public boolean contains(Object first, Object second) {
+        Object[] elements = table;
+        return elements[indexOf(elements, IdentitySet.mask(first), IdentitySet.mask(second))] != null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all pairs. Capacity is retained.
+     */
+    public void clear() {
+        Arrays.fill(table, null);
+        size = 0;
+    }
+
+    /**
+     * Returns index of pair slot or index of free slot where pair should be placed.
+     */
+    private static int indexOf(Object[] elements, Object first, Object second) {
+        int mask = elements.length - 2;
+
+        int index = hash(first, second) & mask;
+        for (Object current = elements[index]; current != null; current = elements[index]) {
+            if (current == first && elements[index + 1] == second) {
+                return index;
+            }
+            index = (index + 2) & mask;
+        }
+        return index;
+    }
+
+    private void resize() {
+        Object[] old = table;
+        if (old.length == Integer.highestOneBit(Integer.MAX_VALUE)) {
+            if (size == old.length / 2 - 1) {
+                throw new IllegalStateException("Identity pair set capacity is exhausted.");
+            }
+            return;
+        }
+
+        Object[] elements = new Object[old.length * 2];
+        for (int i = 0; i < old.length; i += 2) {
+            if (old[i] != null) {
+                int index = indexOf(elements, old[i], old[i + 1]);
+                elements[index] = old[i];
+                elements[index + 1] = old[i + 1];
+            }
+        }
+        table = elements;
+    }
+
+    /**
+     * Returns even hash code of pair.
+     */
+    private static int hash(Object first, Object second) {
+        return (IdentitySet.hash(first) * 31 + IdentitySet.hash(second)) << 1;
+    }
+
+    @Override
+    public String toString() {
+        return "IdentityPairSet{size=" + size + "}";
+    }
+}
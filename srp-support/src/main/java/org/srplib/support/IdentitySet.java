@@ -0,0 +1,162 @@
+package org.srplib.support;
+
+import java.util.Arrays;
+
+import org.srplib.contract.Argument;
+
+/**
+ * Set of objects compared by reference ({@code ==}) rather than by {@code equals}.
+ *
+ * <p>
+ *     Unlike set of {@link System#identityHashCode(Object)} values the set never confuses distinct objects with equal
+ *     identity hash codes and doesn't box hash codes. Implemented as open addressing (linear probing) table of
+ *     references which doubles when half full. {@code null} is a valid element.
+ * </p>
+ *
+ * <p>Set is not thread safe.</p>
+ */
+public final class IdentitySet {
+
+    private static final int MINIMUM_CAPACITY = 16;
+
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    /**
+     * Replacement of {@code null} element in table.
+     */
+    private static final Object NULL = new Object();
+
+    private Object[] table;
+
+    private int size;
+
+    /**
+     * Creates set with default capacity.
+     */
+    public IdentitySet() {
+        this(MINIMUM_CAPACITY / 2);
+    }
+
+    /**
+     * Creates set able to hold specified number of elements without resizing.
+     *
+     * @param expectedSize int expected number of elements
+     * @throws IllegalArgumentException if expected size is negative
+     */
+    public IdentitySet(int expectedSize) {
+        Argument.checkTrue(expectedSize >= 0, "expectedSize must not be negative!");
+
+        this.table = new Object[capacity(expectedSize)];
+    }
+
+    /**
+     * Adds object to set.
+     *
+     * @param object Object an object (nullable)
+     * @return true if set didn't contain the object
+     */
+    public boolean add(Object object) {
+        Object element = mask(object);
+        Object[] elements = table;
+        int mask = elements.length - 1;
+
+        int index = hash(element) & mask;
+        for (Object current = elements[index]; current != null; current = elements[index]) {
+            if (current == element) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+
+        elements[index] = element;
+        if (++size > elements.length / 2) {
+            resize();
+        }
+        return true;
+    }
+
+    /**
+     * Tests if set contains object.
+     *
+     * @param object Object an object (nullable)
+     * @return true if set contains the object
+     */
+    public boolean contains(Object object) {
+        Object element = mask(object);
+        Object[] elements = table;
+        int mask = elements.length - 1;
+
+        int index = hash(element) & mask;
+        for (Object current = elements[index]; current != null; current = elements[index]) {
+            if (current == element) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all elements. Capacity is retained.
+     */
+    public void clear() {
+        Arrays.fill(table, null);
+        size = 0;
+    }
+
+    private void resize() {
+        Object[] old = table;
+        if (old.length == MAXIMUM_CAPACITY) {
+            if (size == MAXIMUM_CAPACITY - 1) {
+                throw new IllegalStateException("Identity set capacity is exhausted.");
+            }
+            return;
+        }
+
+        Object[] elements = new Object[old.length * 2];
+        int mask = elements.length - 1;
+        for (Object element : old) {
+            if (element != null) {
+                int index = hash(element) & mask;
+                while (elements[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                elements[index] = element;
+            }
+        }
+        table = elements;
+    }
+
+    static int capacity(int expectedSize) {
+        int capacity = MINIMUM_CAPACITY;
+        while (capacity < MAXIMUM_CAPACITY && capacity / 2 < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Spreads bits of identity hash code, so linear probing doesn't degrade on sequential hash codes.
+     */
+    static int hash(Object object) {
+        int hash = System.identityHashCode(object) * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    static Object mask(Object object) {
+        return object == null ? NULL : object;
+    }
+
+    @Override
+    public String toString() {
+        return "IdentitySet{size=" + size + "}";
+    }
+}
@@ -0,0 +1,127 @@
+package org.srplib.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test for {@link IdentitySet}, {@link IdentityPairSet} and {@link ConcurrentIdentitySet}.
+ */
+public class IdentitySetTest {
+
+    @Test
+    public void equalObjectsAreDistinct() throws Exception {
+        IdentitySet set = new IdentitySet();
+        String value1 = new String("value");
+        String value2 = new String("value");
+
+        assertThat(set.add(value1), is(true));
+        assertThat(set.add(value2), is(true));
+        assertThat(set.add(value1), is(false));
+        assertThat(set.contains(value2), is(true));
+        assertThat(set.contains(new String("value")), is(false));
+        assertThat(set.size(), is(2));
+    }
+
+    @Test
+    public void nullElement() throws Exception {
+        IdentitySet set = new IdentitySet();
+
+        assertThat(set.contains(null), is(false));
+        assertThat(set.add(null), is(true));
+        assertThat(set.add(null), is(false));
+        assertThat(set.contains(null), is(true));
+    }
+
+    @Test
+    public void growth() throws Exception {
+        IdentitySet set = new IdentitySet(0);
+        List<Object> objects = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            Object object = new Object();
+            objects.add(object);
+            assertThat(set.add(object), is(true));
+        }
+
+        for (Object object : objects) {
+            assertThat(set.contains(object), is(true));
+        }
+        assertThat(set.size(), is(10000));
+
+        set.clear();
+        assertThat(set.isEmpty(), is(true));
+        assertThat(set.contains(objects.get(0)), is(false));
+    }
+
+    @Test
+    public void pairs() throws Exception {
+        IdentityPairSet set = new IdentityPairSet();
+        Object a = new Object();
+        Object b = new Object();
+
+        assertThat(set.add(a, b), is(true));
+        assertThat(set.add(a, b), is(false));
+        assertThat(set.contains(b, a), is(false));
+        assertThat(set.add(b, a), is(true));
+        assertThat(set.add(a, null), is(true));
+        assertThat(set.contains(a, null), is(true));
+        assertThat(set.size(), is(3));
+    }
+
+    @Test
+    public void pairsGrowth() throws Exception {
+        IdentityPairSet set = new IdentityPairSet();
+        List<Object> objects = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            objects.add(new Object());
+        }
+        for (int i = 1; i < objects.size(); i++) {
+            assertThat(set.add(objects.get(i - 1), objects.get(i)), is(true));
+        }
+
+        for (int i = 1; i < objects.size(); i++) {
+            assertThat(set.contains(objects.get(i - 1), objects.get(i)), is(true));
+            assertThat(set.contains(objects.get(i), objects.get(i - 1)), is(false));
+        }
+        assertThat(set.size(), is(4999));
+    }
+
+    @Test
+    public void concurrentAdd() throws Exception {
+        final ConcurrentIdentitySet set = new ConcurrentIdentitySet();
+        final List<Object> objects = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            objects.add(new Object());
+        }
+
+        final AtomicInteger added = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (Object object : objects) {
+                        if (set.add(object)) {
+                            added.incrementAndGet();
+                        }
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(added.get(), is(objects.size()));
+        assertThat(set.size(), is(objects.size()));
+        assertThat(set.contains(objects.get(100)), is(true));
+        assertThat(set.contains(new Object()), is(false));
+    }
+
+}